@@ -0,0 +1,80 @@
+package com.website.bitsa.benchmark;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.website.bitsa.util.Compression;
+import com.website.bitsa.util.Compression.Encoding;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.SimpleDateFormat;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CPU cost of compressing a post list page per codec and level, used to pick compression.brotli.quality
+ * and compression.gzip.level; the bytes saved are printed once per trial. precompressedHit is what
+ * CompressionFilter pays instead when the same payload was compressed before (hash + cache lookup).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CompressionBenchmark {
+
+    @Param({"20", "100"})
+    private int size;
+
+    @Param({"gzip:1", "gzip:6", "gzip:9", "br:1", "br:4", "br:6", "br:11"})
+    private String codec;
+
+    private Encoding encoding;
+    private int level;
+    private byte[] json;
+    private final Map<String, byte[]> compressedResponses = new ConcurrentHashMap<>();
+
+    @Setup
+    public void setUp() throws Exception {
+        String[] parts = codec.split(":");
+        encoding = parts[0].equals("br") ? Encoding.BROTLI : Encoding.GZIP;
+        level = Integer.parseInt(parts[1]);
+        if (encoding == Encoding.BROTLI && !Compression.BROTLI_AVAILABLE) {
+            throw new IllegalStateException("Brotli native library not available on this platform");
+        }
+
+        // Same settings as the application's ObjectMapper (see ResponseSerializationBenchmark)
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                .dateFormat(new SimpleDateFormat("yyyy-MM-dd HH:mm:ss"))
+                .timeZone(TimeZone.getTimeZone("Africa/Nairobi"))
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .build();
+        json = objectMapper.writeValueAsBytes(
+                Fixtures.posts(size).stream().map(ResponseSerializationBenchmark::toSummary).toList());
+
+        byte[] compressed = Compression.compress(encoding, json, level);
+        compressedResponses.put(key(json), compressed);
+        System.out.printf("%n%s, %d posts: %d -> %d bytes (%.1f%% saved)%n", codec, size, json.length,
+                compressed.length, 100.0 * (json.length - compressed.length) / json.length);
+    }
+
+    @Benchmark
+    public byte[] compress() {
+        return Compression.compress(encoding, json, level);
+    }
+
+    @Benchmark
+    public byte[] precompressedHit() throws NoSuchAlgorithmException {
+        return compressedResponses.get(key(json));
+    }
+
+    private String key(byte[] body) throws NoSuchAlgorithmException {
+        return encoding.token() + ":" + HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+    }
+}
@@ -0,0 +1,36 @@
+package com.website.bitsa.benchmark;
+
+import com.website.bitsa.model.Event;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registration-window check, evaluated for every event in every list response.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventBenchmark {
+
+    private static final int EVENTS = 256;
+
+    private List<Event> events;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        events = Fixtures.events(EVENTS);
+    }
+
+    @Benchmark
+    public boolean isRegistrationOpen() {
+        Event event = events.get(next);
+        next = (next + 1) % EVENTS;
+        return event.isRegistrationOpen();
+    }
+}
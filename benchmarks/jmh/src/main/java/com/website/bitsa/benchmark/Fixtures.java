@@ -0,0 +1,129 @@
+package com.website.bitsa.benchmark;
+
+import com.website.bitsa.model.*;
+import com.website.bitsa.util.PostRenderer;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Benchmark data shaped like the live site: posts of a few hundred to ~2,000 words of HTML,
+ * 60-90 character titles with punctuation, 3-5 tags, and events with capacity and
+ * registration windows set. A fixed seed keeps runs comparable.
+ */
+public class Fixtures {
+
+    private static final String[] WORDS = {
+            "spring", "boot", "java", "react", "hackathon", "workshop", "students", "cloud", "database",
+            "security", "deploy", "docker", "kubernetes", "API", "design", "testing", "frontend", "backend",
+            "the", "a", "and", "of", "to", "in", "with", "for", "on", "our", "we", "you", "is", "are"
+    };
+
+    private static final String[] TAGS = {
+            "Java", "Spring Boot", "React", "DevOps", "Cloud", "Security", "Careers", "Events", "AI", "Python"
+    };
+
+    private static final User AUTHOR = User.builder().id(1L).name("BITSA Admin").email("admin@bitsa.com").build();
+    private static final Category CATEGORY = Category.builder().id(1L).name("Tutorials").slug("tutorials").build();
+    private static final EventType EVENT_TYPE = EventType.builder().id(1L).name("Workshop").build();
+
+    public static List<Post> posts(int count) {
+        Random random = new Random(42);
+        List<Post> posts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            posts.add(post(random, i));
+        }
+        return posts;
+    }
+
+    public static Post post(Random random, long id) {
+        LocalDateTime publishedAt = LocalDateTime.of(2025, 1, 1, 9, 0).plusHours(id * 7);
+        Post post = Post.builder()
+                .id(id)
+                .title(title(random))
+                .content(content(random, 300 + random.nextInt(1700)))
+                .excerpt(sentence(random, 30))
+                .author(AUTHOR)
+                .category(CATEGORY)
+                .featuredImage("/uploads/posts/" + id + ".jpg")
+                .tags(tags(random))
+                .isPublished(true)
+                .isFeatured(id % 10 == 0)
+                .publishedAt(publishedAt)
+                .viewCount(random.nextInt(5000))
+                .likeCount(random.nextInt(200))
+                .commentCount(random.nextInt(40))
+                .build();
+        post.setCreatedAt(publishedAt.minusDays(1));
+        PostRenderer.render(post);
+        return post;
+    }
+
+    public static List<Event> events(int count) {
+        Random random = new Random(7);
+        List<Event> events = new ArrayList<>(count);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < count; i++) {
+            int capacity = 30 + random.nextInt(170);
+            LocalDateTime start = now.plusDays(1 + random.nextInt(60));
+            Event event = Event.builder()
+                    .id((long) i)
+                    .title(title(random))
+                    .description(content(random, 80 + random.nextInt(250)))
+                    .dateTime(start)
+                    .location("Lab " + (1 + random.nextInt(6)) + ", Main Campus")
+                    .slug("event-" + i)
+                    .eventType(EVENT_TYPE)
+                    .creator(AUTHOR)
+                    .maxAttendees(capacity)
+                    .currentAttendees(random.nextInt(capacity + 1))
+                    .waitlistEnabled(random.nextBoolean())
+                    .registrationOpensAt(now.minusDays(7))
+                    .registrationClosesAt(start.minusHours(2))
+                    .isPublished(true)
+                    .featuredImage("/uploads/events/" + i + ".jpg")
+                    .build();
+            event.setCreatedAt(now.minusDays(10));
+            events.add(event);
+        }
+        return events;
+    }
+
+    private static String title(Random random) {
+        // Punctuation and digits exercise every slug regex
+        return sentence(random, 8 + random.nextInt(5)) + ": Part " + (1 + random.nextInt(3)) + " (2025 Edition!)";
+    }
+
+    private static String tags(Random random) {
+        int count = 3 + random.nextInt(3);
+        List<String> picked = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            picked.add(TAGS[(i * 3 + random.nextInt(TAGS.length)) % TAGS.length]);
+        }
+        return String.join(",", picked);
+    }
+
+    private static String content(Random random, int words) {
+        StringBuilder html = new StringBuilder(words * 8);
+        int written = 0;
+        while (written < words) {
+            int paragraph = Math.min(40 + random.nextInt(60), words - written);
+            html.append("<p>").append(sentence(random, paragraph)).append("</p>\n");
+            written += paragraph;
+        }
+        return html.toString();
+    }
+
+    private static String sentence(Random random, int words) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            text.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return Character.toUpperCase(text.charAt(0)) + text.substring(1) + ".";
+    }
+}
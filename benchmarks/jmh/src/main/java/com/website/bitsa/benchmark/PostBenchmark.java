@@ -0,0 +1,57 @@
+package com.website.bitsa.benchmark;
+
+import com.website.bitsa.model.Post;
+import com.website.bitsa.util.PostRenderer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-post write-time rendering (full render vs. the unchanged-hash short cut) and tag splitting on every response.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PostBenchmark {
+
+    private static final int POSTS = 256;
+
+    private List<Post> posts;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        posts = Fixtures.posts(POSTS);
+    }
+
+    private Post nextPost() {
+        Post post = posts.get(next);
+        next = (next + 1) % POSTS;
+        return post;
+    }
+
+    @Benchmark
+    public void renderChangedContent(Blackhole blackhole) {
+        Post post = nextPost();
+        // Forget the previous fingerprint so the full render runs
+        post.setContentHash(null);
+        blackhole.consume(PostRenderer.render(post));
+        blackhole.consume(post.getContentHtml());
+    }
+
+    @Benchmark
+    public boolean renderUnchangedContent() {
+        // Fixtures renders every post once; saves that only touch counters stop at the hash check
+        return PostRenderer.render(nextPost());
+    }
+
+    @Benchmark
+    public String[] getTagsArray() {
+        return nextPost().getTagsArray();
+    }
+}
@@ -0,0 +1,104 @@
+package com.website.bitsa.benchmark;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.website.bitsa.dto.response.EventResponse;
+import com.website.bitsa.dto.response.PostResponse;
+import com.website.bitsa.dto.response.PostSummaryResponse;
+import com.website.bitsa.model.Event;
+import com.website.bitsa.model.Post;
+import com.website.bitsa.service.BlogServiceBenchmark;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.text.SimpleDateFormat;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON encoding of list responses with the application's Jackson settings.
+ * 20 matches a public page; 100 is the admin list of a busy term.
+ * postList is the full response (a single post's shape); postSummaryList is what list endpoints send.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseSerializationBenchmark {
+
+    @Param({"20", "100"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<PostResponse> posts;
+    private List<PostSummaryResponse> postSummaries;
+    private List<EventResponse> events;
+
+    @Setup
+    public void setUp() {
+        // Mirrors the spring.jackson.* entries in application.properties
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .dateFormat(new SimpleDateFormat("yyyy-MM-dd HH:mm:ss"))
+                .timeZone(TimeZone.getTimeZone("Africa/Nairobi"))
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .build();
+
+        List<Post> source = Fixtures.posts(size);
+        posts = source.stream().map(BlogServiceBenchmark::toResponse).toList();
+        postSummaries = source.stream().map(ResponseSerializationBenchmark::toSummary).toList();
+        events = Fixtures.events(size).stream().map(ResponseSerializationBenchmark::toResponse).toList();
+    }
+
+    @Benchmark
+    public byte[] postList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(posts);
+    }
+
+    @Benchmark
+    public byte[] postSummaryList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(postSummaries);
+    }
+
+    @Benchmark
+    public byte[] eventList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(events);
+    }
+
+    static PostSummaryResponse toSummary(Post post) {
+        // Same columns PostRepository.SUMMARY selects
+        return new PostSummaryResponse(post.getId(), post.getTitle(), post.getRenderedExcerpt(), post.getSlug(),
+                post.getAuthor().getName(), post.getCategory().getName(), post.getFeaturedImage(),
+                post.getIsPublished(), post.getIsFeatured(), post.getViewCount(), post.getLikeCount(),
+                post.getCommentCount(), post.getReadingTimeMinutes(), post.getWordCount(), post.getTags(),
+                post.getPublishedAt(), post.getCreatedAt());
+    }
+
+    private static EventResponse toResponse(Event event) {
+        // Same fields EventService sends
+        return EventResponse.builder()
+                .id(event.getId())
+                .title(event.getTitle())
+                .description(event.getDescription())
+                .dateTime(event.getDateTime())
+                .location(event.getLocation())
+                .eventTypeName(event.getEventType().getName())
+                .creatorName(event.getCreator().getName())
+                .maxAttendees(event.getMaxAttendees())
+                .currentAttendees(event.getCurrentAttendees())
+                .availableSeats(event.getAvailableSeats())
+                .featuredImage(event.getFeaturedImage())
+                .isPublished(event.getIsPublished())
+                .isFeatured(event.getIsFeatured())
+                .isFull(event.isFull())
+                .isRegistrationOpen(event.isRegistrationOpen())
+                .waitlistEnabled(event.getWaitlistEnabled())
+                .isCancelled(event.getIsCancelled())
+                .slug(event.getSlug())
+                .createdAt(event.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,56 @@
+package com.website.bitsa.service;
+
+import com.website.bitsa.benchmark.Fixtures;
+import com.website.bitsa.dto.response.PostResponse;
+import com.website.bitsa.model.Post;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Constructor;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-to-response mapping for post lists. Lives in the service package to reach the
+ * package-private converter; the service is built without collaborators, which the mapping never touches.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BlogServiceBenchmark {
+
+    private static final BlogService BLOG_SERVICE = newBlogService();
+
+    @Param({"20", "100"})
+    private int size;
+
+    private List<Post> posts;
+
+    @Setup
+    public void setUp() {
+        posts = Fixtures.posts(size);
+    }
+
+    @Benchmark
+    public void convertToPostResponse(Blackhole blackhole) {
+        for (Post post : posts) {
+            blackhole.consume(BLOG_SERVICE.convertToPostResponse(post));
+        }
+    }
+
+    public static PostResponse toResponse(Post post) {
+        return BLOG_SERVICE.convertToPostResponse(post);
+    }
+
+    private static BlogService newBlogService() {
+        try {
+            Constructor<?> constructor = BlogService.class.getConstructors()[0];
+            return (BlogService) constructor.newInstance(new Object[constructor.getParameterCount()]);
+        } catch (ReflectiveOperationException ex) {
+            throw new IllegalStateException("Cannot create BlogService", ex);
+        }
+    }
+}
@@ -6,12 +6,14 @@ import com.website.bitsa.model.*;
 import com.website.bitsa.repository.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
 
 @Component
+@Profile("!loadtest")  // The load-test seeder extends this one
 @RequiredArgsConstructor
 public class DataSeeder implements CommandLineRunner {
 
@@ -0,0 +1,58 @@
+package com.website.bitsa.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Weigher;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-process caches for read-mostly public data.
+ * Each cache gets its own Caffeine spec from "cache.specs.<name>" (size bound + TTL);
+ * stats are recorded so actuator publishes cache.gets{result=hit|miss} per cache.
+ * Caches with a weigher below are bounded in bytes (maximumWeight) rather than entries.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String CATEGORIES = "categories";
+    public static final String EVENT_TYPES = "eventTypes";
+    public static final String FEATURED_POSTS = "featuredPosts";
+    public static final String FEATURED_EVENTS = "featuredEvents";
+    public static final String GALLERY_CATEGORIES = "galleryCategories";
+    public static final String TAG_CLOUD = "tagCloud";
+    public static final String USERS = "users";
+    public static final String COMPRESSED_RESPONSES = "compressedResponses";
+
+    private static final List<String> CACHE_NAMES =
+            List.of(CATEGORIES, EVENT_TYPES, FEATURED_POSTS, FEATURED_EVENTS, GALLERY_CATEGORIES, TAG_CLOUD, USERS,
+                    COMPRESSED_RESPONSES);
+
+    private static final String DEFAULT_SPEC = "maximumSize=100,expireAfterWrite=5m";
+
+    // Response bodies range from a few hundred bytes to megabytes, so count bytes, not entries
+    private static final Map<String, Weigher<Object, Object>> WEIGHERS =
+            Map.of(COMPRESSED_RESPONSES, (key, value) -> ((byte[]) value).length);
+
+    @Bean
+    public CacheManager cacheManager(Environment environment) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setAllowNullValues(false);
+        for (String name : CACHE_NAMES) {
+            String spec = environment.getProperty("cache.specs." + name, DEFAULT_SPEC);
+            Caffeine<Object, Object> builder = Caffeine.from(spec).recordStats();
+            if (WEIGHERS.containsKey(name)) {
+                builder.weigher(WEIGHERS.get(name));
+            }
+            cacheManager.registerCustomCache(name, builder.build());
+        }
+        return cacheManager;
+    }
+}
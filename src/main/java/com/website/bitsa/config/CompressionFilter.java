@@ -0,0 +1,181 @@
+package com.website.bitsa.config;
+
+import com.website.bitsa.util.Compression;
+import com.website.bitsa.util.Compression.Encoding;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+/**
+ * Brotli/gzip compression of JSON API responses (replaces Tomcat's server.compression).
+ * Bodies under compression.min-response-size go out as they are. Compressed bodies are kept in the
+ * compressedResponses cache keyed by encoding and SHA-256 of the uncompressed bytes, so identical
+ * payloads (featured posts, categories, event types, unchanged list pages) are compressed once.
+ * The ETag names the encoding ("v1-abc-br"); the suffix is stripped from If-None-Match before the
+ * controllers compare it.
+ */
+@Component
+public class CompressionFilter extends OncePerRequestFilter {
+
+    private static final Pattern ETAG_ENCODING_SUFFIX = Pattern.compile("-(br|gzip)\"");
+
+    private final Cache compressedResponses;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int minResponseSize;
+    private final boolean brotliEnabled;
+    private final int brotliQuality;
+    private final int gzipLevel;
+
+    public CompressionFilter(CacheManager cacheManager,
+                             MeterRegistry meterRegistry,
+                             @Value("${compression.enabled:true}") boolean enabled,
+                             @Value("${compression.min-response-size:1024}") int minResponseSize,
+                             @Value("${compression.brotli.enabled:true}") boolean brotliEnabled,
+                             @Value("${compression.brotli.quality:4}") int brotliQuality,
+                             @Value("${compression.gzip.level:6}") int gzipLevel) {
+        this.compressedResponses = cacheManager.getCache(CacheConfig.COMPRESSED_RESPONSES);
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.minResponseSize = minResponseSize;
+        this.brotliEnabled = brotliEnabled;
+        this.brotliQuality = brotliQuality;
+        this.gzipLevel = gzipLevel;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        return !enabled
+                || !HttpMethod.GET.matches(request.getMethod())
+                || !request.getRequestURI().startsWith("/api/")
+                // Server-sent events are written after this filter returns and must not be buffered
+                || (accept != null && accept.contains(MediaType.TEXT_EVENT_STREAM_VALUE));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        Encoding encoding = Compression.negotiate(request.getHeader(HttpHeaders.ACCEPT_ENCODING), brotliEnabled);
+        if (encoding == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        chain.doFilter(new EncodedETagRequest(request), wrapper);
+
+        // Same suffix on 200 and 304, so a revalidated copy keeps the ETag it was stored under
+        String etag = wrapper.getHeader(HttpHeaders.ETAG);
+        if (etag != null && etag.endsWith("\"") && !etag.startsWith("W/")) {
+            wrapper.setHeader(HttpHeaders.ETAG, etag.substring(0, etag.length() - 1) + "-" + encoding.token() + "\"");
+        }
+
+        byte[] body = wrapper.getContentAsByteArray();
+        if (!isCompressible(wrapper, body)) {
+            wrapper.copyBodyToResponse();
+            return;
+        }
+
+        byte[] compressed = compressed(encoding, body);
+        if (compressed.length >= body.length) {
+            wrapper.copyBodyToResponse();
+            return;
+        }
+        meterRegistry.counter("bitsa.http.compression.bytes", "encoding", encoding.token(), "stage", "in")
+                .increment(body.length);
+        meterRegistry.counter("bitsa.http.compression.bytes", "encoding", encoding.token(), "stage", "out")
+                .increment(compressed.length);
+
+        response.setHeader(HttpHeaders.CONTENT_ENCODING, encoding.token());
+        response.setContentLength(compressed.length);
+        response.getOutputStream().write(compressed);
+    }
+
+    private boolean isCompressible(HttpServletResponse response, byte[] body) {
+        String contentType = response.getContentType();
+        return response.getStatus() == HttpServletResponse.SC_OK
+                && body.length >= minResponseSize
+                && response.getHeader(HttpHeaders.CONTENT_ENCODING) == null
+                && contentType != null
+                && (contentType.startsWith(MediaType.APPLICATION_JSON_VALUE) || contentType.contains("+json"));
+    }
+
+    private byte[] compressed(Encoding encoding, byte[] body) {
+        String key = encoding.token() + ":" + sha256(body);
+        byte[] cached = compressedResponses.get(key, byte[].class);
+        meterRegistry.counter("bitsa.http.compression", "encoding", encoding.token(),
+                "result", cached != null ? "precompressed" : "compressed").increment();
+        if (cached != null) {
+            return cached;
+        }
+
+        byte[] compressed = Compression.compress(encoding, body,
+                encoding == Encoding.BROTLI ? brotliQuality : gzipLevel);
+        compressedResponses.put(key, compressed);
+        return compressed;
+    }
+
+    private static String sha256(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    /**
+     * If-None-Match as the controllers issued it: without the encoding suffix this filter appended
+     */
+    private static class EncodedETagRequest extends HttpServletRequestWrapper {
+
+        EncodedETagRequest(HttpServletRequest request) {
+            super(request);
+        }
+
+        @Override
+        public String getHeader(String name) {
+            String value = super.getHeader(name);
+            return isIfNoneMatch(name) && value != null ? strip(value) : value;
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            if (!isIfNoneMatch(name)) {
+                return super.getHeaders(name);
+            }
+            return Collections.enumeration(Collections.list(super.getHeaders(name)).stream()
+                    .map(EncodedETagRequest::strip)
+                    .toList());
+        }
+
+        private static boolean isIfNoneMatch(String name) {
+            return HttpHeaders.IF_NONE_MATCH.equalsIgnoreCase(name);
+        }
+
+        private static String strip(String value) {
+            return ETAG_ENCODING_SUFFIX.matcher(value).replaceAll("\"");
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.website.bitsa.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * Token buckets in a size-bounded Caffeine map. Each bucket is an immutable (tokens, timestamp)
+ * pair swapped with compare-and-set, so concurrent requests for one key never block each other.
+ * A bucket idle for longer than its refill period would be full again, so it is simply dropped;
+ * under a flood of distinct keys the least recently used buckets are evicted first.
+ */
+public class InMemoryRateLimitBackend implements RateLimitBackend {
+
+    private final Cache<String, BucketRef> buckets;
+    private final LongSupplier nanoTime;
+
+    public InMemoryRateLimitBackend(long maxBuckets) {
+        this(maxBuckets, System::nanoTime);
+    }
+
+    InMemoryRateLimitBackend(long maxBuckets, LongSupplier nanoTime) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxBuckets)
+                .expireAfter(new IdleForRefillPeriod())
+                .ticker(nanoTime::getAsLong)
+                .build();
+        this.nanoTime = nanoTime;
+    }
+
+    @Override
+    public Result tryConsume(String key, RateLimit limit) {
+        long now = nanoTime.getAsLong();
+        BucketRef bucket = buckets.get(key, k -> new BucketRef(new Bucket(limit.capacity(), now), limit.period()));
+        while (true) {
+            Bucket current = bucket.get();
+            double tokens = current.tokensAt(now, limit);
+            if (tokens < 1) {
+                return rejected(tokens, limit);
+            }
+            if (bucket.compareAndSet(current, new Bucket(tokens - 1, Math.max(now, current.updatedAt())))) {
+                return Result.ALLOWED;
+            }
+        }
+    }
+
+    @Override
+    public Result peek(String key, RateLimit limit) {
+        BucketRef bucket = buckets.getIfPresent(key);
+        if (bucket == null) {
+            return Result.ALLOWED;
+        }
+        double tokens = bucket.get().tokensAt(nanoTime.getAsLong(), limit);
+        return tokens < 1 ? rejected(tokens, limit) : Result.ALLOWED;
+    }
+
+    @Override
+    public long size() {
+        return buckets.estimatedSize();
+    }
+
+    private static Result rejected(double tokens, RateLimit limit) {
+        return Result.rejected(Duration.ofNanos((long) Math.ceil((1 - tokens) / limit.refillPerNano())));
+    }
+
+    private record Bucket(double tokens, long updatedAt) {
+
+        double tokensAt(long now, RateLimit limit) {
+            return Math.min(limit.capacity(), tokens + Math.max(0, now - updatedAt) * limit.refillPerNano());
+        }
+    }
+
+    private static final class BucketRef extends AtomicReference<Bucket> {
+
+        private final long refillPeriodNanos;
+
+        BucketRef(Bucket bucket, Duration refillPeriod) {
+            super(bucket);
+            this.refillPeriodNanos = refillPeriod.toNanos();
+        }
+    }
+
+    private static final class IdleForRefillPeriod implements Expiry<String, BucketRef> {
+
+        @Override
+        public long expireAfterCreate(String key, BucketRef bucket, long currentTime) {
+            return bucket.refillPeriodNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, BucketRef bucket, long currentTime, long currentDuration) {
+            return bucket.refillPeriodNanos;
+        }
+
+        @Override
+        public long expireAfterRead(String key, BucketRef bucket, long currentTime, long currentDuration) {
+            return bucket.refillPeriodNanos;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.website.bitsa.config;
+
+import com.website.bitsa.service.AuthenticatedUser;
+import com.website.bitsa.service.JwtService;
+import com.website.bitsa.service.TokenRevocationList;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Authenticates "Authorization: Bearer" access tokens from their signed claims alone - no session,
+ * no database lookup - so any node can serve any request.
+ * The dashboard stream alone also accepts a short-lived stream token in the "token" query parameter,
+ * since EventSource cannot set headers; stream tokens are rejected everywhere else.
+ * A missing, invalid, expired or revoked token leaves the request anonymous; the security rules decide the 401.
+ * Registered in SecurityConfig only (not a @Component, so it stays out of the servlet filter chain).
+ */
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    public static final String STREAM_PATH = "/api/admin/dashboard/stream";
+    public static final String STREAM_TOKEN_PARAMETER = "token";
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtService jwtService;
+    private final TokenRevocationList revocationList;
+
+    public JwtAuthenticationFilter(JwtService jwtService, TokenRevocationList revocationList) {
+        this.jwtService = jwtService;
+        this.revocationList = revocationList;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        bearerToken(request)
+                .flatMap(token -> jwtService.parse(token, JwtService.TokenType.ACCESS))
+                .or(() -> streamToken(request).flatMap(token -> jwtService.parse(token, JwtService.TokenType.STREAM)))
+                .filter(claims -> !revocationList.isRevoked(claims))
+                .ifPresent(claims -> {
+                    AuthenticatedUser principal = claims.toPrincipal();
+                    SecurityContext context = SecurityContextHolder.createEmptyContext();
+                    context.setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                            principal, null, principal.getAuthorities()));
+                    SecurityContextHolder.setContext(context);
+                });
+        chain.doFilter(request, response);
+    }
+
+    public static Optional<String> bearerToken(HttpServletRequest request) {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.startsWith(BEARER_PREFIX)) {
+            return Optional.empty();
+        }
+        return Optional.of(header.substring(BEARER_PREFIX.length()).trim());
+    }
+
+    private static Optional<String> streamToken(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (!HttpMethod.GET.matches(request.getMethod()) || !STREAM_PATH.equals(path)) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(request.getParameter(STREAM_TOKEN_PARAMETER)).filter(token -> !token.isBlank());
+    }
+}
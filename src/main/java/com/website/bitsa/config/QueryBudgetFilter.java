@@ -0,0 +1,72 @@
+package com.website.bitsa.config;
+
+import com.website.bitsa.exception.QueryBudgetExceededException;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Per-request SQL statement budget.
+ * Counts the statements each request prepares (see StatementCounter) into
+ * bitsa.db.statements{uri}; a request over db.query-budget.max-statements is logged with its
+ * endpoint and most repeated statement, and fails outright when db.query-budget.fail-on-exceed is set.
+ */
+@Slf4j
+@Component
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final int maxStatements;
+    private final boolean failOnExceed;
+
+    public QueryBudgetFilter(MeterRegistry meterRegistry,
+                             @Value("${db.query-budget.max-statements:25}") int maxStatements,
+                             @Value("${db.query-budget.fail-on-exceed:false}") boolean failOnExceed) {
+        this.meterRegistry = meterRegistry;
+        this.maxStatements = maxStatements;
+        this.failOnExceed = failOnExceed;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        try (StatementCounter.Scope scope = StatementCounter.begin()) {
+            chain.doFilter(request, response);
+            check(request, scope);
+        }
+    }
+
+    private void check(HttpServletRequest request, StatementCounter.Scope scope) {
+        String uri = uriTemplate(request);
+        int statements = scope.getStatements();
+        meterRegistry.summary("bitsa.db.statements", "uri", uri).record(statements);
+        if (statements <= maxStatements) {
+            return;
+        }
+
+        meterRegistry.counter("bitsa.db.query_budget.exceeded", "uri", uri).increment();
+        Map.Entry<String, Integer> repeated = scope.mostRepeated().orElseThrow();
+        String message = String.format("%s %s ran %d SQL statements (budget %d); most repeated %dx: %s",
+                request.getMethod(), uri, statements, maxStatements, repeated.getValue(), repeated.getKey());
+        log.warn(message);
+        if (failOnExceed) {
+            throw new QueryBudgetExceededException(message);
+        }
+    }
+
+    // Route template rather than the raw path, so ids never explode the metric's tag values
+    private String uriTemplate(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
@@ -0,0 +1,33 @@
+package com.website.bitsa.config;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.time.Duration;
+
+/**
+ * Token-bucket limit: bursts of up to {@code capacity} requests, refilled evenly over {@code period}.
+ * Written in properties as "capacity/period", e.g. "5/1m" or "20/30s".
+ */
+public record RateLimit(int capacity, Duration period) {
+
+    public RateLimit {
+        if (capacity < 1 || period.isZero() || period.isNegative()) {
+            throw new IllegalArgumentException("Rate limit needs a positive capacity and period");
+        }
+    }
+
+    public static RateLimit parse(String spec) {
+        String[] parts = spec.trim().split("/", 2);
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Rate limit must look like <capacity>/<period>, got: " + spec);
+        }
+        return new RateLimit(Integer.parseInt(parts[0].trim()), DurationStyle.detectAndParse(parts[1].trim()));
+    }
+
+    /**
+     * Tokens regained per nanosecond
+     */
+    public double refillPerNano() {
+        return (double) capacity / period.toNanos();
+    }
+}
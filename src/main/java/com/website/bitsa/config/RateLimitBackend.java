@@ -0,0 +1,35 @@
+package com.website.bitsa.config;
+
+import java.time.Duration;
+
+/**
+ * Where the token buckets live, chosen by "rate-limit.backend" (see RateLimitConfig). The default
+ * keeps them in this JVM (InMemoryRateLimitBackend); a multi-node deployment can add a backend
+ * on a shared store so every node draws from the same buckets.
+ */
+public interface RateLimitBackend {
+
+    /**
+     * Take one token from the bucket under {@code key}, creating it full if it does not exist
+     */
+    Result tryConsume(String key, RateLimit limit);
+
+    /**
+     * Whether the bucket under {@code key} has a token left, without taking it
+     */
+    Result peek(String key, RateLimit limit);
+
+    /**
+     * Buckets currently held (for the bitsa.ratelimit.buckets gauge); -1 if unknown
+     */
+    long size();
+
+    record Result(boolean allowed, Duration retryAfter) {
+
+        public static final Result ALLOWED = new Result(true, Duration.ZERO);
+
+        public static Result rejected(Duration retryAfter) {
+            return new Result(false, retryAfter);
+        }
+    }
+}
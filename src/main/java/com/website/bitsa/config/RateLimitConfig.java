@@ -0,0 +1,20 @@
+package com.website.bitsa.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * The RateLimitBackend named by "rate-limit.backend"; "memory" (the default) keeps the buckets in this JVM.
+ * Another backend registers its bean under its own value of the property.
+ */
+@Configuration
+public class RateLimitConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "rate-limit.backend", havingValue = "memory", matchIfMissing = true)
+    public RateLimitBackend rateLimitBackend(@Value("${rate-limit.max-buckets:100000}") long maxBuckets) {
+        return new InMemoryRateLimitBackend(maxBuckets);
+    }
+}
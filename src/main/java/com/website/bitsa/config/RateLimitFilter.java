@@ -0,0 +1,78 @@
+package com.website.bitsa.config;
+
+import com.website.bitsa.exception.TooManyRequestsException;
+import com.website.bitsa.service.AuthenticatedUser;
+import com.website.bitsa.service.RateLimiter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.io.IOException;
+
+/**
+ * Applies RateLimiter to the routes it knows, before the request reaches a controller (and BCrypt
+ * or the database). Runs after the security filter chain, so an authenticated caller is also
+ * limited per account. Login is limited per account (the email) in AuthService, which reads the body.
+ * The client IP is the remote address; behind a proxy, set server.forward-headers-strategy=native.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+    private final HandlerExceptionResolver exceptionResolver;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public RateLimitFilter(RateLimiter rateLimiter,
+                           @Qualifier("handlerExceptionResolver") HandlerExceptionResolver exceptionResolver) {
+        this.rateLimiter = rateLimiter;
+        this.exceptionResolver = exceptionResolver;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !rateLimiter.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RateLimiter.Route route = match(request);
+        if (route != null) {
+            try {
+                rateLimiter.check(route, RateLimiter.Scope.IP, request.getRemoteAddr());
+                rateLimiter.check(route, RateLimiter.Scope.ACCOUNT, accountKey());
+            } catch (TooManyRequestsException ex) {
+                // Same 429 body and Retry-After header as GlobalExceptionHandler gives everywhere else
+                exceptionResolver.resolveException(request, response, null, ex);
+                return;
+            }
+        }
+        chain.doFilter(request, response);
+    }
+
+    private RateLimiter.Route match(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (RateLimiter.Route route : RateLimiter.Route.values()) {
+            if (route.getMethod().equals(request.getMethod()) && pathMatcher.match(route.getPathPattern(), path)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    private static String accountKey() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return String.valueOf(user.getId());
+        }
+        return null;
+    }
+}
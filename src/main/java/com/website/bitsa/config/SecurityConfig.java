@@ -1,10 +1,17 @@
 package com.website.bitsa.config;
 
+import com.website.bitsa.service.AuthSessionService;
 import com.website.bitsa.service.JwtService;
+import com.website.bitsa.service.TokenRevocationList;
+import com.website.bitsa.service.UserDetailsCache;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
@@ -17,6 +24,8 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -30,6 +39,8 @@ import java.util.List;
 public class SecurityConfig {
 
     private final JwtService jwtService;
+    private final TokenRevocationList tokenRevocationList;
+    private final AuthSessionService authSessionService;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -42,6 +53,9 @@ public class SecurityConfig {
                         // 2. Explicitly allow OPTIONS requests (Preflight checks)
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
 
+                        // Actuator listens on the management port only, which is not exposed publicly
+                        .requestMatchers(EndpointRequest.toAnyEndpoint()).permitAll()
+
                         // Public Endpoints
                         .requestMatchers(
                                 "/api/auth/**",
@@ -49,7 +63,8 @@ public class SecurityConfig {
                                 "/api/events/**",
                                 "/api/gallery/**",
                                 "/api/contact/**",
-                                "/api/categories/**"
+                                "/api/categories/**",
+                                "/api/tags/**"
                         ).permitAll()
 
                         // Admin only
@@ -63,10 +78,23 @@ public class SecurityConfig {
                 )
                 .httpBasic(AbstractHttpConfigurer::disable)
                 .formLogin(AbstractHttpConfigurer::disable)
+                // Signed bearer tokens instead of sessions: no sticky sessions, no per-request user lookup
+                .addFilterBefore(new JwtAuthenticationFilter(jwtService, tokenRevocationList),
+                        UsernamePasswordAuthenticationFilter.class)
+                .exceptionHandling(ex -> ex
+                        .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED))
+                )
                 .logout(logout -> logout
                         .logoutUrl("/api/auth/logout")
-                        .invalidateHttpSession(true)
-                        .deleteCookies("JSESSIONID")
+                        // Revokes the whole login (access and refresh token share its session id): the refresh
+                        // token on every node, the access token on this one until it expires
+                        .addLogoutHandler((request, response, authentication) ->
+                                JwtAuthenticationFilter.bearerToken(request)
+                                        .flatMap(token -> jwtService.parse(token, JwtService.TokenType.ACCESS))
+                                        .ifPresent(claims -> {
+                                            authSessionService.end(claims.sessionId());
+                                            tokenRevocationList.revokeSession(claims.sessionId());
+                                        }))
                         .logoutSuccessHandler((request, response, authentication) -> {
                             SecurityContextHolder.clearContext();
                             response.setStatus(200);
@@ -102,16 +130,27 @@ public class SecurityConfig {
     }
 
     @Bean
-    public AuthenticationProvider authenticationProvider() {
+    public AuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder, UserDetailsCache userDetailsCache) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(jwtService);
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setPasswordEncoder(passwordEncoder);
+        authProvider.setUserCache(userDetailsCache);
         return authProvider;
     }
 
+    /**
+     * BCrypt on its own bounded pool (see BoundedPasswordEncoder); strength applies to new hashes,
+     * existing hashes keep verifying with the cost stored in them
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${security.password.bcrypt-strength}") int strength,
+                                           @Value("${security.password.threads}") int threads,
+                                           @Value("${security.password.queue-capacity}") int queueCapacity,
+                                           @Value("${security.password.retry-after-seconds}") long retryAfterSeconds,
+                                           MeterRegistry meterRegistry) {
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength), poolSize, queueCapacity,
+                retryAfterSeconds, meterRegistry);
     }
 
     @Bean
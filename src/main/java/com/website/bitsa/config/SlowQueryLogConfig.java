@@ -0,0 +1,103 @@
+package com.website.bitsa.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.ILoggerFactory;
+import org.slf4j.LoggerFactory;
+import org.slf4j.Marker;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sampled slow-query log, replacing spring.jpa.show-sql.
+ * Hibernate reports statements slower than hibernate.log_slow_query to "org.hibernate.SQL_SLOW";
+ * every report is counted, but at most db.slow-query-log.max-per-minute reach the log file.
+ */
+@Configuration
+public class SlowQueryLogConfig implements DisposableBean {
+
+    static final String SLOW_QUERY_LOGGER = "org.hibernate.SQL_SLOW";
+
+    private final SlowQuerySampler sampler;
+
+    public SlowQueryLogConfig(MeterRegistry meterRegistry,
+                              @Value("${db.slow-query-log.max-per-minute:20}") int maxPerMinute) {
+        this.sampler = new SlowQuerySampler(maxPerMinute,
+                Counter.builder("bitsa.db.slow_queries")
+                        .description("Statements slower than hibernate.log_slow_query")
+                        .tag("logged", "true")
+                        .register(meterRegistry),
+                Counter.builder("bitsa.db.slow_queries")
+                        .description("Statements slower than hibernate.log_slow_query")
+                        .tag("logged", "false")
+                        .register(meterRegistry));
+
+        ILoggerFactory factory = LoggerFactory.getILoggerFactory();
+        if (factory instanceof LoggerContext context) {
+            sampler.setContext(context);
+            sampler.start();
+            // One sampler per logging context: a refreshed application context replaces the old one
+            context.getTurboFilterList().removeIf(SlowQuerySampler.class::isInstance);
+            context.addTurboFilter(sampler);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (LoggerFactory.getILoggerFactory() instanceof LoggerContext context) {
+            context.getTurboFilterList().remove(sampler);
+        }
+        sampler.stop();
+    }
+
+    /**
+     * Fixed one-minute window: the first N slow statements are logged, the rest only counted
+     */
+    static class SlowQuerySampler extends TurboFilter {
+
+        private static final long WINDOW_MILLIS = 60_000;
+
+        private final int maxPerWindow;
+        private final Counter logged;
+        private final Counter suppressed;
+        private final AtomicLong windowStart = new AtomicLong();
+        private final AtomicInteger inWindow = new AtomicInteger();
+
+        SlowQuerySampler(int maxPerWindow, Counter logged, Counter suppressed) {
+            this.maxPerWindow = maxPerWindow;
+            this.logged = logged;
+            this.suppressed = suppressed;
+        }
+
+        @Override
+        public FilterReply decide(Marker marker, Logger logger, Level level, String format,
+                                  Object[] params, Throwable t) {
+            // A null format is an isEnabled() check, not an actual slow statement
+            if (format == null || !SLOW_QUERY_LOGGER.equals(logger.getName())) {
+                return FilterReply.NEUTRAL;
+            }
+
+            long now = System.currentTimeMillis();
+            long start = windowStart.get();
+            if (now - start >= WINDOW_MILLIS && windowStart.compareAndSet(start, now)) {
+                inWindow.set(0);
+            }
+
+            if (inWindow.incrementAndGet() <= maxPerWindow) {
+                logged.increment();
+                return FilterReply.NEUTRAL;
+            }
+            suppressed.increment();
+            return FilterReply.DENY;
+        }
+    }
+}
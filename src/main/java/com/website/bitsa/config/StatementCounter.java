@@ -0,0 +1,98 @@
+package com.website.bitsa.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Hibernate StatementInspector that counts the SQL statements prepared on the current thread.
+ * Counting only happens inside a scope opened with begin(); statements are grouped by shape
+ * (literals and IN lists collapsed) so N+1 loads show up as one shape repeated N times.
+ */
+public class StatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private static final Pattern SELECT_LIST = Pattern.compile("^select .+? from ", Pattern.CASE_INSENSITIVE);
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\?(?:\\s*,\\s*\\?)+\\)");
+    private static final int MAX_SHAPE_LENGTH = 300;
+
+    @Override
+    public String inspect(String sql) {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.record(shape(sql));
+        }
+        return sql;
+    }
+
+    /**
+     * Start counting on this thread; close the scope to stop
+     */
+    public static Scope begin() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    static String shape(String sql) {
+        String shape = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+        shape = STRING_LITERAL.matcher(shape).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("(?...)");
+        // The column list is noise; what repeats in an N+1 is the table and the predicate
+        shape = SELECT_LIST.matcher(shape).replaceFirst("select ... from ");
+        return shape.length() > MAX_SHAPE_LENGTH ? shape.substring(0, MAX_SHAPE_LENGTH) + "..." : shape;
+    }
+
+    /**
+     * Statements seen since begin(); nested scopes also count towards their parent
+     */
+    public static final class Scope implements AutoCloseable {
+
+        private final Scope parent;
+        private final Map<String, Integer> shapes = new HashMap<>();
+        private int statements;
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        private void record(String shape) {
+            statements++;
+            shapes.merge(shape, 1, Integer::sum);
+            if (parent != null) {
+                parent.record(shape);
+            }
+        }
+
+        public int getStatements() {
+            return statements;
+        }
+
+        /**
+         * The statement shape executed most often, with its count
+         */
+        public Optional<Map.Entry<String, Integer>> mostRepeated() {
+            return shapes.entrySet().stream().max(Map.Entry.comparingByValue(Comparator.naturalOrder()));
+        }
+
+        @Override
+        public void close() {
+            if (CURRENT.get() == this) {
+                if (parent == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(parent);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.website.bitsa.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Extra wiring for spring.threads.virtual.enabled=true (Java 21+ only).
+ * Boot itself moves Tomcat, the application task executor and @Scheduled work onto
+ * virtual threads; here the pool is put behind a semaphore sized to
+ * spring.datasource.hikari.maximum-pool-size so thousands of virtual threads wait
+ * in one fair queue instead of timing out inside Hikari.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    @Bean
+    public static BeanPostProcessor connectionLimitingPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof HikariDataSource hikari)) {
+                    return bean;
+                }
+                ConcurrencyLimitedDataSource limited = new ConcurrencyLimitedDataSource(
+                        hikari, hikari.getMaximumPoolSize(), hikari.getConnectionTimeout());
+                meterRegistry.ifAvailable(registry -> {
+                    Gauge.builder("bitsa.db.permits.waiting", limited, ConcurrencyLimitedDataSource::getWaitingThreads)
+                            .description("Threads queued for a database connection permit")
+                            .register(registry);
+                    Gauge.builder("bitsa.db.permits.available", limited, ConcurrencyLimitedDataSource::getAvailablePermits)
+                            .description("Database connection permits not in use")
+                            .register(registry);
+                });
+                return limited;
+            }
+        };
+    }
+}
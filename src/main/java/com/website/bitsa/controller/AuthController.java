@@ -2,6 +2,7 @@ package com.website.bitsa.controller;
 
 
 import com.website.bitsa.dto.request.LoginRequest;
+import com.website.bitsa.dto.request.RefreshTokenRequest;
 import com.website.bitsa.dto.request.RegisterRequest;
 import com.website.bitsa.dto.response.AuthResponse;
 import com.website.bitsa.service.AuthService;
@@ -31,6 +32,12 @@ public class AuthController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponse> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        AuthResponse response = authService.refresh(request);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/test")
     public ResponseEntity<String> test() {
         return ResponseEntity.ok("Auth API is working!");
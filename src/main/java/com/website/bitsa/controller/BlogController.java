@@ -3,9 +3,16 @@ package com.website.bitsa.controller;
 import com.website.bitsa.dto.request.CreateCommentRequest;
 import com.website.bitsa.dto.response.ApiResponse;
 import com.website.bitsa.dto.response.CommentResponse; // <-- IMPORT THIS
+import com.website.bitsa.dto.response.CursorPage;
 import com.website.bitsa.dto.response.PostResponse;
+import com.website.bitsa.dto.response.PostSearchResponse;
+import com.website.bitsa.dto.response.PostSummaryResponse;
 import com.website.bitsa.model.Comment;
 import com.website.bitsa.service.BlogService;
+import com.website.bitsa.service.ContentVersionService;
+import com.website.bitsa.service.ContentVersionService.Policy;
+import com.website.bitsa.service.ContentVersionService.Resource;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -23,43 +30,78 @@ import java.util.List;
 public class BlogController {
 
     private final BlogService blogService;
+    private final ContentVersionService contentVersions;
 
     @GetMapping("/posts")
-    public ResponseEntity<List<PostResponse>> getAllPosts() {
-        List<PostResponse> posts = blogService.getAllPublishedPosts();
-        return ResponseEntity.ok(posts);
+    public ResponseEntity<CursorPage<PostSummaryResponse>> getAllPosts(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            HttpServletRequest request) {
+        return contentVersions.respond(request, Resource.POSTS, Policy.LIST,
+                () -> blogService.getPublishedPosts(cursor, limit));
     }
 
     @GetMapping("/posts/{slug}")
-    public ResponseEntity<PostResponse> getPostBySlug(@PathVariable String slug) {
-        PostResponse post = blogService.getPostBySlug(slug);
-        return ResponseEntity.ok(post);
+    public ResponseEntity<PostResponse> getPostBySlug(@PathVariable String slug, HttpServletRequest request) {
+        return contentVersions.respond(request, Resource.POSTS, Policy.DETAIL,
+                () -> blogService.getPostBySlug(slug), () -> blogService.recordView(slug));
     }
 
     @GetMapping("/posts/category/{categoryId}")
-    public ResponseEntity<List<PostResponse>> getPostsByCategory(@PathVariable Long categoryId) {
-        List<PostResponse> posts = blogService.getPostsByCategory(categoryId);
-        return ResponseEntity.ok(posts);
+    public ResponseEntity<List<PostSummaryResponse>> getPostsByCategory(@PathVariable Long categoryId,
+                                                                        HttpServletRequest request) {
+        return contentVersions.respond(request, Resource.POSTS, Policy.LIST,
+                () -> blogService.getPostsByCategory(categoryId));
+    }
+
+    @GetMapping("/posts/tag/{tag}")
+    public ResponseEntity<CursorPage<PostSummaryResponse>> getPostsByTag(
+            @PathVariable String tag,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            HttpServletRequest request) {
+        return contentVersions.respond(request, Resource.POSTS, Policy.LIST,
+                () -> blogService.getPostsByTags(tag, "any", cursor, limit));
+    }
+
+    /**
+     * Multi-tag filter: ?tags=java,spring&match=all (every tag, the default) or match=any
+     */
+    @GetMapping("/posts/tagged")
+    public ResponseEntity<CursorPage<PostSummaryResponse>> getPostsByTags(
+            @RequestParam String tags,
+            @RequestParam(required = false) String match,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            HttpServletRequest request) {
+        return contentVersions.respond(request, Resource.POSTS, Policy.LIST,
+                () -> blogService.getPostsByTags(tags, match, cursor, limit));
     }
 
     @GetMapping("/posts/search")
-    public ResponseEntity<List<PostResponse>> searchPosts(@RequestParam String keyword) {
-        List<PostResponse> posts = blogService.searchPosts(keyword);
-        return ResponseEntity.ok(posts);
+    public ResponseEntity<PostSearchResponse> searchPosts(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String tag,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(defaultValue = "0") Integer page,
+            @RequestParam(required = false) Integer size,
+            HttpServletRequest request) {
+        return contentVersions.respond(request, Resource.POSTS, Policy.LIST,
+                () -> blogService.searchPosts(keyword, tag, categoryId, page, size));
     }
 
     @GetMapping("/posts/featured")
-    public ResponseEntity<List<PostResponse>> getFeaturedPosts() {
-        List<PostResponse> posts = blogService.getFeaturedPosts();
-        return ResponseEntity.ok(posts);
+    public ResponseEntity<List<PostSummaryResponse>> getFeaturedPosts(HttpServletRequest request) {
+        return contentVersions.respond(request, Resource.POSTS, Policy.LIST, blogService::getFeaturedPosts);
     }
 
     // --- THIS IS THE FIX: Return List<CommentResponse> instead of List<Comment> ---
     @GetMapping("/posts/{postId}/comments")
-    public ResponseEntity<List<CommentResponse>> getPostComments(@PathVariable Long postId) {
+    public ResponseEntity<List<CommentResponse>> getPostComments(@PathVariable Long postId,
+                                                                 HttpServletRequest request) {
         // The service now returns CommentResponse objects, which are safe (no infinite loop)
-        List<CommentResponse> comments = blogService.getPostComments(postId);
-        return ResponseEntity.ok(comments);
+        return contentVersions.respond(request, Resource.COMMENTS, Policy.LIST,
+                () -> blogService.getPostComments(postId));
     }
 
     // --- THIS IS THE FIX: Return CommentResponse inside ApiResponse ---
@@ -2,7 +2,11 @@ package com.website.bitsa.controller;
 
 
 import com.website.bitsa.model.Category;
-import com.website.bitsa.repository.CategoryRepository;
+import com.website.bitsa.service.CategoryService;
+import com.website.bitsa.service.ContentVersionService;
+import com.website.bitsa.service.ContentVersionService.Policy;
+import com.website.bitsa.service.ContentVersionService.Resource;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -19,12 +23,13 @@ import java.util.List;
 @CrossOrigin(origins = "http://localhost:5173") // Allow your React app
 public class CategoryController {
 
-    private final CategoryRepository categoryRepository;
+    private final CategoryService categoryService;
+    private final ContentVersionService contentVersions;
 
     @GetMapping
-    public ResponseEntity<List<Category>> getAllActiveCategories() {
+    public ResponseEntity<List<Category>> getAllActiveCategories(HttpServletRequest request) {
         // We fetch all active categories and return them
-        List<Category> categories = categoryRepository.findByIsActiveTrueOrderByDisplayOrderAsc();
-        return ResponseEntity.ok(categories);
+        return contentVersions.respond(request, Resource.CATEGORIES, Policy.REFERENCE,
+                categoryService::getActiveCategories);
     }
 }
\ No newline at end of file
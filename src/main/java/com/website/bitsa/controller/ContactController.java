@@ -4,10 +4,11 @@ package com.website.bitsa.controller;
 
 import com.website.bitsa.dto.request.ContactRequest;
 import com.website.bitsa.dto.response.ApiResponse;
-import com.website.bitsa.model.ContactMessage;
 import com.website.bitsa.service.ContactService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -21,11 +22,15 @@ public class ContactController {
     private final ContactService contactService;
 
     @PostMapping
-    public ResponseEntity<ApiResponse> submitContactMessage(@Valid @RequestBody ContactRequest request) {
-        ContactMessage message = contactService.submitContactMessage(request);
+    public ResponseEntity<ApiResponse> submitContactMessage(@Valid @RequestBody ContactRequest request,
+                                                            HttpServletRequest httpRequest) {
+        contactService.enqueueContactMessage(request,
+                httpRequest.getRemoteAddr(),
+                httpRequest.getHeader(HttpHeaders.USER_AGENT),
+                httpRequest.getHeader(HttpHeaders.REFERER));
         return new ResponseEntity<>(
-                ApiResponse.success("Message sent successfully! We'll get back to you soon.", message),
-                HttpStatus.CREATED
+                ApiResponse.success("Message sent successfully! We'll get back to you soon."),
+                HttpStatus.ACCEPTED
         );
     }
 
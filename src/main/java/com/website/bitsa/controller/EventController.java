@@ -1,10 +1,15 @@
 package com.website.bitsa.controller;
 
 import com.website.bitsa.dto.response.ApiResponse;
+import com.website.bitsa.dto.response.CursorPage;
 import com.website.bitsa.dto.response.EventResponse;
 import com.website.bitsa.dto.response.EventRegistrationResponse; // <-- IMPORT THIS
 import com.website.bitsa.model.EventRegistration;
+import com.website.bitsa.service.ContentVersionService;
+import com.website.bitsa.service.ContentVersionService.Policy;
+import com.website.bitsa.service.ContentVersionService.Resource;
 import com.website.bitsa.service.EventService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -21,35 +26,41 @@ import java.util.stream.Collectors;
 public class EventController {
 
     private final EventService eventService;
+    private final ContentVersionService contentVersions;
 
     @GetMapping
-    public ResponseEntity<List<EventResponse>> getAllUpcomingEvents() {
-        List<EventResponse> events = eventService.getAllUpcomingEvents();
-        return ResponseEntity.ok(events);
+    public ResponseEntity<CursorPage<EventResponse>> getAllUpcomingEvents(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            HttpServletRequest request) {
+        return contentVersions.respond(request, Resource.EVENTS, Policy.LIVE,
+                () -> eventService.getUpcomingEvents(cursor, limit));
     }
 
     @GetMapping("/past")
-    public ResponseEntity<List<EventResponse>> getPastEvents() {
-        List<EventResponse> events = eventService.getAllPastEvents();
-        return ResponseEntity.ok(events);
+    public ResponseEntity<CursorPage<EventResponse>> getPastEvents(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            HttpServletRequest request) {
+        return contentVersions.respond(request, Resource.EVENTS, Policy.LIST,
+                () -> eventService.getPastEvents(cursor, limit));
     }
 
     @GetMapping("/{slug}")
-    public ResponseEntity<EventResponse> getEventBySlug(@PathVariable String slug) {
-        EventResponse event = eventService.getEventBySlug(slug);
-        return ResponseEntity.ok(event);
+    public ResponseEntity<EventResponse> getEventBySlug(@PathVariable String slug, HttpServletRequest request) {
+        return contentVersions.respond(request, Resource.EVENTS, Policy.DETAIL,
+                () -> eventService.getEventBySlug(slug), () -> eventService.recordView(slug));
     }
 
     @GetMapping("/type/{typeId}")
-    public ResponseEntity<List<EventResponse>> getEventsByType(@PathVariable Long typeId) {
-        List<EventResponse> events = eventService.getEventsByType(typeId);
-        return ResponseEntity.ok(events);
+    public ResponseEntity<List<EventResponse>> getEventsByType(@PathVariable Long typeId, HttpServletRequest request) {
+        return contentVersions.respond(request, Resource.EVENTS, Policy.LIVE,
+                () -> eventService.getEventsByType(typeId));
     }
 
     @GetMapping("/featured")
-    public ResponseEntity<List<EventResponse>> getFeaturedEvents() {
-        List<EventResponse> events = eventService.getFeaturedEvents();
-        return ResponseEntity.ok(events);
+    public ResponseEntity<List<EventResponse>> getFeaturedEvents(HttpServletRequest request) {
+        return contentVersions.respond(request, Resource.EVENTS, Policy.LIVE, eventService::getFeaturedEvents);
     }
 
     @PostMapping("/{eventId}/register")
@@ -68,11 +79,17 @@ public class EventController {
                 .eventTitle(registration.getEvent().getTitle())
                 .userName(registration.getUser().getName())
                 .status(registration.getAttendanceStatus())
+                .isWaitlisted(registration.getIsWaitlisted())
+                .waitlistPosition(registration.getWaitlistPosition())
                 .registrationDate(registration.getRegistrationDate())
                 .build();
 
+        String message = registration.getIsWaitlisted()
+                ? "Event is full - you are #" + registration.getWaitlistPosition() + " on the waitlist"
+                : "Successfully registered for event!";
+
         return new ResponseEntity<>(
-                ApiResponse.success("Successfully registered for event!", responseDto),
+                ApiResponse.success(message, responseDto),
                 HttpStatus.CREATED
         );
     }
@@ -100,6 +117,8 @@ public class EventController {
                         .eventTitle(reg.getEvent().getTitle())
                         .userName(reg.getUser().getName())
                         .status(reg.getAttendanceStatus())
+                        .isWaitlisted(reg.getIsWaitlisted())
+                        .waitlistPosition(reg.getWaitlistPosition())
                         .registrationDate(reg.getRegistrationDate())
                         .build())
                 .collect(Collectors.toList());
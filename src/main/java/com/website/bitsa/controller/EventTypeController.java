@@ -1,7 +1,11 @@
 package com.website.bitsa.controller;
 
 import com.website.bitsa.model.EventType;
-import com.website.bitsa.repository.EventTypeRepository;
+import com.website.bitsa.service.ContentVersionService;
+import com.website.bitsa.service.ContentVersionService.Policy;
+import com.website.bitsa.service.ContentVersionService.Resource;
+import com.website.bitsa.service.EventTypeService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -15,10 +19,12 @@ import java.util.List;
 @RequiredArgsConstructor
 public class EventTypeController {
 
-    private final EventTypeRepository eventTypeRepository;
+    private final EventTypeService eventTypeService;
+    private final ContentVersionService contentVersions;
 
     @GetMapping
-    public ResponseEntity<List<EventType>> getAllEventTypes() {
-        return ResponseEntity.ok(eventTypeRepository.findAll());
+    public ResponseEntity<List<EventType>> getAllEventTypes(HttpServletRequest request) {
+        return contentVersions.respond(request, Resource.EVENT_TYPES, Policy.REFERENCE,
+                eventTypeService::getAllEventTypes);
     }
 }
\ No newline at end of file
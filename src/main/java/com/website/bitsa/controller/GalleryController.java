@@ -2,8 +2,13 @@ package com.website.bitsa.controller;
 
 
 
+import com.website.bitsa.dto.response.CursorPage;
 import com.website.bitsa.model.Gallery;
+import com.website.bitsa.service.ContentVersionService;
+import com.website.bitsa.service.ContentVersionService.Policy;
+import com.website.bitsa.service.ContentVersionService.Resource;
 import com.website.bitsa.service.GalleryService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -17,47 +22,72 @@ import java.util.List;
 public class GalleryController {
 
     private final GalleryService galleryService;
+    private final ContentVersionService contentVersions;
 
     @GetMapping
-    public ResponseEntity<List<Gallery>> getAllImages() {
-        List<Gallery> images = galleryService.getAllPublishedImages();
-        return ResponseEntity.ok(images);
+    public ResponseEntity<CursorPage<Gallery>> getAllImages(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            HttpServletRequest request) {
+        return contentVersions.respond(request, Resource.GALLERY, Policy.LIST,
+                () -> galleryService.getPublishedImages(cursor, limit));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Gallery> getImageById(@PathVariable Long id) {
-        Gallery image = galleryService.getImageById(id);
-        return ResponseEntity.ok(image);
+    public ResponseEntity<Gallery> getImageById(@PathVariable Long id, HttpServletRequest request) {
+        return contentVersions.respond(request, Resource.GALLERY, Policy.DETAIL,
+                () -> galleryService.getImageById(id), () -> galleryService.recordView(id));
     }
 
     @GetMapping("/category/{category}")
-    public ResponseEntity<List<Gallery>> getImagesByCategory(@PathVariable String category) {
-        List<Gallery> images = galleryService.getImagesByCategory(category);
-        return ResponseEntity.ok(images);
+    public ResponseEntity<List<Gallery>> getImagesByCategory(@PathVariable String category,
+                                                             HttpServletRequest request) {
+        return contentVersions.respond(request, Resource.GALLERY, Policy.LIST,
+                () -> galleryService.getImagesByCategory(category));
+    }
+
+    @GetMapping("/tag/{tag}")
+    public ResponseEntity<CursorPage<Gallery>> getImagesByTag(
+            @PathVariable String tag,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            HttpServletRequest request) {
+        return contentVersions.respond(request, Resource.GALLERY, Policy.LIST,
+                () -> galleryService.getImagesByTags(tag, "any", cursor, limit));
+    }
+
+    /**
+     * Multi-tag filter: ?tags=hackathon,2024&match=all (every tag, the default) or match=any
+     */
+    @GetMapping("/tagged")
+    public ResponseEntity<CursorPage<Gallery>> getImagesByTags(
+            @RequestParam String tags,
+            @RequestParam(required = false) String match,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            HttpServletRequest request) {
+        return contentVersions.respond(request, Resource.GALLERY, Policy.LIST,
+                () -> galleryService.getImagesByTags(tags, match, cursor, limit));
     }
 
     @GetMapping("/featured")
-    public ResponseEntity<List<Gallery>> getFeaturedImages() {
-        List<Gallery> images = galleryService.getFeaturedImages();
-        return ResponseEntity.ok(images);
+    public ResponseEntity<List<Gallery>> getFeaturedImages(HttpServletRequest request) {
+        return contentVersions.respond(request, Resource.GALLERY, Policy.LIST, galleryService::getFeaturedImages);
     }
 
     @GetMapping("/categories")
-    public ResponseEntity<List<String>> getAllCategories() {
-        List<String> categories = galleryService.getAllCategories();
-        return ResponseEntity.ok(categories);
+    public ResponseEntity<List<String>> getAllCategories(HttpServletRequest request) {
+        return contentVersions.respond(request, Resource.GALLERY, Policy.REFERENCE, galleryService::getAllCategories);
     }
 
     @GetMapping("/most-viewed")
-    public ResponseEntity<List<Gallery>> getMostViewedImages() {
-        List<Gallery> images = galleryService.getMostViewedImages();
-        return ResponseEntity.ok(images);
+    public ResponseEntity<List<Gallery>> getMostViewedImages(HttpServletRequest request) {
+        return contentVersions.respond(request, Resource.GALLERY, Policy.LIST, galleryService::getMostViewedImages);
     }
 
     @GetMapping("/most-liked")
-    public ResponseEntity<List<Gallery>> getMostLikedImages() {
-        List<Gallery> images = galleryService.getMostLikedImages();
-        return ResponseEntity.ok(images);
+    public ResponseEntity<List<Gallery>> getMostLikedImages(HttpServletRequest request) {
+        return contentVersions.respond(request, Resource.GALLERY, Policy.LIST, galleryService::getMostLikedImages);
     }
 
     @GetMapping("/test")
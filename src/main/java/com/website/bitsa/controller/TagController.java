@@ -0,0 +1,30 @@
+package com.website.bitsa.controller;
+
+import com.website.bitsa.dto.response.TagCountResponse;
+import com.website.bitsa.service.TagService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/tags")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "http://localhost:5173")
+public class TagController {
+
+    private final TagService tagService;
+
+    /**
+     * Tag cloud: every tag on published posts or images with its counts, most used first
+     */
+    @GetMapping
+    public ResponseEntity<List<TagCountResponse>> getTagCloud() {
+        List<TagCountResponse> tags = tagService.getTagCloud();
+        return ResponseEntity.ok(tags);
+    }
+}
@@ -4,6 +4,7 @@ import com.website.bitsa.dto.request.CreatePostRequest;
 import com.website.bitsa.dto.response.ApiResponse;
 import com.website.bitsa.dto.response.CommentResponse; // <-- Ensure this is imported
 import com.website.bitsa.dto.response.PostResponse;
+import com.website.bitsa.dto.response.PostSummaryResponse;
 import com.website.bitsa.model.Comment;
 import com.website.bitsa.service.BlogService;
 import jakarta.validation.Valid;
@@ -68,8 +69,8 @@ public class AdminBlogController {
     }
 
     @GetMapping("/all-posts")
-    public ResponseEntity<List<PostResponse>> getAllPosts() {
-        List<PostResponse> posts = blogService.getAllPostsAdmin();
+    public ResponseEntity<List<PostSummaryResponse>> getAllPosts() {
+        List<PostSummaryResponse> posts = blogService.getAllPostsAdmin();
         return ResponseEntity.ok(posts);
     }
 
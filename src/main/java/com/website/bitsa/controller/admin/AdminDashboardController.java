@@ -1,12 +1,18 @@
 package com.website.bitsa.controller.admin;
 
 
+import com.website.bitsa.config.JwtAuthenticationFilter;
 import com.website.bitsa.dto.response.ApiResponse;
+import com.website.bitsa.exception.BadRequestException;
 import com.website.bitsa.service.*;
+import com.website.bitsa.service.DashboardStatsService.Stat;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -17,40 +23,42 @@ import java.util.Map;
 @PreAuthorize("hasRole('ADMIN')")
 public class AdminDashboardController {
 
-    private final UserService userService;
     private final BlogService blogService;
-    private final EventService eventService;
-    private final GalleryService galleryService;
     private final ContactService contactService;
+    private final DashboardStatsService dashboardStatsService;
+    private final DashboardStreamService dashboardStreamService;
+    private final JwtService jwtService;
 
     @GetMapping("/stats")
     public ResponseEntity<ApiResponse> getDashboardStats() {
-        Map<String, Object> stats = new HashMap<>();
-
-        try {
-            // User Statistics
-            stats.put("totalUsers", userService.countActiveUsers());
-            stats.put("totalStudents", userService.countStudents());
-            stats.put("totalAdmins", userService.countAdmins());
-
-            // Blog Statistics
-            stats.put("totalPosts", blogService.countTotalPosts());
-            stats.put("pendingComments", blogService.getPendingComments().size());
-
-            // Event Statistics
-            stats.put("upcomingEvents", eventService.countUpcomingEvents());
-
-            // Gallery Statistics
-            stats.put("totalImages", galleryService.countTotalImages());
+        // Served from in-memory counters; see DashboardStatsService
+        return ResponseEntity.ok(ApiResponse.success("Dashboard statistics", dashboardStatsService.getStats()));
+    }
 
-            // Contact Statistics
-            stats.put("unreadMessages", contactService.countUnreadMessages());
-            stats.put("pendingMessages", contactService.countPendingMessages());
+    /**
+     * Short-lived token for opening the stream with EventSource (?token=...), which cannot send the
+     * Authorization header. It is checked only when the stream opens; fetch a new one to reconnect.
+     */
+    @PostMapping("/stream-token")
+    public ResponseEntity<ApiResponse> streamToken(HttpServletRequest request) {
+        JwtService.TokenClaims access = JwtAuthenticationFilter.bearerToken(request)
+                .flatMap(token -> jwtService.parse(token, JwtService.TokenType.ACCESS))
+                .orElseThrow(() -> new BadRequestException("A bearer access token is required"));
+        String token = jwtService.generateToken(access.toPrincipal(), access.sessionId(), JwtService.TokenType.STREAM);
+
+        Map<String, Object> body = new HashMap<>();
+        body.put("token", token);
+        body.put("expiresIn", jwtService.getStreamExpiration().toSeconds());
+        return ResponseEntity.ok(ApiResponse.success("Stream token", body));
+    }
 
-            return ResponseEntity.ok(ApiResponse.success("Dashboard statistics", stats));
-        } catch (Exception e) {
-            return ResponseEntity.ok(ApiResponse.error("Error loading statistics: " + e.getMessage()));
-        }
+    /**
+     * Live feed: a "snapshot" event with the stats, then at most one "delta" event per second.
+     * Authenticated by the Authorization header or a stream token (see streamToken)
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamDashboard() {
+        return dashboardStreamService.subscribe();
     }
 
     @GetMapping("/recent-activity")
@@ -76,9 +84,9 @@ public class AdminDashboardController {
 
         try {
             // Calculate growth metrics
-            analytics.put("userGrowth", userService.countActiveUsers());
-            analytics.put("contentGrowth", blogService.countTotalPosts());
-            analytics.put("eventEngagement", eventService.countUpcomingEvents());
+            analytics.put("userGrowth", dashboardStatsService.get(Stat.TOTAL_USERS));
+            analytics.put("contentGrowth", dashboardStatsService.get(Stat.TOTAL_POSTS));
+            analytics.put("eventEngagement", dashboardStatsService.get(Stat.UPCOMING_EVENTS));
 
             return ResponseEntity.ok(ApiResponse.success("Analytics data", analytics));
         } catch (Exception e) {
@@ -1,7 +1,9 @@
 package com.website.bitsa.controller.admin;
 
+import com.website.bitsa.dto.request.CancelRegistrationsRequest;
 import com.website.bitsa.dto.request.CreateEventRequest;
 import com.website.bitsa.dto.response.ApiResponse;
+import com.website.bitsa.dto.response.CancelRegistrationsResponse;
 import com.website.bitsa.dto.response.EventResponse;
 import com.website.bitsa.model.EventRegistration;
 import com.website.bitsa.service.EventService;
@@ -75,6 +77,15 @@ public class AdminEventController {
         return ResponseEntity.ok(registrations);
     }
 
+    @PostMapping("/{id}/registrations/cancel")
+    public ResponseEntity<ApiResponse> cancelRegistrations(
+            @PathVariable Long id,
+            @Valid @RequestBody CancelRegistrationsRequest request) {
+        CancelRegistrationsResponse result =
+                eventService.cancelRegistrations(id, request.getRegistrationIds(), request.getReason());
+        return ResponseEntity.ok(ApiResponse.success("Registrations cancelled!", result));
+    }
+
     @GetMapping("/test")
     public ResponseEntity<String> test() {
         return ResponseEntity.ok("Admin Events API is working!");
@@ -0,0 +1,22 @@
+package com.website.bitsa.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CancelRegistrationsRequest {
+
+    @NotEmpty(message = "At least one registration ID is required")
+    @Size(max = 1000, message = "At most 1000 registrations can be cancelled at once")
+    private List<Long> registrationIds;
+
+    @Size(max = 500, message = "Reason must not exceed 500 characters")
+    private String reason;
+}
@@ -19,8 +19,10 @@ public class ContactRequest {
 
     @NotBlank(message = "Email is required")
     @Email(message = "Email must be valid")
+    @Size(max = 100, message = "Email must not exceed 100 characters")
     private String email;
 
+    @Size(max = 20, message = "Phone must not exceed 20 characters")
     private String phone;
 
     @Size(max = 200, message = "Subject must not exceed 200 characters")
@@ -30,5 +32,6 @@ public class ContactRequest {
     @Size(min = 10, message = "Message must be at least 10 characters")
     private String message;
 
+    @Size(max = 50, message = "Category must not exceed 50 characters")
     private String category = "GENERAL";
 }
\ No newline at end of file
@@ -42,6 +42,7 @@ public class CreateEventRequest {
     private String requirements;
     private String agenda;
     private Boolean registrationRequired = true;
+    private Boolean waitlistEnabled = false;
     private Boolean isPublished = false;
     private Boolean isFeatured = false;
 }
\ No newline at end of file
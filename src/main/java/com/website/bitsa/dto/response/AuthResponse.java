@@ -12,7 +12,10 @@ import lombok.NoArgsConstructor;
 @Builder
 public class AuthResponse {
     private String token;
+    private String refreshToken;
     private String type = "Bearer";
+    // Access token lifetime in seconds
+    private Long expiresIn;
     private Long id;
     private String name;
     private String email;
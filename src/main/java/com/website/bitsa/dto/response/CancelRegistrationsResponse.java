@@ -0,0 +1,16 @@
+package com.website.bitsa.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CancelRegistrationsResponse {
+    private Integer cancelled;      // Registrations actually cancelled (already cancelled ones are skipped)
+    private Integer promoted;       // Waitlisted registrations that took a freed seat
+    private Integer seatsReleased;  // Freed seats left open because the waitlist ran out
+}
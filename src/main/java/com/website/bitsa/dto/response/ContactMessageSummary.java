@@ -0,0 +1,20 @@
+package com.website.bitsa.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ContactMessageSummary {
+    private Long id;
+    private String name;
+    private String subject;
+    private String category;
+    private LocalDateTime createdAt;
+}
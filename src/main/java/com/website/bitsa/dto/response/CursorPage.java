@@ -0,0 +1,47 @@
+package com.website.bitsa.dto.response;
+
+import com.website.bitsa.util.CursorUtil;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPage<T> {
+    private List<T> items;
+    private String nextCursor;  // null on the last page
+    private Integer limit;
+    private Boolean hasMore;
+
+    /**
+     * Build a page from rows fetched with limit + 1 (the extra row only signals that more exist)
+     */
+    public static <E, T> CursorPage<T> of(List<E> rows, int limit,
+                                          Function<E, LocalDateTime> sortKey,
+                                          Function<E, Long> idKey,
+                                          Function<E, T> mapper) {
+        boolean hasMore = rows.size() > limit;
+        List<E> pageRows = hasMore ? rows.subList(0, limit) : rows;
+
+        String nextCursor = null;
+        if (hasMore) {
+            E last = pageRows.get(pageRows.size() - 1);
+            nextCursor = CursorUtil.encode(sortKey.apply(last), idKey.apply(last));
+        }
+
+        return CursorPage.<T>builder()
+                .items(pageRows.stream().map(mapper).collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .limit(limit)
+                .hasMore(hasMore)
+                .build();
+    }
+}
@@ -0,0 +1,26 @@
+package com.website.bitsa.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DashboardStatsResponse {
+    private Long totalUsers;
+    private Long totalStudents;
+    private Long totalAdmins;
+    private Long totalPosts;
+    private Long pendingComments;
+    private Long upcomingEvents;
+    private Long totalImages;
+    private Long unreadMessages;
+    private Long pendingMessages;
+    private LocalDateTime updatedAt;       // Last change applied to any counter
+    private LocalDateTime recomputedAt;    // Last full recount from the database
+}
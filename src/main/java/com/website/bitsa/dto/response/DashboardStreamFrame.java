@@ -0,0 +1,24 @@
+package com.website.bitsa.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One coalesced push on the admin dashboard stream; unchanged sections are left null.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DashboardStreamFrame {
+    private DashboardStatsResponse stats;
+    private List<ContactMessageSummary> contactMessages;
+    private List<CommentResponse> pendingComments;
+    private Map<Long, Integer> registrations;  // Event id -> current attendees
+    private Integer dropped;                   // Items over the per-frame cap; reload the lists
+}
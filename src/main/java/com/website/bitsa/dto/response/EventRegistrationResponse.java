@@ -16,5 +16,7 @@ public class EventRegistrationResponse {
     private String eventTitle;
     private String userName;
     private String status;
+    private Boolean isWaitlisted;
+    private Integer waitlistPosition;
     private LocalDateTime registrationDate;
 }
\ No newline at end of file
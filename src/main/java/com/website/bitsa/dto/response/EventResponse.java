@@ -28,7 +28,9 @@ public class EventResponse {
     private Boolean isFeatured;
     private Boolean isFull;
     private Boolean isRegistrationOpen;
+    private Boolean waitlistEnabled;
     private Boolean isCancelled;
+    private Integer viewCount;
     private String slug;
     private LocalDateTime createdAt;
 }
\ No newline at end of file
@@ -27,6 +27,7 @@ public class PostResponse {
     private Integer likeCount;
     private Integer commentCount;
     private Integer readingTimeMinutes;
+    private Integer wordCount;
     private String[] tags;
     private LocalDateTime publishedAt;
     private LocalDateTime createdAt;
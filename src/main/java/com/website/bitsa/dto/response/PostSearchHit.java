@@ -0,0 +1,27 @@
+package com.website.bitsa.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PostSearchHit {
+    private Long id;
+    private String title;
+    private String slug;
+    private String excerpt;
+    private String snippet;  // Highlighted fragment, matches wrapped in <mark>
+    private String authorName;
+    private String categoryName;
+    private String featuredImage;
+    private Integer readingTimeMinutes;
+    private String[] tags;
+    private LocalDateTime publishedAt;
+    private Float score;
+}
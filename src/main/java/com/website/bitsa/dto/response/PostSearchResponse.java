@@ -0,0 +1,20 @@
+package com.website.bitsa.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PostSearchResponse {
+    private List<PostSearchHit> results;
+    private Long totalHits;
+    private Integer page;
+    private Integer size;
+    private Boolean hasMore;
+}
@@ -0,0 +1,50 @@
+package com.website.bitsa.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * List item for posts: everything a card shows, without the content.
+ * Selected column by column (PostRepository.SUMMARY), so the content is never read from the database.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PostSummaryResponse {
+    private Long id;
+    private String title;
+    private String excerpt;
+    private String slug;
+    private String authorName;
+    private String categoryName;
+    private String featuredImage;
+    private Boolean isPublished;
+    private Boolean isFeatured;
+    private Integer viewCount;
+    private Integer likeCount;
+    private Integer commentCount;
+    private Integer readingTimeMinutes;
+    private Integer wordCount;
+    private String[] tags;
+    private LocalDateTime publishedAt;
+    private LocalDateTime createdAt;
+
+    /**
+     * Constructor for the JPQL projection; tags arrive in their stored canonical form
+     */
+    public PostSummaryResponse(Long id, String title, String excerpt, String slug, String authorName,
+                               String categoryName, String featuredImage, Boolean isPublished, Boolean isFeatured,
+                               Integer viewCount, Integer likeCount, Integer commentCount,
+                               Integer readingTimeMinutes, Integer wordCount, String tags,
+                               LocalDateTime publishedAt, LocalDateTime createdAt) {
+        this(id, title, excerpt, slug, authorName, categoryName, featuredImage, isPublished, isFeatured,
+                viewCount, likeCount, commentCount, readingTimeMinutes, wordCount,
+                tags == null || tags.isEmpty() ? new String[0] : tags.split(","),
+                publishedAt, createdAt);
+    }
+}
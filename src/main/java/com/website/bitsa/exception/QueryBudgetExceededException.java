@@ -0,0 +1,12 @@
+package com.website.bitsa.exception;
+
+
+/**
+ * A request ran more SQL statements than db.query-budget.max-statements allows.
+ * Only thrown when db.query-budget.fail-on-exceed is set (the test profile).
+ */
+public class QueryBudgetExceededException extends RuntimeException {
+    public QueryBudgetExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,19 @@
+package com.website.bitsa.exception;
+
+
+/**
+ * A backlog is full and the request cannot be accepted right now; the client may retry after the given number of seconds.
+ */
+public class ServiceUnavailableException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceUnavailableException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,38 @@
+package com.website.bitsa.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * One login: the session id shared by its access and refresh tokens, and the id (jti) of the only
+ * refresh token that may still be used. Rotating the refresh token replaces refreshTokenId.
+ */
+@Entity
+@Table(name = "auth_sessions")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AuthSession {
+
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "refresh_token_id", nullable = false, length = 36)
+    private String refreshTokenId;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
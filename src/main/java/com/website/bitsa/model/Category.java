@@ -1,8 +1,11 @@
 package com.website.bitsa.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnore; // <-- 1. THIS IMPORT IS CRITICAL
+import com.website.bitsa.service.ContentVersionListener;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -12,6 +15,8 @@ import java.util.Set;
 
 @Entity
 @Table(name = "categories")
+@EntityListeners(ContentVersionListener.class)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)  // Read by every post response, written only when post counts change
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -1,6 +1,7 @@
 package com.website.bitsa.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnore; // <-- 1. IMPORT THIS
+import com.website.bitsa.service.ContentVersionListener;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -10,6 +11,12 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "comments")
+@EntityListeners(ContentVersionListener.class)
+@NamedEntityGraph(
+        name = "Comment.summary",
+        attributeNodes = @NamedAttributeNode(value = "user", subgraph = "user"),
+        subgraphs = @NamedSubgraph(name = "user", attributeNodes = @NamedAttributeNode("role"))
+)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -1,9 +1,11 @@
 package com.website.bitsa.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.website.bitsa.service.ContentVersionListener;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
@@ -12,6 +14,16 @@ import java.util.Set;
 
 @Entity
 @Table(name = "events")
+@EntityListeners(ContentVersionListener.class)
+@DynamicUpdate  // Entity saves must not overwrite current_attendees, which changes through atomic UPDATEs
+@NamedEntityGraph(
+        name = "Event.summary",
+        attributeNodes = {
+                @NamedAttributeNode("eventType"),
+                @NamedAttributeNode(value = "creator", subgraph = "creator")
+        },
+        subgraphs = @NamedSubgraph(name = "creator", attributeNodes = @NamedAttributeNode("role"))
+)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -283,11 +295,4 @@ public class Event {
                     .trim();
         }
     }
-
-    /**
-     * Increment view count
-     */
-    public void incrementViewCount() {
-        this.viewCount = (this.viewCount == null ? 0 : this.viewCount) + 1;
-    }
 }
\ No newline at end of file
@@ -10,6 +10,14 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "event_registrations",
         uniqueConstraints = @UniqueConstraint(columnNames = {"event_id", "user_id"}))
+@NamedEntityGraph(
+        name = "EventRegistration.summary",
+        attributeNodes = {
+                @NamedAttributeNode("event"),
+                @NamedAttributeNode(value = "user", subgraph = "user")
+        },
+        subgraphs = @NamedSubgraph(name = "user", attributeNodes = @NamedAttributeNode("role"))
+)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -46,7 +54,7 @@ public class EventRegistration {
 
     @Column(name = "attendance_status", length = 50)
     @Builder.Default
-    private String attendanceStatus = "REGISTERED";  // REGISTERED, ATTENDED, NO_SHOW, CANCELLED
+    private String attendanceStatus = "REGISTERED";  // REGISTERED, WAITLISTED, ATTENDED, NO_SHOW, CANCELLED
 
     @Column(name = "is_waitlisted")
     @Builder.Default
@@ -132,6 +140,19 @@ public class EventRegistration {
         this.attendanceStatus = "CANCELLED";
     }
 
+    /**
+     * Re-activate a cancelled registration (the (event, user) pair is unique, so the row is reused)
+     */
+    public void reactivate() {
+        this.isCancelled = false;
+        this.cancelledAt = null;
+        this.cancellationReason = null;
+        this.attendanceStatus = "REGISTERED";
+        this.isWaitlisted = false;
+        this.waitlistPosition = null;
+        this.registrationDate = LocalDateTime.now();
+    }
+
     /**
      * Move from waitlist to confirmed
      */
@@ -147,6 +168,7 @@ public class EventRegistration {
     public void addToWaitlist(int position) {
         this.isWaitlisted = true;
         this.waitlistPosition = position;
+        this.attendanceStatus = "WAITLISTED";
     }
 
     /**
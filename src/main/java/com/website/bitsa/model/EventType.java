@@ -1,8 +1,11 @@
 package com.website.bitsa.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnore; // <-- 1. IMPORT THIS
+import com.website.bitsa.service.ContentVersionListener;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -12,6 +15,8 @@ import java.util.Set;
 
 @Entity
 @Table(name = "event_types")
+@EntityListeners(ContentVersionListener.class)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
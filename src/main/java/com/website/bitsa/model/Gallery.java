@@ -1,15 +1,21 @@
 package com.website.bitsa.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.website.bitsa.service.ContentVersionListener;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
 
 @Entity
 @Table(name = "gallery")
+@EntityListeners(ContentVersionListener.class)
+@DynamicUpdate  // Entity saves must not overwrite view_count, which ViewCountBuffer adds to
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -65,6 +71,19 @@ public class Gallery {
     @Column(length = 500)
     private String tags;  // Comma-separated: "hackathon,2024,coding"
 
+    /**
+     * Normalized form of tags, kept in sync by TagService (gallery_tags)
+     */
+    @ManyToMany
+    @JoinTable(name = "gallery_tags",
+            joinColumns = @JoinColumn(name = "gallery_id"),
+            inverseJoinColumns = @JoinColumn(name = "tag_id"))
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @Builder.Default
+    @JsonIgnore
+    private Set<Tag> tagIndex = new HashSet<>();
+
     @Column(name = "event_date")
     private LocalDateTime eventDate;  // When photo was taken
 
@@ -84,7 +103,7 @@ public class Gallery {
 
     // ========== ENGAGEMENT ==========
 
-    @Column(name = "view_count")
+    @Column(name = "view_count", updatable = false)  // Only ever incremented by ViewCountBuffer
     @Builder.Default
     private Integer viewCount = 0;
 
@@ -104,13 +123,6 @@ public class Gallery {
 
     // ========== HELPER METHODS ==========
 
-    /**
-     * Increment view count
-     */
-    public void incrementViewCount() {
-        this.viewCount = (this.viewCount == null ? 0 : this.viewCount) + 1;
-    }
-
     /**
      * Increment like count
      */
@@ -1,9 +1,12 @@
 package com.website.bitsa.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnore; // <-- 1. MAKE SURE THIS IS IMPORTED
+import com.website.bitsa.service.ContentVersionListener;
+import com.website.bitsa.util.PostRenderer;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
@@ -12,6 +15,16 @@ import java.util.Set;
 
 @Entity
 @Table(name = "posts")
+@EntityListeners(ContentVersionListener.class)
+@DynamicUpdate  // Entity saves must not overwrite view_count and last_viewed_at, which ViewCountBuffer adds to
+@NamedEntityGraph(
+        name = "Post.summary",
+        attributeNodes = {
+                @NamedAttributeNode(value = "author", subgraph = "author"),
+                @NamedAttributeNode("category")
+        },
+        subgraphs = @NamedSubgraph(name = "author", attributeNodes = @NamedAttributeNode("role"))
+)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -50,6 +63,19 @@ public class Post {
     @JsonIgnore // <-- 2. THIS IS THE FIX. It stops the loop.
     private Set<Comment> comments = new HashSet<>();
 
+    /**
+     * Normalized form of {@link #tags}, kept in sync by TagService; serves tag pages and filters
+     */
+    @ManyToMany
+    @JoinTable(name = "post_tags",
+            joinColumns = @JoinColumn(name = "post_id"),
+            inverseJoinColumns = @JoinColumn(name = "tag_id"))
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @Builder.Default
+    @JsonIgnore
+    private Set<Tag> tagIndex = new HashSet<>();
+
     // ========== MEDIA FIELDS ==========
 
     @Column(name = "featured_image", length = 500)
@@ -77,7 +103,7 @@ public class Post {
 
     // ========== ENGAGEMENT METRICS ==========
 
-    @Column(name = "view_count")
+    @Column(name = "view_count", updatable = false)  // Only ever incremented by ViewCountBuffer
     @Builder.Default
     private Integer viewCount = 0;
 
@@ -110,7 +136,21 @@ public class Post {
     private Integer readingTimeMinutes;
 
     @Column(name = "tags", length = 500)
-    private String tags;
+    private String tags;  // Comma-separated, as entered; tagIndex holds the normalized tags
+
+    // ========== RENDERED (PostRenderer; recomputed only when contentHash changes) ==========
+
+    @Column(name = "content_html", columnDefinition = "TEXT")
+    private String contentHtml;  // Sanitized content, served to readers
+
+    @Column(name = "rendered_excerpt", length = 500)
+    private String renderedExcerpt;  // The author's excerpt, or one taken from the content
+
+    @Column(name = "word_count")
+    private Integer wordCount;
+
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
 
     @Column(name = "language", length = 10)
     @Builder.Default
@@ -153,11 +193,6 @@ public class Post {
         decrementCommentCount();
     }
 
-    public void incrementViewCount() {
-        this.viewCount = (this.viewCount == null ? 0 : this.viewCount) + 1;
-        this.lastViewedAt = LocalDateTime.now();
-    }
-
     public void incrementLikeCount() {
         this.likeCount = (this.likeCount == null ? 0 : this.likeCount) + 1;
     }
@@ -182,21 +217,14 @@ public class Post {
         this.shareCount = (this.shareCount == null ? 0 : this.shareCount) + 1;
     }
 
+    /**
+     * BlogService renders before saving; this only covers posts saved straight through the repository.
+     * Updates have no callback, so view and comment count writes never re-render.
+     */
     @PrePersist
-    @PreUpdate
-    public void generateSlugAndMetadata() {
-        if (this.slug == null || this.slug.isEmpty()) {
-            this.slug = this.title
-                    .toLowerCase()
-                    .replaceAll("[^a-z0-9\\s-]", "")
-                    .replaceAll("\\s+", "-")
-                    .replaceAll("-+", "-")
-                    .trim();
-        }
-
-        if (this.readingTimeMinutes == null && this.content != null) {
-            int wordCount = this.content.split("\\s+").length;
-            this.readingTimeMinutes = Math.max(1, wordCount / 200);
+    public void onCreate() {
+        if (this.contentHash == null) {
+            PostRenderer.render(this);
         }
 
         if (this.isPublished && this.publishedAt == null) {
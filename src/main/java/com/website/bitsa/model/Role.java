@@ -3,6 +3,8 @@ package com.website.bitsa.model;
 import com.fasterxml.jackson.annotation.JsonIgnore; // <-- 1. IMPORT THIS
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -12,6 +14,7 @@ import java.util.Set;
 
 @Entity
 @Table(name = "roles")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)  // Loaded with every user on authentication
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,64 @@
+package com.website.bitsa.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Normalized tag shared by posts and gallery images (post_tags / gallery_tags).
+ * No equals/hashCode override: within a persistence context each tag is one instance,
+ * which is what the owners' tag sets rely on.
+ */
+@Entity
+@Table(name = "tags", uniqueConstraints = @UniqueConstraint(name = "uk_tags_name", columnNames = "name"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Tag {
+
+    public static final int MAX_NAME_LENGTH = 100;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = MAX_NAME_LENGTH)
+    private String name;  // Normalized: "spring boot"
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    // ========== HELPER METHODS ==========
+
+    /**
+     * Canonical form of a tag: trimmed and lower-cased, so "Java " and "java" are one tag
+     */
+    public static String normalize(String tag) {
+        return tag.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Distinct normalized tags of a comma-separated list, in order of appearance
+     */
+    public static Set<String> parse(String tags) {
+        Set<String> names = new LinkedHashSet<>();
+        if (tags == null || tags.isBlank()) {
+            return names;
+        }
+        for (String tag : tags.split(",")) {
+            String name = normalize(tag);
+            if (!name.isEmpty()) {
+                names.add(name);
+            }
+        }
+        return names;
+    }
+}
@@ -0,0 +1,39 @@
+package com.website.bitsa.repository;
+
+import com.website.bitsa.model.AuthSession;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface AuthSessionRepository extends JpaRepository<AuthSession, String> {
+
+    /**
+     * Conditional update: only the current refresh token of a live session can be swapped for the next
+     * one, so of two uses of the same token (a replay, or a race between nodes) exactly one succeeds
+     */
+    @Modifying
+    @Query("UPDATE AuthSession s SET s.refreshTokenId = :next, s.expiresAt = :expiresAt " +
+            "WHERE s.id = :id AND s.refreshTokenId = :current AND s.expiresAt > :now")
+    int rotate(@Param("id") String id,
+               @Param("current") String current,
+               @Param("next") String next,
+               @Param("expiresAt") LocalDateTime expiresAt,
+               @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM AuthSession s WHERE s.id = :id")
+    int deleteSession(@Param("id") String id);
+
+    @Modifying
+    @Query("DELETE FROM AuthSession s WHERE s.userId = :userId")
+    int deleteByUser(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("DELETE FROM AuthSession s WHERE s.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -3,7 +3,10 @@ package com.website.bitsa.repository;
 
 
 import com.website.bitsa.model.Category;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -15,11 +18,13 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
     /**
      * Find category by name
      */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     Optional<Category> findByName(String name);
 
     /**
      * Find category by slug
      */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     Optional<Category> findBySlug(String slug);
 
     /**
@@ -30,6 +35,7 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
     /**
      * Find all active categories
      */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     List<Category> findByIsActiveTrueOrderByDisplayOrderAsc();
 
     /**
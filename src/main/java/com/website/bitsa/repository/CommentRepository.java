@@ -1,6 +1,7 @@
 package com.website.bitsa.repository;
 
 import com.website.bitsa.model.Comment;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -16,6 +17,7 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      * Find all approved comments for a post (Public View)
      * USED IN: BlogService.getPostComments
      */
+    @EntityGraph("Comment.summary")
     List<Comment> findByPostIdAndIsApprovedTrueOrderByCreatedAtDesc(Long postId);
 
     /**
@@ -51,6 +53,7 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      * Find all pending comments (not approved, not flagged)
      * USED IN: BlogService.getPendingComments
      */
+    @EntityGraph("Comment.summary")
     List<Comment> findByIsApprovedFalseAndIsFlaggedFalseOrderByCreatedAtDesc();
 
     /**
@@ -68,6 +71,11 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      */
     long countByIsApprovedFalseAndIsFlaggedFalse();
 
+    /**
+     * Count pending comments on a post
+     */
+    long countByPostIdAndIsApprovedFalseAndIsFlaggedFalse(Long postId);
+
     /**
      * Count flagged comments
      */
@@ -115,7 +115,7 @@ public interface ContactMessageRepository extends JpaRepository<ContactMessage,
     /**
      * Find messages from today
      */
-    @Query("SELECT m FROM ContactMessage m WHERE DATE(m.createdAt) = CURRENT_DATE ORDER BY m.createdAt DESC")
+    @Query("SELECT m FROM ContactMessage m WHERE CAST(m.createdAt AS date) = CURRENT_DATE ORDER BY m.createdAt DESC")
     List<ContactMessage> findTodaysMessages();
 
     // ========== ADMIN QUERIES ==========
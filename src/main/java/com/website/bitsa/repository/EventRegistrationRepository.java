@@ -2,11 +2,16 @@ package com.website.bitsa.repository;
 
 
 import com.website.bitsa.model.EventRegistration;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -59,7 +64,9 @@ public interface EventRegistrationRepository extends JpaRepository<EventRegistra
 
     /**
      * Find upcoming event registrations for user
+     * USED IN: EventController.getMyRegistrations (reads event title and user name)
      */
+    @EntityGraph("EventRegistration.summary")
     @Query("SELECT r FROM EventRegistration r WHERE r.user.id = :userId AND r.isCancelled = false AND " +
             "r.event.dateTime > CURRENT_TIMESTAMP ORDER BY r.event.dateTime ASC")
     List<EventRegistration> findUpcomingRegistrationsByUser(@Param("userId") Long userId);
@@ -86,6 +93,64 @@ public interface EventRegistrationRepository extends JpaRepository<EventRegistra
      */
     boolean existsByEventIdAndUserIdAndIsCancelledFalse(Long eventId, Long userId);
 
+    // ========== WAITLIST ==========
+
+    /**
+     * Highest position currently waiting (0 when the waitlist is empty)
+     */
+    @Query("SELECT COALESCE(MAX(r.waitlistPosition), 0) FROM EventRegistration r " +
+            "WHERE r.event.id = :eventId AND r.isWaitlisted = true AND r.isCancelled = false")
+    int findMaxWaitlistPosition(@Param("eventId") Long eventId);
+
+    /**
+     * Ids at the head of the waitlist, first in line first
+     */
+    @Query("SELECT r.id FROM EventRegistration r " +
+            "WHERE r.event.id = :eventId AND r.isWaitlisted = true AND r.isCancelled = false " +
+            "ORDER BY r.waitlistPosition ASC, r.id ASC")
+    List<Long> findWaitlistHeadIds(@Param("eventId") Long eventId, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE EventRegistration r SET r.isWaitlisted = false, r.waitlistPosition = null, " +
+            "r.attendanceStatus = 'REGISTERED', r.updatedAt = :now WHERE r.id IN :ids")
+    int promoteFromWaitlist(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * Claim a cancelled registration for renewal; returns 0 if it is already active again
+     */
+    @Modifying
+    @Query("UPDATE EventRegistration r SET r.isCancelled = false, r.updatedAt = :now " +
+            "WHERE r.id = :id AND r.isCancelled = true")
+    int reactivateIfCancelled(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    // ========== CANCELLATION ==========
+
+    /**
+     * Cancel a registration only if it is still active; returns 0 if it was already cancelled
+     */
+    @Modifying
+    @Query("UPDATE EventRegistration r SET r.isCancelled = true, r.cancelledAt = :now, r.updatedAt = :now, " +
+            "r.cancellationReason = :reason, r.attendanceStatus = 'CANCELLED' " +
+            "WHERE r.id = :id AND r.isCancelled = false")
+    int cancelIfActive(@Param("id") Long id, @Param("reason") String reason, @Param("now") LocalDateTime now);
+
+    /**
+     * Confirmed (seat-holding) registrations among the given ids
+     */
+    @Query("SELECT COUNT(r) FROM EventRegistration r WHERE r.id IN :ids AND r.event.id = :eventId " +
+            "AND r.isCancelled = false AND r.isWaitlisted = false")
+    long countConfirmedAmong(@Param("eventId") Long eventId, @Param("ids") Collection<Long> ids);
+
+    /**
+     * Cancel many registrations of one event in a single statement
+     */
+    @Modifying
+    @Query("UPDATE EventRegistration r SET r.isCancelled = true, r.cancelledAt = :now, r.updatedAt = :now, " +
+            "r.cancellationReason = :reason, r.attendanceStatus = 'CANCELLED' " +
+            "WHERE r.id IN :ids AND r.event.id = :eventId AND r.isCancelled = false")
+    int cancelAllIfActive(@Param("eventId") Long eventId, @Param("ids") Collection<Long> ids,
+                          @Param("reason") String reason, @Param("now") LocalDateTime now);
+
     // ========== ATTENDANCE TRACKING ==========
 
     /**
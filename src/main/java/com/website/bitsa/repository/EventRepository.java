@@ -1,41 +1,113 @@
 package com.website.bitsa.repository;
 
 import com.website.bitsa.model.Event;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface EventRepository extends JpaRepository<Event, Long> {
 
-    // --- 1. Find UPCOMING events (Public) ---
-    @Query("SELECT e FROM Event e WHERE e.dateTime > :now AND e.isPublished = true AND e.isCancelled = false ORDER BY e.dateTime ASC")
-    List<Event> findUpcomingEvents(@Param("now") LocalDateTime now);
+    // --- 1. Find UPCOMING events (Public, keyset on dateTime ASC, id ASC) ---
+    @EntityGraph("Event.summary")
+    @Query("SELECT e FROM Event e WHERE e.dateTime > :now AND e.isPublished = true AND e.isCancelled = false ORDER BY e.dateTime ASC, e.id ASC")
+    List<Event> findUpcomingEvents(@Param("now") LocalDateTime now, Pageable pageable);
 
-    // --- 2. Find PAST events (Public) ---
-    @Query("SELECT e FROM Event e WHERE e.dateTime < :now AND e.isPublished = true ORDER BY e.dateTime DESC")
-    List<Event> findPastEvents(@Param("now") LocalDateTime now);
+    @EntityGraph("Event.summary")
+    @Query("SELECT e FROM Event e WHERE e.dateTime > :now AND e.isPublished = true AND e.isCancelled = false AND " +
+            "(e.dateTime > :dateTime OR (e.dateTime = :dateTime AND e.id > :id)) ORDER BY e.dateTime ASC, e.id ASC")
+    List<Event> findUpcomingEventsAfterCursor(@Param("now") LocalDateTime now,
+                                              @Param("dateTime") LocalDateTime dateTime,
+                                              @Param("id") Long id,
+                                              Pageable pageable);
+
+    // --- 2. Find PAST events (Public, keyset on dateTime DESC, id DESC) ---
+    @EntityGraph("Event.summary")
+    @Query("SELECT e FROM Event e WHERE e.dateTime < :now AND e.isPublished = true ORDER BY e.dateTime DESC, e.id DESC")
+    List<Event> findPastEvents(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @EntityGraph("Event.summary")
+    @Query("SELECT e FROM Event e WHERE e.dateTime < :now AND e.isPublished = true AND " +
+            "(e.dateTime < :dateTime OR (e.dateTime = :dateTime AND e.id < :id)) ORDER BY e.dateTime DESC, e.id DESC")
+    List<Event> findPastEventsAfterCursor(@Param("now") LocalDateTime now,
+                                          @Param("dateTime") LocalDateTime dateTime,
+                                          @Param("id") Long id,
+                                          Pageable pageable);
 
     // --- 3. Find FEATURED upcoming events (Public) ---
+    @EntityGraph("Event.summary")
     @Query("SELECT e FROM Event e WHERE e.isFeatured = true AND e.dateTime > :now AND e.isPublished = true ORDER BY e.dateTime ASC")
     List<Event> findFeaturedUpcomingEvents(@Param("now") LocalDateTime now);
 
     // --- 4. Find events by TYPE (Public) ---
+    @EntityGraph("Event.summary")
     @Query("SELECT e FROM Event e WHERE e.eventType.id = :typeId AND e.dateTime > :now AND e.isPublished = true ORDER BY e.dateTime ASC")
     List<Event> findUpcomingEventsByType(@Param("typeId") Long typeId, @Param("now") LocalDateTime now);
 
     // --- 5. Find single event by SLUG (Public) ---
+    @EntityGraph("Event.summary")
     Optional<Event> findBySlugAndIsPublishedTrue(String slug);
 
+    @Query("SELECT e.id FROM Event e WHERE e.slug = :slug AND e.isPublished = true")
+    Optional<Long> findPublishedIdBySlug(@Param("slug") String slug);
+
     // --- 6. Find ALL events sorted by date (Admin) ---
+    @EntityGraph("Event.summary")
     List<Event> findAllByOrderByDateTimeDesc();
 
-    // --- 7. Count Upcoming Events (Dashboard) ---
+    // --- 7. Seat reservation (atomic, no read-modify-write) ---
+    // Each update stamps updatedAt: seat counts are part of the public event responses' HTTP validators
+
+    /**
+     * Take one seat if any is left; returns 0 when the event is full
+     */
+    @Modifying
+    @Query("UPDATE Event e SET e.currentAttendees = COALESCE(e.currentAttendees, 0) + 1, e.updatedAt = :now " +
+            "WHERE e.id = :id AND (e.maxAttendees IS NULL OR COALESCE(e.currentAttendees, 0) < e.maxAttendees)")
+    int reserveSeat(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    /**
+     * Give seats back; never goes below zero
+     */
+    @Modifying
+    @Query("UPDATE Event e SET e.currentAttendees = " +
+            "CASE WHEN e.currentAttendees > :count THEN e.currentAttendees - :count ELSE 0 END, " +
+            "e.updatedAt = :now WHERE e.id = :id")
+    int releaseSeats(@Param("id") Long id, @Param("count") int count, @Param("now") LocalDateTime now);
+
+    /**
+     * Take seats unconditionally (caller holds the event lock and has checked capacity)
+     */
+    @Modifying
+    @Query("UPDATE Event e SET e.currentAttendees = COALESCE(e.currentAttendees, 0) + :count, e.updatedAt = :now " +
+            "WHERE e.id = :id")
+    int addAttendees(@Param("id") Long id, @Param("count") int count, @Param("now") LocalDateTime now);
+
+    @Query("SELECT COALESCE(e.currentAttendees, 0) FROM Event e WHERE e.id = :id")
+    int findCurrentAttendees(@Param("id") Long id);
+
+    @Query("SELECT e.id, COALESCE(e.currentAttendees, 0) FROM Event e WHERE e.id IN :ids")
+    List<Object[]> findAttendeeCounts(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Row lock that serializes waitlist changes (positions, promotions, cancellations) per event
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM Event e WHERE e.id = :id")
+    Optional<Event> findByIdForUpdate(@Param("id") Long id);
+
+    // --- 8. Count Upcoming Events (Dashboard) ---
     // THIS WAS THE MISSING METHOD CAUSING THE ERROR
     @Query("SELECT COUNT(e) FROM Event e WHERE e.dateTime > :now AND e.isPublished = true AND e.isCancelled = false")
     long countUpcomingEvents(@Param("now") LocalDateTime now);
@@ -2,7 +2,10 @@ package com.website.bitsa.repository;
 
 
 import com.website.bitsa.model.EventType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -14,11 +17,13 @@ public interface EventTypeRepository extends JpaRepository<EventType, Long> {
     /**
      * Find event type by name
      */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     Optional<EventType> findByName(String name);
 
     /**
      * Find event type by slug
      */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     Optional<EventType> findBySlug(String slug);
 
     /**
@@ -29,6 +34,7 @@ public interface EventTypeRepository extends JpaRepository<EventType, Long> {
     /**
      * Find all active event types
      */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     List<EventType> findByIsActiveTrueOrderByDisplayOrderAsc();
 
     /**
@@ -2,11 +2,14 @@ package com.website.bitsa.repository;
 
 
 import com.website.bitsa.model.Gallery;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -15,9 +18,19 @@ public interface GalleryRepository extends JpaRepository<Gallery, Long> {
     // ========== PUBLISHING QUERIES ==========
 
     /**
-     * Find all published images
+     * First page of published images (keyset on createdAt DESC, id DESC)
      */
-    List<Gallery> findByIsPublishedTrueOrderByCreatedAtDesc();
+    List<Gallery> findByIsPublishedTrueOrderByCreatedAtDescIdDesc(Pageable pageable);
+
+    /**
+     * Published images strictly after the cursor row
+     */
+    @Query("SELECT g FROM Gallery g WHERE g.isPublished = true AND " +
+            "(g.createdAt < :createdAt OR (g.createdAt = :createdAt AND g.id < :id)) " +
+            "ORDER BY g.createdAt DESC, g.id DESC")
+    List<Gallery> findPublishedAfterCursor(@Param("createdAt") LocalDateTime createdAt,
+                                           @Param("id") Long id,
+                                           Pageable pageable);
 
     /**
      * Find published images ordered by display order
@@ -42,6 +55,34 @@ public interface GalleryRepository extends JpaRepository<Gallery, Long> {
     @Query("SELECT DISTINCT g.category FROM Gallery g WHERE g.isPublished = true AND g.category IS NOT NULL")
     List<String> findAllCategories();
 
+    // ========== TAG QUERIES (gallery_tags, keyset on createdAt, id) ==========
+
+    /**
+     * First page of ids of published images carrying at least :required of the given tags
+     * (1 = any of them, tagIds.size() = all of them); gallery_tags is read by tag id first
+     */
+    @Query(value = "SELECT g.id FROM (SELECT gallery_id FROM gallery_tags WHERE tag_id IN (:tagIds) " +
+            "GROUP BY gallery_id HAVING COUNT(*) >= :required) m JOIN gallery g ON g.id = m.gallery_id " +
+            "WHERE g.is_published = TRUE " +
+            "ORDER BY g.created_at DESC, g.id DESC LIMIT :limit", nativeQuery = true)
+    List<Long> findPublishedIdsByTags(@Param("tagIds") Collection<Long> tagIds,
+                                      @Param("required") long required,
+                                      @Param("limit") int limit);
+
+    /**
+     * Same as findPublishedIdsByTags, strictly after the cursor row
+     */
+    @Query(value = "SELECT g.id FROM (SELECT gallery_id FROM gallery_tags WHERE tag_id IN (:tagIds) " +
+            "GROUP BY gallery_id HAVING COUNT(*) >= :required) m JOIN gallery g ON g.id = m.gallery_id " +
+            "WHERE g.is_published = TRUE " +
+            "AND (g.created_at < :createdAt OR (g.created_at = :createdAt AND g.id < :id)) " +
+            "ORDER BY g.created_at DESC, g.id DESC LIMIT :limit", nativeQuery = true)
+    List<Long> findPublishedIdsByTagsAfterCursor(@Param("tagIds") Collection<Long> tagIds,
+                                                 @Param("required") long required,
+                                                 @Param("createdAt") LocalDateTime createdAt,
+                                                 @Param("id") Long id,
+                                                 @Param("limit") int limit);
+
     // ========== UPLOADER QUERIES ==========
 
     /**
@@ -1,41 +1,73 @@
 package com.website.bitsa.repository;
 
+import com.website.bitsa.dto.response.PostSummaryResponse;
 import com.website.bitsa.model.Post;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
 
-    // ========== PUBLISHING QUERIES ==========
-
-    List<Post> findByIsPublishedTrueOrderByPublishedAtDesc();
-
-    Page<Post> findByIsPublishedTrue(Pageable pageable);
-
+    /**
+     * List projection: the card columns plus author and category names, never the content
+     */
+    String SUMMARY = "SELECT new com.website.bitsa.dto.response.PostSummaryResponse(" +
+            "p.id, p.title, p.renderedExcerpt, p.slug, a.name, c.name, p.featuredImage, p.isPublished, p.isFeatured, " +
+            "p.viewCount, p.likeCount, p.commentCount, p.readingTimeMinutes, p.wordCount, p.tags, " +
+            "p.publishedAt, p.createdAt) FROM Post p JOIN p.author a JOIN p.category c ";
+
+    // ========== KEYSET PAGINATION (publishedAt, id) ==========
+
+    /**
+     * First page of published post summaries (Pageable only carries the limit)
+     */
+    @Query(SUMMARY + "WHERE p.isPublished = true ORDER BY p.publishedAt DESC, p.id DESC")
+    List<PostSummaryResponse> findPublishedSummaries(Pageable pageable);
+
+    /**
+     * Published post summaries strictly after the cursor row
+     */
+    @Query(SUMMARY + "WHERE p.isPublished = true AND " +
+            "(p.publishedAt < :publishedAt OR (p.publishedAt = :publishedAt AND p.id < :id)) " +
+            "ORDER BY p.publishedAt DESC, p.id DESC")
+    List<PostSummaryResponse> findPublishedSummariesAfterCursor(@Param("publishedAt") LocalDateTime publishedAt,
+                                                                @Param("id") Long id,
+                                                                Pageable pageable);
+
+    @EntityGraph("Post.summary")
     List<Post> findByIsPublishedFalseOrderByCreatedAtDesc();
 
+    @EntityGraph("Post.summary")
     Optional<Post> findBySlugAndIsPublishedTrue(String slug);
 
+    // Counting a view on a 304 needs only the id
+    @Query("SELECT p.id FROM Post p WHERE p.slug = :slug AND p.isPublished = true")
+    Optional<Long> findPublishedIdBySlug(@Param("slug") String slug);
+
     // ========== FEATURED & PINNED ==========
 
-    List<Post> findByIsFeaturedTrueAndIsPublishedTrueOrderByPublishedAtDesc();
+    @Query(SUMMARY + "WHERE p.isFeatured = true AND p.isPublished = true ORDER BY p.publishedAt DESC")
+    List<PostSummaryResponse> findFeaturedSummaries();
 
+    @EntityGraph("Post.summary")
     List<Post> findByIsPinnedTrueAndIsPublishedTrueOrderByPublishedAtDesc();
 
     // ========== CATEGORY QUERIES (FIXED) ==========
 
-    @Query("SELECT p FROM Post p WHERE p.category.id = :categoryId AND p.isPublished = true ORDER BY p.publishedAt DESC")
-    List<Post> findByCategoryIdAndIsPublishedTrueOrderByPublishedAtDesc(@Param("categoryId") Long categoryId);
+    @Query(SUMMARY + "WHERE c.id = :categoryId AND p.isPublished = true ORDER BY p.publishedAt DESC")
+    List<PostSummaryResponse> findPublishedSummariesByCategoryId(@Param("categoryId") Long categoryId);
 
+    @EntityGraph("Post.summary")
     @Query("SELECT p FROM Post p WHERE p.category.id = :categoryId AND p.isPublished = true")
     Page<Post> findByCategoryIdAndIsPublishedTrue(@Param("categoryId") Long categoryId, Pageable pageable);
 
@@ -44,39 +76,76 @@ public interface PostRepository extends JpaRepository<Post, Long> {
 
     // ========== AUTHOR QUERIES ==========
 
+    @EntityGraph("Post.summary")
     List<Post> findByAuthorIdOrderByCreatedAtDesc(Long authorId);
 
+    @EntityGraph("Post.summary")
     List<Post> findByAuthorIdAndIsPublishedTrueOrderByPublishedAtDesc(Long authorId);
 
     long countByAuthorId(Long authorId);
 
-    // ========== SEARCH QUERIES ==========
-
-    List<Post> findByTitleContainingIgnoreCaseAndIsPublishedTrue(String keyword);
-
-    @Query("SELECT p FROM Post p WHERE p.isPublished = true AND " +
-            "(LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "LOWER(p.content) LIKE LOWER(CONCAT('%', :keyword, '%')))")
-    List<Post> searchPosts(@Param("keyword") String keyword);
-
-    @Query("SELECT p FROM Post p WHERE p.isPublished = true AND " +
-            "(LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "LOWER(p.content) LIKE LOWER(CONCAT('%', :keyword, '%')))")
-    Page<Post> searchPosts(@Param("keyword") String keyword, Pageable pageable);
-
-    // ========== TAGS QUERIES ==========
-
-    @Query("SELECT p FROM Post p WHERE p.isPublished = true AND p.tags LIKE %:tag%")
-    List<Post> findByTag(@Param("tag") String tag);
+    // ========== SEARCH INDEX ==========
+
+    /**
+     * (id, updatedAt) of every published post, used to reconcile the search index on startup
+     */
+    @Query("SELECT p.id, p.updatedAt FROM Post p WHERE p.isPublished = true")
+    List<Object[]> findPublishedIndexStamps();
+
+    @EntityGraph("Post.summary")
+    List<Post> findByIdIn(Collection<Long> ids);
+
+    /**
+     * (id, category name, author name) of search hits; names are read per search, not indexed, so
+     * renaming a category or an author never leaves the index behind
+     */
+    @Query("SELECT p.id, c.name, a.name FROM Post p JOIN p.category c JOIN p.author a WHERE p.id IN :ids")
+    List<Object[]> findCategoryAndAuthorNames(@Param("ids") Collection<Long> ids);
+
+    @Query(SUMMARY + "WHERE p.id IN :ids")
+    List<PostSummaryResponse> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // ========== TAG QUERIES (post_tags, keyset on publishedAt, id) ==========
+
+    /**
+     * First page of ids of published posts carrying at least :required of the given tags.
+     * The grouped derived table reads only those tags' rows of post_tags (tag_id, post_id), and posts
+     * are then joined by primary key; required = 1 means any of the tags, tagIds.size() means all of them.
+     */
+    @Query(value = "SELECT p.id FROM (SELECT post_id FROM post_tags WHERE tag_id IN (:tagIds) " +
+            "GROUP BY post_id HAVING COUNT(*) >= :required) m JOIN posts p ON p.id = m.post_id " +
+            "WHERE p.is_published = TRUE " +
+            "ORDER BY p.published_at DESC, p.id DESC LIMIT :limit", nativeQuery = true)
+    List<Long> findPublishedIdsByTags(@Param("tagIds") Collection<Long> tagIds,
+                                      @Param("required") long required,
+                                      @Param("limit") int limit);
+
+    /**
+     * Same as findPublishedIdsByTags, strictly after the cursor row
+     */
+    @Query(value = "SELECT p.id FROM (SELECT post_id FROM post_tags WHERE tag_id IN (:tagIds) " +
+            "GROUP BY post_id HAVING COUNT(*) >= :required) m JOIN posts p ON p.id = m.post_id " +
+            "WHERE p.is_published = TRUE " +
+            "AND (p.published_at < :publishedAt OR (p.published_at = :publishedAt AND p.id < :id)) " +
+            "ORDER BY p.published_at DESC, p.id DESC LIMIT :limit", nativeQuery = true)
+    List<Long> findPublishedIdsByTagsAfterCursor(@Param("tagIds") Collection<Long> tagIds,
+                                                 @Param("required") long required,
+                                                 @Param("publishedAt") LocalDateTime publishedAt,
+                                                 @Param("id") Long id,
+                                                 @Param("limit") int limit);
 
     // ========== STATISTICS & ANALYTICS ==========
 
+    @EntityGraph("Post.summary")
     List<Post> findTop10ByIsPublishedTrueOrderByViewCountDesc();
 
+    @EntityGraph("Post.summary")
     List<Post> findTop10ByIsPublishedTrueOrderByLikeCountDesc();
 
+    @EntityGraph("Post.summary")
     List<Post> findTop10ByIsPublishedTrueOrderByCommentCountDesc();
 
+    @EntityGraph("Post.summary")
     @Query("SELECT p FROM Post p WHERE p.isPublished = true AND p.publishedAt > :date ORDER BY p.publishedAt DESC")
     List<Post> findRecentPosts(@Param("date") LocalDateTime date);
 
@@ -87,7 +156,12 @@ public interface PostRepository extends JpaRepository<Post, Long> {
 
     // ========== RELATED POSTS (FIXED) ==========
 
+    @EntityGraph("Post.summary")
     @Query("SELECT p FROM Post p WHERE p.category.id = :categoryId AND p.id != :postId AND p.isPublished = true ORDER BY p.publishedAt DESC")
     List<Post> findRelatedPosts(@Param("categoryId") Long categoryId, @Param("postId") Long postId, Pageable pageable);
-    List<Post> findAllByOrderByCreatedAtDesc();
+
+    // ========== ADMIN ==========
+
+    @Query(SUMMARY + "ORDER BY p.createdAt DESC")
+    List<PostSummaryResponse> findAllSummaries();
 }
\ No newline at end of file
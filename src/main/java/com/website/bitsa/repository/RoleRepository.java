@@ -2,7 +2,10 @@ package com.website.bitsa.repository;
 
 
 import com.website.bitsa.model.Role;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -14,6 +17,7 @@ public interface RoleRepository extends JpaRepository<Role, Long> {
     /**
      * Find role by name (e.g., "STUDENT", "ADMIN")
      */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     Optional<Role> findByName(String name);
 
     /**
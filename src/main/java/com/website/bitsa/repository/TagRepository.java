@@ -0,0 +1,46 @@
+package com.website.bitsa.repository;
+
+import com.website.bitsa.model.Tag;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TagRepository extends JpaRepository<Tag, Long> {
+
+    /**
+     * Find tags by normalized name (unique index seek per name)
+     */
+    List<Tag> findByNameIn(Collection<String> names);
+
+    /**
+     * Same lookup as a locking read, which also sees tags committed after the transaction's snapshot
+     */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT t FROM Tag t WHERE t.name IN :names")
+    List<Tag> findCommittedByNameIn(@Param("names") Collection<String> names);
+
+    // ========== TAG CLOUD ==========
+
+    /**
+     * (name, published post count) for every tag on at least one published post
+     */
+    @Query(value = "SELECT t.name, COUNT(*) FROM post_tags pt " +
+            "JOIN posts p ON p.id = pt.post_id JOIN tags t ON t.id = pt.tag_id " +
+            "WHERE p.is_published = TRUE GROUP BY t.name", nativeQuery = true)
+    List<Object[]> countPublishedPostsByTag();
+
+    /**
+     * (name, published image count) for every tag on at least one published image
+     */
+    @Query(value = "SELECT t.name, COUNT(*) FROM gallery_tags gt " +
+            "JOIN gallery g ON g.id = gt.gallery_id JOIN tags t ON t.id = gt.tag_id " +
+            "WHERE g.is_published = TRUE GROUP BY t.name", nativeQuery = true)
+    List<Object[]> countPublishedImagesByTag();
+}
@@ -0,0 +1,49 @@
+package com.website.bitsa.service;
+
+import com.website.bitsa.util.TransactionUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Service;
+
+/**
+ * Business counters exported next to the HTTP, repository and connection pool metrics.
+ * Every count is applied after commit, so rolled back requests are never counted.
+ */
+@Service
+public class ActivityMetrics {
+
+    private final Counter registrationsConfirmed;
+    private final Counter registrationsWaitlisted;
+    private final Counter commentsSubmitted;
+    private final Counter contactSubmissions;
+
+    public ActivityMetrics(MeterRegistry meterRegistry) {
+        this.registrationsConfirmed = Counter.builder("bitsa.events.registrations")
+                .description("Event registrations accepted")
+                .tag("outcome", "confirmed")
+                .register(meterRegistry);
+        this.registrationsWaitlisted = Counter.builder("bitsa.events.registrations")
+                .description("Event registrations accepted")
+                .tag("outcome", "waitlisted")
+                .register(meterRegistry);
+        this.commentsSubmitted = Counter.builder("bitsa.comments.submitted")
+                .description("Comments submitted for approval")
+                .register(meterRegistry);
+        this.contactSubmissions = Counter.builder("bitsa.contact.submissions")
+                .description("Contact form messages received")
+                .register(meterRegistry);
+    }
+
+    public void registrationAccepted(boolean waitlisted) {
+        Counter counter = waitlisted ? registrationsWaitlisted : registrationsConfirmed;
+        TransactionUtil.afterCommit(counter::increment);
+    }
+
+    public void commentSubmitted() {
+        TransactionUtil.afterCommit(commentsSubmitted::increment);
+    }
+
+    public void contactMessageSubmitted() {
+        TransactionUtil.afterCommit(contactSubmissions::increment);
+    }
+}
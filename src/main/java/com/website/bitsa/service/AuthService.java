@@ -1,6 +1,7 @@
 package com.website.bitsa.service;
 
 import com.website.bitsa.dto.request.LoginRequest;
+import com.website.bitsa.dto.request.RefreshTokenRequest;
 import com.website.bitsa.dto.request.RegisterRequest;
 import com.website.bitsa.dto.response.AuthResponse;
 import com.website.bitsa.exception.BadRequestException;
@@ -9,18 +10,20 @@ import com.website.bitsa.model.Role;
 import com.website.bitsa.model.User;
 import com.website.bitsa.repository.RoleRepository;
 import com.website.bitsa.repository.UserRepository;
-import jakarta.servlet.http.HttpServletRequest; // <-- 1. New Import
-import jakarta.servlet.http.HttpSession;      // <-- 2. New Import
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.event.AuthenticationFailureBadCredentialsEvent;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContext; // <-- 3. New Import
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
-import org.springframework.security.web.context.HttpSessionSecurityContextRepository; // <-- 4. New Import
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Locale;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
@@ -29,12 +32,20 @@ public class AuthService {
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
+    private final DashboardStatsService dashboardStatsService;
+    private final LastLoginRecorder lastLoginRecorder;
     private final AuthenticationManager authenticationManager;
+    private final JwtService jwtService;
+    private final TokenRevocationList tokenRevocationList;
+    private final AuthSessionService authSessionService;
+    private final UserDetailsCache userDetailsCache;
+    private final RateLimiter rateLimiter;
 
-    // Inject the request so we can access the session directly
-    private final HttpServletRequest httpRequest;
-
-    @Transactional
+    /**
+     * Not transactional on purpose: the password is hashed (on the bounded hashing pool)
+     * without holding a database connection; the unique email/student id constraints
+     * still reject a concurrent duplicate at save time.
+     */
     public AuthResponse register(RegisterRequest request) {
         if (userRepository.existsByEmail(request.getEmail())) {
             throw new BadRequestException("Email already registered");
@@ -44,10 +55,11 @@ public class AuthService {
         }
         Role studentRole = roleRepository.findByName("STUDENT")
                 .orElseThrow(() -> new BadRequestException("Student role not found"));
+        String encodedPassword = passwordEncoder.encode(request.getPassword());
         User user = User.builder()
                 .name(request.getName())
                 .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(encodedPassword)
                 .studentId(request.getStudentId())
                 .course(request.getCourse())
                 .year(request.getYear())
@@ -55,14 +67,23 @@ public class AuthService {
                 .isActive(true)
                 .isEmailVerified(false)
                 .build();
-        userRepository.save(user);
+        try {
+            userRepository.save(user);
+        } catch (DataIntegrityViolationException ex) {
+            // A concurrent registration with the same email or student ID won the unique constraint
+            throw new BadRequestException("Email or Student ID already registered");
+        }
+        dashboardStatsService.recordUser(user, false, true);
         return AuthResponse.builder()
                 .message("Registration successful! Please login.")
                 .build();
     }
 
     public AuthResponse login(LoginRequest request) {
-        // 1. Authenticate
+        // Per-IP limits run in RateLimitFilter; this one stops password guessing spread across many IPs.
+        // Only failed attempts use it up (see onBadCredentials)
+        rateLimiter.checkRemaining(RateLimiter.Route.LOGIN, RateLimiter.Scope.ACCOUNT, accountKey(request.getEmail()));
+
         Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(
                         request.getEmail(),
@@ -70,34 +91,76 @@ public class AuthService {
                 )
         );
 
-        // 2. Set the Context
-        SecurityContext sc = SecurityContextHolder.getContext();
-        sc.setAuthentication(authentication);
+        // User details come with the principal (inactive accounts were already rejected as disabled)
+        AuthenticatedUser user = (AuthenticatedUser) authentication.getPrincipal();
+        lastLoginRecorder.record(user.getId());
 
-        // 3. FORCE SAVE TO SESSION (The Fix)
-        // We manually grab the session and save the security context into it.
-        HttpSession session = httpRequest.getSession(true);
-        session.setAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY, sc);
+        UUID sessionId = UUID.randomUUID();
+        UUID refreshTokenId = UUID.randomUUID();
+        authSessionService.start(sessionId, user.getId(), refreshTokenId);
+        return issueTokens(user, sessionId, refreshTokenId, "Login successful");
+    }
+
+    /**
+     * Wrong password or unknown email: charge the account's login bucket
+     */
+    @EventListener
+    public void onBadCredentials(AuthenticationFailureBadCredentialsEvent event) {
+        rateLimiter.charge(RateLimiter.Route.LOGIN, RateLimiter.Scope.ACCOUNT, accountKey(event.getAuthentication().getName()));
+    }
 
-        // 4. Get User Details
-        User user = userRepository.findByEmail(request.getEmail())
-                .orElseThrow(() -> new UnauthorizedException("Error finding user after login"));
+    /**
+     * Rotates the refresh token: the presented one is retired and a new pair is issued for the same
+     * login session. The session is checked in the database (AuthSessionService), so a token that was
+     * already used, logged out or belongs to a deactivated account is refused on every node, whatever
+     * this node's revocation list and user cache still hold.
+     */
+    public AuthResponse refresh(RefreshTokenRequest request) {
+        JwtService.TokenClaims claims = jwtService.parse(request.getRefreshToken(), JwtService.TokenType.REFRESH)
+                .filter(parsed -> !tokenRevocationList.isRevoked(parsed))
+                .orElseThrow(() -> new UnauthorizedException("Invalid or expired refresh token"));
 
-        if (!user.getIsActive()) {
-            throw new UnauthorizedException("Account is deactivated");
+        AuthenticatedUser user = loadUser(claims.email());
+        if (!user.isEnabled() || !user.getId().equals(claims.userId())) {
+            throw new UnauthorizedException("Invalid or expired refresh token");
         }
 
-        user.setLastLogin(java.time.LocalDateTime.now());
-        userRepository.save(user);
+        UUID refreshTokenId = UUID.randomUUID();
+        if (!authSessionService.rotate(claims, refreshTokenId)) {
+            throw new UnauthorizedException("Invalid or expired refresh token");
+        }
+        return issueTokens(user, claims.sessionId(), refreshTokenId, "Token refreshed");
+    }
 
+    private AuthenticatedUser loadUser(String email) {
+        UserDetails cached = userDetailsCache.getUserFromCache(email);
+        if (cached instanceof AuthenticatedUser user) {
+            return user;
+        }
+        try {
+            AuthenticatedUser user = (AuthenticatedUser) jwtService.loadUserByUsername(email);
+            userDetailsCache.putUserInCache(user);
+            return user;
+        } catch (UsernameNotFoundException ex) {
+            throw new UnauthorizedException("Invalid or expired refresh token");
+        }
+    }
+
+    private AuthResponse issueTokens(AuthenticatedUser user, UUID sessionId, UUID refreshTokenId, String message) {
         return AuthResponse.builder()
-                .token(null)
-                .type("Session")
+                .token(jwtService.generateToken(user, sessionId, JwtService.TokenType.ACCESS))
+                .refreshToken(jwtService.generateToken(user, sessionId, JwtService.TokenType.REFRESH, refreshTokenId))
+                .type("Bearer")
+                .expiresIn(jwtService.getAccessExpiration().toSeconds())
                 .id(user.getId())
                 .name(user.getName())
-                .email(user.getEmail())
-                .role(user.getRole().getName())
-                .message("Login successful")
+                .email(user.getUsername())
+                .role(user.getRoleName())
+                .message(message)
                 .build();
     }
-}
\ No newline at end of file
+
+    private static String accountKey(String email) {
+        return email == null ? null : email.toLowerCase(Locale.ROOT);
+    }
+}
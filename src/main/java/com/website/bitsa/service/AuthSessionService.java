@@ -0,0 +1,70 @@
+package com.website.bitsa.service;
+
+import com.website.bitsa.model.AuthSession;
+import com.website.bitsa.repository.AuthSessionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Login sessions shared by every node, checked on each refresh.
+ * Access tokens stay lookup-free (TokenRevocationList covers them on the node that revoked them, and
+ * they expire within minutes); refresh tokens live for weeks, so logout, rotation and deactivation
+ * are recorded here and a refresh only succeeds with its session's current refresh token.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuthSessionService {
+
+    private final AuthSessionRepository authSessionRepository;
+    private final JwtService jwtService;
+
+    @Transactional
+    public void start(UUID sessionId, Long userId, UUID refreshTokenId) {
+        authSessionRepository.save(AuthSession.builder()
+                .id(sessionId.toString())
+                .userId(userId)
+                .refreshTokenId(refreshTokenId.toString())
+                .expiresAt(LocalDateTime.now().plus(jwtService.getRefreshExpiration()))
+                .build());
+    }
+
+    /**
+     * Retire the presented refresh token in favour of the next one; false when the session has ended
+     * or the token was already used
+     */
+    @Transactional
+    public boolean rotate(JwtService.TokenClaims refreshToken, UUID nextTokenId) {
+        LocalDateTime now = LocalDateTime.now();
+        return authSessionRepository.rotate(refreshToken.sessionId().toString(), refreshToken.tokenId().toString(),
+                nextTokenId.toString(), now.plus(jwtService.getRefreshExpiration()), now) == 1;
+    }
+
+    @Transactional
+    public void end(UUID sessionId) {
+        authSessionRepository.deleteSession(sessionId.toString());
+    }
+
+    /**
+     * Every login of the user (deactivation, deletion)
+     */
+    @Transactional
+    public void endAll(Long userId) {
+        authSessionRepository.deleteByUser(userId);
+    }
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${jwt.session-purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        int purged = authSessionRepository.deleteExpired(LocalDateTime.now());
+        if (purged > 0) {
+            log.debug("Purged {} expired login sessions", purged);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.website.bitsa.service;
+
+import lombok.Getter;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.List;
+
+/**
+ * Security principal carrying what the login response and controllers need
+ * (id, display name, role), so they don't have to look the user up again.
+ */
+@Getter
+public class AuthenticatedUser extends User {
+
+    private final Long id;
+    private final String name;
+    private final String roleName;
+
+    public AuthenticatedUser(Long id, String email, String password, String name, String roleName, boolean active) {
+        super(email, password, active, true, true, active,
+                List.of(new SimpleGrantedAuthority("ROLE_" + roleName)));
+        this.id = id;
+        this.name = name;
+        this.roleName = roleName;
+    }
+
+    public static AuthenticatedUser from(com.website.bitsa.model.User user) {
+        return new AuthenticatedUser(user.getId(), user.getEmail(), user.getPassword(), user.getName(),
+                user.getRole().getName(), Boolean.TRUE.equals(user.getIsActive()));
+    }
+}
@@ -1,9 +1,13 @@
 package com.website.bitsa.service;
 
+import com.website.bitsa.config.CacheConfig;
 import com.website.bitsa.dto.request.CreateCommentRequest;
 import com.website.bitsa.dto.request.CreatePostRequest;
 import com.website.bitsa.dto.response.CommentResponse;
+import com.website.bitsa.dto.response.CursorPage;
 import com.website.bitsa.dto.response.PostResponse;
+import com.website.bitsa.dto.response.PostSearchResponse;
+import com.website.bitsa.dto.response.PostSummaryResponse;
 import com.website.bitsa.exception.BadRequestException;
 import com.website.bitsa.exception.ResourceNotFoundException;
 import com.website.bitsa.model.Category;
@@ -14,75 +18,139 @@ import com.website.bitsa.repository.CategoryRepository;
 import com.website.bitsa.repository.CommentRepository;
 import com.website.bitsa.repository.PostRepository;
 import com.website.bitsa.repository.UserRepository;
+import com.website.bitsa.service.ContentVersionService.Table;
+import com.website.bitsa.service.DashboardStatsService.Stat;
+import com.website.bitsa.util.CursorUtil;
+import com.website.bitsa.util.PostRenderer;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class BlogService {
 
+    private static final int RENDER_BATCH_SIZE = 500;
+
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
     private final CategoryRepository categoryRepository;
     private final UserRepository userRepository;
+    private final ViewCountBuffer viewCountBuffer;
+    private final PostSearchService postSearchService;
+    private final TagService tagService;
+    private final CacheInvalidator cacheInvalidator;
+    private final DashboardStatsService dashboardStatsService;
+    private final DashboardStreamService dashboardStreamService;
+    private final ActivityMetrics activityMetrics;
+    private final ContentVersionService contentVersions;
+    private final JdbcTemplate jdbcTemplate;
 
     // ========== ADMIN POST OPERATIONS ==========
 
-    public List<PostResponse> getAllPostsAdmin() {
-        return postRepository.findAllByOrderByCreatedAtDesc()
-                .stream()
-                .map(this::convertToPostResponse)
-                .collect(Collectors.toList());
+    public List<PostSummaryResponse> getAllPostsAdmin() {
+        return withBufferedViews(postRepository.findAllSummaries());
     }
 
     // ========== PUBLIC POST OPERATIONS ==========
 
-    public List<PostResponse> getAllPublishedPosts() {
-        return postRepository.findByIsPublishedTrueOrderByPublishedAtDesc()
-                .stream()
-                .map(this::convertToPostResponse)
-                .collect(Collectors.toList());
+    public CursorPage<PostSummaryResponse> getPublishedPosts(String cursor, Integer limit) {
+        int pageSize = CursorUtil.normalizeLimit(limit);
+        CursorUtil.Cursor after = CursorUtil.decode(cursor);
+        Pageable fetch = PageRequest.of(0, pageSize + 1);
+
+        List<PostSummaryResponse> posts = after == null
+                ? postRepository.findPublishedSummaries(fetch)
+                : postRepository.findPublishedSummariesAfterCursor(after.timestamp(), after.id(), fetch);
+
+        return CursorPage.of(withBufferedViews(posts), pageSize, PostSummaryResponse::getPublishedAt,
+                PostSummaryResponse::getId, Function.identity());
     }
 
     public PostResponse getPostBySlug(String slug) {
         Post post = postRepository.findBySlugAndIsPublishedTrue(slug)
                 .orElseThrow(() -> new ResourceNotFoundException("Post not found with slug: " + slug));
 
-        post.incrementViewCount();
-        postRepository.save(post);
+        // View counts are written behind; the response shows the buffered total
+        viewCountBuffer.record(ViewCountBuffer.Target.POST, post.getId());
+
+        PostResponse response = convertToPostResponse(post);
+        response.setViewCount(viewCountBuffer.currentCount(ViewCountBuffer.Target.POST, post.getId(), post.getViewCount()));
+        return response;
+    }
 
-        return convertToPostResponse(post);
+    /**
+     * Count a view answered with 304 Not Modified, where the post itself was never loaded
+     */
+    public void recordView(String slug) {
+        postRepository.findPublishedIdBySlug(slug)
+                .ifPresent(id -> viewCountBuffer.record(ViewCountBuffer.Target.POST, id));
     }
 
+    /**
+     * Admin view for editing: the content as written rather than the sanitized rendering
+     */
     public PostResponse getPostById(Long id) {
         Post post = postRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Post not found with id: " + id));
-        return convertToPostResponse(post);
+        PostResponse response = convertToPostResponse(post);
+        response.setContent(post.getContent());
+        return response;
     }
 
-    public List<PostResponse> getPostsByCategory(Long categoryId) {
-        return postRepository.findByCategoryIdAndIsPublishedTrueOrderByPublishedAtDesc(categoryId)
-                .stream()
-                .map(this::convertToPostResponse)
-                .collect(Collectors.toList());
+    public List<PostSummaryResponse> getPostsByCategory(Long categoryId) {
+        return withBufferedViews(postRepository.findPublishedSummariesByCategoryId(categoryId));
     }
 
-    public List<PostResponse> searchPosts(String keyword) {
-        return postRepository.searchPosts(keyword)
-                .stream()
-                .map(this::convertToPostResponse)
-                .collect(Collectors.toList());
+    /**
+     * Published posts carrying any or all of the comma-separated tags, newest first
+     */
+    public CursorPage<PostSummaryResponse> getPostsByTags(String tags, String match, String cursor, Integer limit) {
+        int pageSize = CursorUtil.normalizeLimit(limit);
+        CursorUtil.Cursor after = CursorUtil.decode(cursor);
+        TagService.TagFilter filter = tagService.filter(tags, match);
+
+        List<Long> ids;
+        if (filter.matchesNothing()) {
+            ids = List.of();
+        } else if (after == null) {
+            ids = postRepository.findPublishedIdsByTags(filter.tagIds(), filter.required(), pageSize + 1);
+        } else {
+            ids = postRepository.findPublishedIdsByTagsAfterCursor(filter.tagIds(), filter.required(),
+                    after.timestamp(), after.id(), pageSize + 1);
+        }
+
+        List<PostSummaryResponse> posts = TagService.loadInOrder(ids, postRepository::findSummariesByIdIn,
+                PostSummaryResponse::getId);
+        return CursorPage.of(withBufferedViews(posts), pageSize, PostSummaryResponse::getPublishedAt,
+                PostSummaryResponse::getId, Function.identity());
     }
 
-    public List<PostResponse> getFeaturedPosts() {
-        return postRepository.findByIsFeaturedTrueAndIsPublishedTrueOrderByPublishedAtDesc()
-                .stream()
-                .map(this::convertToPostResponse)
-                .collect(Collectors.toList());
+    public PostSearchResponse searchPosts(String keyword, String tag, Long categoryId, Integer page, Integer size) {
+        if ((keyword == null || keyword.isBlank()) && (tag == null || tag.isBlank()) && categoryId == null) {
+            throw new BadRequestException("Provide a keyword, tag or category to search");
+        }
+        return postSearchService.search(keyword, tag, categoryId, page, size);
+    }
+
+    /**
+     * Cached, so it shows persisted view counts only (at most featuredPosts' expiry behind)
+     */
+    @Cacheable(CacheConfig.FEATURED_POSTS)
+    public List<PostSummaryResponse> getFeaturedPosts() {
+        return postRepository.findFeaturedSummaries();
     }
 
     @Transactional
@@ -113,6 +181,8 @@ public class BlogService {
         if (request.getIsPublished()) {
             post.publish();
         }
+        PostRenderer.render(post);
+        tagService.syncTags(post.getTagIndex(), post.getTags());
 
         Post savedPost = postRepository.save(post);
 
@@ -120,6 +190,13 @@ public class BlogService {
         category.incrementPostCount();
         categoryRepository.save(category);
 
+        postSearchService.indexPost(savedPost);
+        dashboardStatsService.record(Stat.TOTAL_POSTS, false, savedPost.getIsPublished());
+        cacheInvalidator.evictAfterCommit(CacheConfig.CATEGORIES);
+        if (isFeaturedAndPublished(savedPost)) {
+            cacheInvalidator.evictAfterCommit(CacheConfig.FEATURED_POSTS);
+        }
+
         return convertToPostResponse(savedPost);
     }
 
@@ -131,6 +208,9 @@ public class BlogService {
         Category category = categoryRepository.findById(request.getCategoryId())
                 .orElseThrow(() -> new ResourceNotFoundException("Category not found"));
 
+        boolean wasFeatured = isFeaturedAndPublished(post);
+        boolean wasPublished = post.getIsPublished();
+
         post.setTitle(request.getTitle());
         post.setContent(request.getContent());
         post.setExcerpt(request.getExcerpt());
@@ -143,6 +223,9 @@ public class BlogService {
         post.setTags(request.getTags());
         post.setIsFeatured(request.getIsFeatured());
         post.setCommentsEnabled(request.getCommentsEnabled());
+        // A no-op unless content, excerpt or tags changed
+        PostRenderer.render(post);
+        tagService.syncTags(post.getTagIndex(), post.getTags());
 
         if (request.getIsPublished() && !post.getIsPublished()) {
             post.publish();
@@ -151,9 +234,15 @@ public class BlogService {
         }
 
         Post updatedPost = postRepository.save(post);
+        postSearchService.indexPost(updatedPost);
+        dashboardStatsService.record(Stat.TOTAL_POSTS, wasPublished, updatedPost.getIsPublished());
+        if (wasFeatured || isFeaturedAndPublished(updatedPost)) {
+            cacheInvalidator.evictAfterCommit(CacheConfig.FEATURED_POSTS);
+        }
         return convertToPostResponse(updatedPost);
     }
 
+    @Transactional
     public void deletePost(Long id) {
         Post post = postRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Post not found"));
@@ -163,9 +252,21 @@ public class BlogService {
         category.decrementPostCount();
         categoryRepository.save(category);
 
+        // Pending comments go with the post
+        long pendingComments = commentRepository.countByPostIdAndIsApprovedFalseAndIsFlaggedFalse(id);
+
         postRepository.delete(post);
+        postSearchService.removePost(id);
+        dashboardStatsService.record(Stat.TOTAL_POSTS, post.getIsPublished(), false);
+        dashboardStatsService.record(Stat.PENDING_COMMENTS, -pendingComments);
+        cacheInvalidator.evictAfterCommit(CacheConfig.CATEGORIES);
+        cacheInvalidator.evictAfterCommit(CacheConfig.TAG_CLOUD);
+        if (isFeaturedAndPublished(post)) {
+            cacheInvalidator.evictAfterCommit(CacheConfig.FEATURED_POSTS);
+        }
     }
 
+    @Transactional
     public PostResponse togglePublish(Long id) {
         Post post = postRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Post not found"));
@@ -177,9 +278,54 @@ public class BlogService {
         }
 
         Post updatedPost = postRepository.save(post);
+        postSearchService.indexPost(updatedPost);
+        dashboardStatsService.record(Stat.TOTAL_POSTS, !updatedPost.getIsPublished(), updatedPost.getIsPublished());
+        cacheInvalidator.evictAfterCommit(CacheConfig.TAG_CLOUD);
+        if (Boolean.TRUE.equals(updatedPost.getIsFeatured())) {
+            cacheInvalidator.evictAfterCommit(CacheConfig.FEATURED_POSTS);
+        }
         return convertToPostResponse(updatedPost);
     }
 
+    // ========== RENDERING ==========
+
+    /**
+     * Render posts that were never rendered: rows from before the render columns existed and
+     * bulk-loaded data. Written with JDBC so updated_at, and with it the search index stamps, stays put.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void renderUnrenderedPosts() {
+        List<Post> pending = jdbcTemplate.query(
+                "SELECT id, title, content, excerpt, tags, slug FROM posts WHERE content_hash IS NULL",
+                (rs, rowNum) -> Post.builder()
+                        .id(rs.getLong("id"))
+                        .title(rs.getString("title"))
+                        .content(rs.getString("content"))
+                        .excerpt(rs.getString("excerpt"))
+                        .tags(rs.getString("tags"))
+                        .slug(rs.getString("slug"))
+                        .build());
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        pending.forEach(PostRenderer::render);
+        jdbcTemplate.batchUpdate("UPDATE posts SET slug = ?, tags = ?, content_html = ?, rendered_excerpt = ?, "
+                        + "word_count = ?, reading_time_minutes = ?, content_hash = ? WHERE id = ?",
+                pending, RENDER_BATCH_SIZE, (statement, post) -> {
+                    statement.setString(1, post.getSlug());
+                    statement.setString(2, post.getTags());
+                    statement.setString(3, post.getContentHtml());
+                    statement.setString(4, post.getRenderedExcerpt());
+                    statement.setInt(5, post.getWordCount());
+                    statement.setInt(6, post.getReadingTimeMinutes());
+                    statement.setString(7, post.getContentHash());
+                    statement.setLong(8, post.getId());
+                });
+        contentVersions.changed(Table.POSTS);
+        log.info("Rendered {} posts written without BlogService", pending.size());
+    }
+
     // ========== COMMENT OPERATIONS ==========
 
     public List<CommentResponse> getPostComments(Long postId) {
@@ -219,6 +365,9 @@ public class BlogService {
         // Update post comment count
         post.incrementCommentCount();
         postRepository.save(post);
+        dashboardStatsService.record(Stat.PENDING_COMMENTS, 1);
+        dashboardStreamService.commentAwaitingApproval(savedComment);
+        activityMetrics.commentSubmitted();
 
         return savedComment;
     }
@@ -227,6 +376,7 @@ public class BlogService {
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Comment not found"));
 
+        dashboardStatsService.record(Stat.PENDING_COMMENTS, comment.isPending(), false);
         comment.approve(adminId);
         return commentRepository.save(comment);
     }
@@ -241,6 +391,7 @@ public class BlogService {
         postRepository.save(post);
 
         commentRepository.delete(comment);
+        dashboardStatsService.record(Stat.PENDING_COMMENTS, comment.isPending(), false);
     }
 
     public List<CommentResponse> getPendingComments() {
@@ -257,12 +408,12 @@ public class BlogService {
 
     // ========== HELPER METHODS ==========
 
-    private PostResponse convertToPostResponse(Post post) {
+    PostResponse convertToPostResponse(Post post) {
         return PostResponse.builder()
                 .id(post.getId())
                 .title(post.getTitle())
-                .content(post.getContent())
-                .excerpt(post.getExcerpt())
+                .content(post.getContentHtml())
+                .excerpt(post.getRenderedExcerpt())
                 .slug(post.getSlug())
                 .authorName(post.getAuthor().getName())
                 .categoryName(post.getCategory().getName())
@@ -273,12 +424,22 @@ public class BlogService {
                 .likeCount(post.getLikeCount())
                 .commentCount(post.getCommentCount())
                 .readingTimeMinutes(post.getReadingTimeMinutes())
+                .wordCount(post.getWordCount())
                 .tags(post.getTagsArray())
                 .publishedAt(post.getPublishedAt())
                 .createdAt(post.getCreatedAt())
                 .build();
     }
 
+    private List<PostSummaryResponse> withBufferedViews(List<PostSummaryResponse> posts) {
+        return viewCountBuffer.withPending(ViewCountBuffer.Target.POST, posts, PostSummaryResponse::getId,
+                PostSummaryResponse::getViewCount, PostSummaryResponse::setViewCount);
+    }
+
+    private boolean isFeaturedAndPublished(Post post) {
+        return Boolean.TRUE.equals(post.getIsFeatured()) && Boolean.TRUE.equals(post.getIsPublished());
+    }
+
     public long countTotalPosts() {
         return postRepository.countByIsPublishedTrue();
     }
@@ -0,0 +1,27 @@
+package com.website.bitsa.service;
+
+import com.website.bitsa.util.TransactionUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Evicts cached reads after the writing transaction commits.
+ * Evicting earlier would let a concurrent reader re-cache the old rows before the commit.
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidator {
+
+    private final CacheManager cacheManager;
+
+    public void evictAfterCommit(String cacheName) {
+        TransactionUtil.afterCommit(() -> {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.clear();
+            }
+        });
+    }
+}
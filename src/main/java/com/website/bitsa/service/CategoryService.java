@@ -0,0 +1,22 @@
+package com.website.bitsa.service;
+
+import com.website.bitsa.config.CacheConfig;
+import com.website.bitsa.model.Category;
+import com.website.bitsa.repository.CategoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class CategoryService {
+
+    private final CategoryRepository categoryRepository;
+
+    @Cacheable(CacheConfig.CATEGORIES)
+    public List<Category> getActiveCategories() {
+        return categoryRepository.findByIsActiveTrueOrderByDisplayOrderAsc();
+    }
+}
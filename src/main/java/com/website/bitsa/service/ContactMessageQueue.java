@@ -0,0 +1,220 @@
+package com.website.bitsa.service;
+
+import com.website.bitsa.exception.ServiceUnavailableException;
+import com.website.bitsa.model.ContactMessage;
+import com.website.bitsa.service.DashboardStatsService.Stat;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Bounded write-behind queue for contact form messages.
+ * The endpoint only enqueues (202 Accepted); the writer drains the queue in JDBC batches, one
+ * transaction per batch. A full queue rejects new messages with 503 instead of piling up memory,
+ * and whatever is queued at shutdown is written before the application stops.
+ * A batch the database rejects is retried row by row, so one bad row is dropped on its own
+ * instead of holding back the messages queued with it.
+ * Batches go through plain JDBC because Hibernate never batches inserts of IDENTITY-keyed entities.
+ */
+@Slf4j
+@Service
+public class ContactMessageQueue {
+
+    private static final String INSERT_SQL = "INSERT INTO contact_messages "
+            + "(name, email, phone, subject, message, category, priority, is_read, is_replied, is_spam, "
+            + "ip_address, user_agent, referrer, created_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DashboardStatsService dashboardStatsService;
+    private final DashboardStreamService dashboardStreamService;
+    private final ActivityMetrics activityMetrics;
+    private final BlockingQueue<ContactMessage> queue;
+    private final int batchSize;
+    private final long retryAfterSeconds;
+    private final Counter writtenCounter;
+    private final Counter rejectedCounter;
+    private final Counter droppedCounter;
+
+    public ContactMessageQueue(JdbcTemplate jdbcTemplate,
+                               PlatformTransactionManager transactionManager,
+                               DashboardStatsService dashboardStatsService,
+                               DashboardStreamService dashboardStreamService,
+                               ActivityMetrics activityMetrics,
+                               MeterRegistry meterRegistry,
+                               @Value("${contact.queue.capacity:1000}") int capacity,
+                               @Value("${contact.queue.batch-size:100}") int batchSize,
+                               @Value("${contact.queue.retry-after-seconds:5}") long retryAfterSeconds) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.dashboardStatsService = dashboardStatsService;
+        this.dashboardStreamService = dashboardStreamService;
+        this.activityMetrics = activityMetrics;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.writtenCounter = Counter.builder("bitsa.contact.queue.written")
+                .description("Queued contact messages written to the database")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("bitsa.contact.queue.rejected")
+                .description("Contact messages rejected because the queue was full")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("bitsa.contact.queue.dropped")
+                .description("Queued contact messages the database refused to store")
+                .register(meterRegistry);
+        Gauge.builder("bitsa.contact.queue.depth", queue, BlockingQueue::size)
+                .description("Contact messages waiting to be written")
+                .register(meterRegistry);
+    }
+
+    // ========== ENQUEUE ==========
+
+    public void enqueue(ContactMessage message) {
+        if (!queue.offer(message)) {
+            rejectedCounter.increment();
+            throw new ServiceUnavailableException("We are receiving too many messages, please try again shortly",
+                    retryAfterSeconds);
+        }
+    }
+
+    public int size() {
+        return queue.size();
+    }
+
+    // ========== WRITER ==========
+
+    @Scheduled(fixedDelayString = "${contact.queue.flush-interval-ms:500}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    @PreDestroy
+    public void drainOnShutdown() {
+        if (!queue.isEmpty()) {
+            log.info("Writing {} queued contact messages before shutdown", queue.size());
+        }
+        flush();
+    }
+
+    /**
+     * Write everything queued so far, batch by batch. A failed batch is written again one row at a time:
+     * rows the database refuses are dropped, anything else puts the rest back for the next flush.
+     */
+    public synchronized void flush() {
+        List<ContactMessage> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            try {
+                writeInTransaction(batch);
+            } catch (RuntimeException ex) {
+                log.warn("Failed to write {} contact messages as a batch, retrying one by one: {}",
+                        batch.size(), ex.getMessage());
+                if (!writeOneByOne(batch)) {
+                    return;
+                }
+            }
+            batch.clear();
+        }
+    }
+
+    /**
+     * False when the database itself is failing; the unwritten rows are then back in the queue
+     */
+    private boolean writeOneByOne(List<ContactMessage> batch) {
+        for (int i = 0; i < batch.size(); i++) {
+            ContactMessage message = batch.get(i);
+            try {
+                writeInTransaction(List.of(message));
+            } catch (DataIntegrityViolationException ex) {
+                droppedCounter.increment();
+                log.error("Dropped contact message from {}: rejected by the database: {}",
+                        message.getEmail(), ex.getMostSpecificCause().getMessage());
+            } catch (RuntimeException ex) {
+                log.warn("Failed to write contact messages, will retry: {}", ex.getMessage());
+                requeue(batch.subList(i, batch.size()));
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void writeInTransaction(List<ContactMessage> batch) {
+        transactionTemplate.executeWithoutResult(status -> write(batch));
+        writtenCounter.increment(batch.size());
+    }
+
+    private void write(List<ContactMessage> batch) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (ContactMessage message : batch) {
+                    bind(statement, message);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    for (int i = 0; i < batch.size() && keys.next(); i++) {
+                        batch.get(i).setId(keys.getLong(1));
+                    }
+                }
+            }
+            return null;
+        });
+
+        // Same bookkeeping as ContactService.submitContactMessage, applied once the batch commits
+        dashboardStatsService.record(Stat.UNREAD_MESSAGES, batch.size());
+        dashboardStatsService.record(Stat.PENDING_MESSAGES, batch.size());
+        for (ContactMessage message : batch) {
+            dashboardStreamService.contactMessageReceived(message);
+            activityMetrics.contactMessageSubmitted();
+        }
+    }
+
+    private static void bind(PreparedStatement statement, ContactMessage message) throws SQLException {
+        statement.setString(1, message.getName());
+        statement.setString(2, message.getEmail());
+        statement.setString(3, message.getPhone());
+        statement.setString(4, message.getSubject());
+        statement.setString(5, message.getMessage());
+        statement.setString(6, message.getCategory());
+        statement.setString(7, message.getPriority());
+        statement.setBoolean(8, message.getIsRead());
+        statement.setBoolean(9, message.getIsReplied());
+        statement.setBoolean(10, message.getIsSpam());
+        statement.setString(11, message.getIpAddress());
+        statement.setString(12, message.getUserAgent());
+        statement.setString(13, message.getReferrer());
+        statement.setTimestamp(14, Timestamp.valueOf(message.getCreatedAt()));
+    }
+
+    private void requeue(List<ContactMessage> batch) {
+        int lost = 0;
+        for (ContactMessage message : batch) {
+            if (!queue.offer(message)) {
+                lost++;
+            }
+        }
+        if (lost > 0) {
+            log.error("Dropped {} contact messages: queue refilled while the database was failing", lost);
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.website.bitsa.dto.request.ContactRequest;
 import com.website.bitsa.exception.ResourceNotFoundException;
 import com.website.bitsa.model.ContactMessage;
 import com.website.bitsa.repository.ContactMessageRepository;
+import com.website.bitsa.service.DashboardStatsService.Stat;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,23 +18,37 @@ import java.util.List;
 public class ContactService {
 
     private final ContactMessageRepository contactMessageRepository;
+    private final DashboardStatsService dashboardStatsService;
+    private final DashboardStreamService dashboardStreamService;
+    private final ActivityMetrics activityMetrics;
+    private final ContactMessageQueue contactMessageQueue;
+
+    /**
+     * Public form path: queue the message with its request metadata and return at once.
+     * It is written in the next batch (see ContactMessageQueue); a full queue throws ServiceUnavailableException.
+     */
+    public void enqueueContactMessage(ContactRequest request, String ipAddress, String userAgent, String referrer) {
+        ContactMessage message = newMessage(request);
+        message.setIpAddress(truncate(ipAddress, 50));
+        message.setUserAgent(truncate(userAgent, 500));
+        message.setReferrer(truncate(referrer, 500));
+        message.setCreatedAt(LocalDateTime.now());
+        contactMessageQueue.enqueue(message);
+    }
 
+    /**
+     * Synchronous single-row insert, for callers that need the saved message back
+     */
     @Transactional
     public ContactMessage submitContactMessage(ContactRequest request) {
-        ContactMessage message = ContactMessage.builder()
-                .name(request.getName())
-                .email(request.getEmail())
-                .phone(request.getPhone())
-                .subject(request.getSubject())
-                .message(request.getMessage())
-                .category(request.getCategory())
-                .priority("NORMAL")
-                .isRead(false)
-                .isReplied(false)
-                .isSpam(false)
-                .build();
-
-        return contactMessageRepository.save(message);
+        ContactMessage message = newMessage(request);
+
+        ContactMessage saved = contactMessageRepository.save(message);
+        dashboardStatsService.record(Stat.UNREAD_MESSAGES, 1);
+        dashboardStatsService.record(Stat.PENDING_MESSAGES, 1);
+        dashboardStreamService.contactMessageReceived(saved);
+        activityMetrics.contactMessageSubmitted();
+        return saved;
     }
 
     public List<ContactMessage> getAllMessages() {
@@ -60,27 +75,38 @@ public class ContactService {
     @Transactional
     public ContactMessage markAsRead(Long id, Long adminId) {
         ContactMessage message = getMessageById(id);
+        boolean wasUnread = !message.getIsRead();
+        boolean wasPending = message.isPending();
         message.markAsRead(adminId);
+        recordStatusChange(message, wasUnread, wasPending);
         return contactMessageRepository.save(message);
     }
 
     @Transactional
     public ContactMessage replyToMessage(Long id, String replyText, Long adminId) {
         ContactMessage message = getMessageById(id);
+        boolean wasUnread = !message.getIsRead();
+        boolean wasPending = message.isPending();
         message.reply(replyText, adminId);
+        recordStatusChange(message, wasUnread, wasPending);
         return contactMessageRepository.save(message);
     }
 
     @Transactional
     public ContactMessage markAsSpam(Long id) {
         ContactMessage message = getMessageById(id);
+        boolean wasUnread = !message.getIsRead();
+        boolean wasPending = message.isPending();
         message.markAsSpam();
+        recordStatusChange(message, wasUnread, wasPending);
         return contactMessageRepository.save(message);
     }
 
+    @Transactional
     public void deleteMessage(Long id) {
         ContactMessage message = getMessageById(id);
         contactMessageRepository.delete(message);
+        recordStatusChange(!message.getIsRead(), message.isPending(), false, false);
     }
 
     public long countUnreadMessages() {
@@ -98,4 +124,32 @@ public class ContactService {
     public List<ContactMessage> searchMessages(String keyword) {
         return contactMessageRepository.searchAllFields(keyword);
     }
-}
\ No newline at end of file
+
+    private static ContactMessage newMessage(ContactRequest request) {
+        return ContactMessage.builder()
+                .name(request.getName())
+                .email(request.getEmail())
+                .phone(request.getPhone())
+                .subject(request.getSubject())
+                .message(request.getMessage())
+                .category(request.getCategory())
+                .priority("NORMAL")
+                .isRead(false)
+                .isReplied(false)
+                .isSpam(false)
+                .build();
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value == null || value.length() <= maxLength ? value : value.substring(0, maxLength);
+    }
+
+    private void recordStatusChange(ContactMessage message, boolean wasUnread, boolean wasPending) {
+        recordStatusChange(wasUnread, wasPending, !message.getIsRead(), message.isPending());
+    }
+
+    private void recordStatusChange(boolean wasUnread, boolean wasPending, boolean isUnread, boolean isPending) {
+        dashboardStatsService.record(Stat.UNREAD_MESSAGES, wasUnread, isUnread);
+        dashboardStatsService.record(Stat.PENDING_MESSAGES, wasPending, isPending);
+    }
+}
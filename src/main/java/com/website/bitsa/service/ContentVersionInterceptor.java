@@ -0,0 +1,33 @@
+package com.website.bitsa.service;
+
+import org.hibernate.Interceptor;
+import org.hibernate.Transaction;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Writes the content versions a transaction changed once Hibernate has flushed it for the last time,
+ * on the transaction's own connection, so the version rows commit (or roll back) with the data.
+ */
+@Component
+public class ContentVersionInterceptor implements Interceptor, HibernatePropertiesCustomizer {
+
+    private final ContentVersionService contentVersions;
+
+    public ContentVersionInterceptor(ContentVersionService contentVersions) {
+        this.contentVersions = contentVersions;
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.INTERCEPTOR, this);
+    }
+
+    @Override
+    public void beforeTransactionCompletion(Transaction tx) {
+        contentVersions.beforeCommit();
+    }
+}
@@ -0,0 +1,45 @@
+package com.website.bitsa.service;
+
+import com.website.bitsa.model.*;
+import com.website.bitsa.service.ContentVersionService.Table;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * JPA callbacks for the entities behind public responses: every insert, update and delete bumps its
+ * table's HTTP validator version (written just before the commit, see ContentVersionService).
+ * Bulk JPQL / JDBC updates bypass these callbacks; their services bump the version themselves.
+ */
+public class ContentVersionListener {
+
+    private final ContentVersionService contentVersions;
+
+    public ContentVersionListener(ContentVersionService contentVersions) {
+        this.contentVersions = contentVersions;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void changed(Object entity) {
+        contentVersions.changed(table(entity));
+    }
+
+    private static Table table(Object entity) {
+        if (entity instanceof Post) {
+            return Table.POSTS;
+        } else if (entity instanceof Comment) {
+            return Table.COMMENTS;
+        } else if (entity instanceof Event) {
+            return Table.EVENTS;
+        } else if (entity instanceof Gallery) {
+            return Table.GALLERY;
+        } else if (entity instanceof Category) {
+            return Table.CATEGORIES;
+        } else if (entity instanceof EventType) {
+            return Table.EVENT_TYPES;
+        }
+        throw new IllegalArgumentException("No content version for " + entity.getClass().getName());
+    }
+}
@@ -0,0 +1,296 @@
+package com.website.bitsa.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * HTTP validators (ETag / Last-Modified) for public content.
+ * Each table a public response is built from has a row in content_versions, bumped by every transaction
+ * that writes the table (ContentVersionListener for entity saves and deletes, the services for bulk
+ * updates) right before it commits, so every node derives the same validators from committed data.
+ * If-None-Match / If-Modified-Since are answered with one primary-key read and no entity loads.
+ * View counters are written behind without going through either path and are deliberately not part of the version.
+ */
+@Service
+public class ContentVersionService {
+
+    /**
+     * Bump when a public response changes shape, so representations cached under the old one are refetched
+     */
+    public static final int REPRESENTATION_VERSION = 2;
+
+    public enum Table {
+        POSTS, COMMENTS, EVENTS, GALLERY, CATEGORIES, EVENT_TYPES
+    }
+
+    public enum Resource {
+        POSTS(false, Table.POSTS, Table.CATEGORIES),
+        COMMENTS(false, Table.COMMENTS),
+        // Upcoming/past and "registration open" move with the clock, so the version also carries the minute
+        EVENTS(true, Table.EVENTS, Table.EVENT_TYPES),
+        GALLERY(false, Table.GALLERY),
+        CATEGORIES(false, Table.CATEGORIES),
+        EVENT_TYPES(false, Table.EVENT_TYPES);
+
+        private final boolean timeSensitive;
+        private final Table[] tables;
+
+        Resource(boolean timeSensitive, Table... tables) {
+            this.timeSensitive = timeSensitive;
+            this.tables = tables;
+        }
+    }
+
+    public enum Policy {
+        /** Single post/event/image: caches keep it but revalidate every use, so each view still reaches us */
+        DETAIL(CacheControl.noCache().cachePublic()),
+        /** Lists: a minute old is fine, and a stale copy is served while it revalidates */
+        LIST(CacheControl.maxAge(Duration.ofMinutes(1)).staleWhileRevalidate(Duration.ofMinutes(5)).cachePublic()),
+        /** Event lists: seat counts and registration windows change quickly */
+        LIVE(CacheControl.maxAge(Duration.ofSeconds(10)).staleWhileRevalidate(Duration.ofMinutes(1)).cachePublic()),
+        /** Lookup data (categories, event types) that changes a few times a term */
+        REFERENCE(CacheControl.maxAge(Duration.ofHours(1)).staleWhileRevalidate(Duration.ofDays(1)).cachePublic());
+
+        private final CacheControl cacheControl;
+
+        Policy(CacheControl cacheControl) {
+            this.cacheControl = cacheControl;
+        }
+    }
+
+    public record Validator(String etag, long lastModified) {
+    }
+
+    private record TableVersion(long version, long updatedAt) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<Resource, Counter> notModifiedCounters = new EnumMap<>(Resource.class);
+    private final Map<Resource, Counter> fullCounters = new EnumMap<>(Resource.class);
+
+    public ContentVersionService(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        for (Resource resource : Resource.values()) {
+            String name = resource.name().toLowerCase();
+            notModifiedCounters.put(resource, Counter.builder("bitsa.http.conditional")
+                    .description("Public GETs by outcome; not_modified / total is the 304 rate")
+                    .tag("resource", name)
+                    .tag("result", "not_modified")
+                    .register(meterRegistry));
+            fullCounters.put(resource, Counter.builder("bitsa.http.conditional")
+                    .description("Public GETs by outcome; not_modified / total is the 304 rate")
+                    .tag("resource", name)
+                    .tag("result", "full")
+                    .register(meterRegistry));
+        }
+    }
+
+    // ========== RESPONSES ==========
+
+    public <T> ResponseEntity<T> respond(HttpServletRequest request, Resource resource, Policy policy, Supplier<T> body) {
+        return respond(request, resource, policy, body, () -> { });
+    }
+
+    /**
+     * 304 with the validators when the client's copy is current (running onNotModified), otherwise
+     * the body with them. The version is read before the body, so a concurrent write can only make
+     * the ETag older than the body, which costs the next request a full response, never a stale 304.
+     */
+    public <T> ResponseEntity<T> respond(HttpServletRequest request, Resource resource, Policy policy,
+                                         Supplier<T> body, Runnable onNotModified) {
+        Validator validator = validator(resource);
+
+        // No response attached: only evaluates the preconditions, the headers are set below
+        if (new ServletWebRequest(request).checkNotModified(validator.etag(), validator.lastModified())) {
+            onNotModified.run();
+            notModifiedCounters.get(resource).increment();
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(validator.etag())
+                    .lastModified(validator.lastModified())
+                    .cacheControl(policy.cacheControl)
+                    .build();
+        }
+
+        T result = body.get();
+        fullCounters.get(resource).increment();
+        return ResponseEntity.ok()
+                .eTag(validator.etag())
+                .lastModified(validator.lastModified())
+                .cacheControl(policy.cacheControl)
+                .body(result);
+    }
+
+    // ========== VERSIONS ==========
+
+    /**
+     * Bump the table's version in the current transaction. The rows are only written at the end of the
+     * transaction (ContentVersionInterceptor), so their locks are held for the commit and nothing else;
+     * a rolled back transaction leaves them alone. Without a transaction the version moves right away.
+     */
+    public void changed(Table table) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bump(EnumSet.of(table));
+            return;
+        }
+        PendingChanges pending = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingChanges();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.tables.add(table);
+    }
+
+    /**
+     * Write the versions the current transaction changed; called after Hibernate's last flush, before the commit
+     */
+    void beforeCommit() {
+        if (TransactionSynchronizationManager.getResource(this) instanceof PendingChanges pending) {
+            pending.write();
+        }
+    }
+
+    private void bump(Set<Table> tables) {
+        // Every resource built from a changed table gets a later Last-Modified: HTTP dates have whole
+        // seconds, so the new stamp is at least a second past the latest one among those resources' tables.
+        // Locking the rows (primary-key order) keeps two commits from handing out the same second.
+        Set<Table> related = EnumSet.copyOf(tables);
+        for (Resource resource : Resource.values()) {
+            if (Arrays.stream(resource.tables).anyMatch(tables::contains)) {
+                related.addAll(Arrays.asList(resource.tables));
+            }
+        }
+        Timestamp latest = jdbcTemplate.queryForList(
+                        "SELECT updated_at FROM content_versions WHERE name IN (" + placeholders(related.size()) + ") FOR UPDATE",
+                        Timestamp.class, rowNames(related))
+                .stream().max(Comparator.naturalOrder())
+                .orElseThrow(() -> new IllegalStateException("No content_versions rows for " + related));
+
+        Object[] args = new Object[tables.size() + 1];
+        args[0] = new Timestamp(latest.getTime() + 1000);
+        System.arraycopy(rowNames(tables), 0, args, 1, tables.size());
+        jdbcTemplate.update("UPDATE content_versions SET version = version + 1, "
+                        + "updated_at = GREATEST(CURRENT_TIMESTAMP(6), CAST(? AS DATETIME(6))) "
+                        + "WHERE name IN (" + placeholders(tables.size()) + ")",
+                args);
+    }
+
+    /**
+     * Tables changed by one transaction; unbound while the transaction is suspended so an inner
+     * REQUIRES_NEW transaction only writes its own changes
+     */
+    private class PendingChanges implements TransactionSynchronization {
+
+        private final Set<Table> tables = EnumSet.noneOf(Table.class);
+
+        private void write() {
+            if (!tables.isEmpty()) {
+                bump(tables);
+                tables.clear();
+            }
+        }
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResource(ContentVersionService.this);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(ContentVersionService.this, this);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(ContentVersionService.this);
+        }
+    }
+
+    // ========== VALIDATORS ==========
+
+    public Validator validator(Resource resource) {
+        Map<String, TableVersion> rows = jdbcTemplate.query(
+                "SELECT name, version, updated_at FROM content_versions WHERE name IN ("
+                        + placeholders(resource.tables.length) + ")",
+                rs -> {
+                    Map<String, TableVersion> result = new HashMap<>();
+                    while (rs.next()) {
+                        result.put(rs.getString("name"),
+                                new TableVersion(rs.getLong("version"), rs.getTimestamp("updated_at").getTime()));
+                    }
+                    return result;
+                },
+                rowNames(Arrays.asList(resource.tables)));
+
+        StringBuilder version = new StringBuilder()
+                .append(REPRESENTATION_VERSION).append('|').append(resource.name());
+        long lastModified = 0;
+        for (Table table : resource.tables) {
+            TableVersion current = rows.get(rowName(table));
+            if (current == null) {
+                throw new IllegalStateException("No content_versions row for " + rowName(table));
+            }
+            version.append('|').append(table.name()).append(':').append(current.version())
+                    .append(':').append(current.updatedAt());
+            lastModified = Math.max(lastModified, current.updatedAt());
+        }
+        if (resource.timeSensitive) {
+            long now = System.currentTimeMillis();
+            long minute = ChronoUnit.MINUTES.getDuration().toMillis();
+            long minuteStart = now - now % minute;
+            version.append('|').append(minuteStart);
+            lastModified = Math.max(lastModified, minuteStart);
+        }
+
+        String etag = "\"v" + REPRESENTATION_VERSION + "-" + hash(version.toString()) + "\"";
+        return new Validator(etag, lastModified - lastModified % 1000);
+    }
+
+    private static String rowName(Table table) {
+        return table.name().toLowerCase();
+    }
+
+    private static Object[] rowNames(Collection<Table> tables) {
+        return tables.stream().map(ContentVersionService::rowName).toArray();
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    private static String hash(String version) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(version.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.website.bitsa.service;
+
+import com.website.bitsa.dto.response.DashboardStatsResponse;
+import com.website.bitsa.model.User;
+import com.website.bitsa.repository.*;
+import com.website.bitsa.util.TransactionUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Materialized admin dashboard counters.
+ * Services record deltas as they mutate data (applied after commit); a scheduled recount
+ * from the database corrects drift, e.g. events that moved from upcoming to past.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DashboardStatsService {
+
+    public enum Stat {
+        TOTAL_USERS, TOTAL_STUDENTS, TOTAL_ADMINS, TOTAL_POSTS, PENDING_COMMENTS,
+        UPCOMING_EVENTS, TOTAL_IMAGES, UNREAD_MESSAGES, PENDING_MESSAGES
+    }
+
+    private final UserRepository userRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final EventRepository eventRepository;
+    private final GalleryRepository galleryRepository;
+    private final ContactMessageRepository contactMessageRepository;
+
+    private final Map<Stat, AtomicLong> counters = initCounters();
+    private volatile LocalDateTime updatedAt;
+    private volatile LocalDateTime recomputedAt;
+
+    // ========== READ ==========
+
+    public DashboardStatsResponse getStats() {
+        return DashboardStatsResponse.builder()
+                .totalUsers(get(Stat.TOTAL_USERS))
+                .totalStudents(get(Stat.TOTAL_STUDENTS))
+                .totalAdmins(get(Stat.TOTAL_ADMINS))
+                .totalPosts(get(Stat.TOTAL_POSTS))
+                .pendingComments(get(Stat.PENDING_COMMENTS))
+                .upcomingEvents(get(Stat.UPCOMING_EVENTS))
+                .totalImages(get(Stat.TOTAL_IMAGES))
+                .unreadMessages(get(Stat.UNREAD_MESSAGES))
+                .pendingMessages(get(Stat.PENDING_MESSAGES))
+                .updatedAt(updatedAt)
+                .recomputedAt(recomputedAt)
+                .build();
+    }
+
+    public long get(Stat stat) {
+        return counters.get(stat).get();
+    }
+
+    // ========== INCREMENTAL UPDATES ==========
+
+    /**
+     * Apply a delta once the current transaction commits
+     */
+    public void record(Stat stat, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        TransactionUtil.afterCommit(() -> {
+            counters.get(stat).addAndGet(delta);
+            updatedAt = LocalDateTime.now();
+        });
+    }
+
+    /**
+     * Record a row entering (+1) or leaving (-1) the set a counter tracks
+     */
+    public void record(Stat stat, boolean countedBefore, boolean countedAfter) {
+        record(stat, (countedAfter ? 1 : 0) - (countedBefore ? 1 : 0));
+    }
+
+    /**
+     * Record an account entering or leaving the active user counts
+     */
+    public void recordUser(User user, boolean wasActive, boolean isActive) {
+        record(Stat.TOTAL_USERS, wasActive, isActive);
+        if (user.isStudent()) {
+            record(Stat.TOTAL_STUDENTS, wasActive, isActive);
+        } else if (user.isAdmin()) {
+            record(Stat.TOTAL_ADMINS, wasActive, isActive);
+        }
+    }
+
+    // ========== RECOMPUTE ==========
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recomputeOnStartup() {
+        recompute();
+    }
+
+    @Scheduled(fixedDelayString = "${dashboard.stats.recompute-interval-ms}",
+            initialDelayString = "${dashboard.stats.recompute-interval-ms}")
+    public void scheduledRecompute() {
+        recompute();
+    }
+
+    /**
+     * Recount everything from the database.
+     * A delta committed while this runs may be lost or counted twice until the next recount.
+     */
+    public synchronized void recompute() {
+        try {
+            Map<Stat, Long> fresh = new EnumMap<>(Stat.class);
+            fresh.put(Stat.TOTAL_USERS, userRepository.countActiveUsers());
+            fresh.put(Stat.TOTAL_STUDENTS, userRepository.countByRoleName("STUDENT"));
+            fresh.put(Stat.TOTAL_ADMINS, userRepository.countByRoleName("ADMIN"));
+            fresh.put(Stat.TOTAL_POSTS, postRepository.countByIsPublishedTrue());
+            fresh.put(Stat.PENDING_COMMENTS, commentRepository.countByIsApprovedFalseAndIsFlaggedFalse());
+            fresh.put(Stat.UPCOMING_EVENTS, eventRepository.countUpcomingEvents(LocalDateTime.now()));
+            fresh.put(Stat.TOTAL_IMAGES, galleryRepository.countByIsPublishedTrue());
+            fresh.put(Stat.UNREAD_MESSAGES, contactMessageRepository.countByIsReadFalse());
+            fresh.put(Stat.PENDING_MESSAGES, contactMessageRepository.countPendingMessages());
+
+            fresh.forEach((stat, value) -> {
+                long previous = counters.get(stat).getAndSet(value);
+                if (previous != value && recomputedAt != null) {
+                    log.debug("Dashboard counter {} drifted from {} to {}", stat, previous, value);
+                }
+            });
+            recomputedAt = LocalDateTime.now();
+            updatedAt = recomputedAt;
+        } catch (RuntimeException ex) {
+            log.warn("Dashboard stats recompute failed, keeping current values: {}", ex.getMessage());
+        }
+    }
+
+    private static Map<Stat, AtomicLong> initCounters() {
+        Map<Stat, AtomicLong> map = new EnumMap<>(Stat.class);
+        for (Stat stat : Stat.values()) {
+            map.put(stat, new AtomicLong());
+        }
+        return map;
+    }
+}
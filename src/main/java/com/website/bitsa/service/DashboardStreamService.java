@@ -0,0 +1,332 @@
+package com.website.bitsa.service;
+
+import com.website.bitsa.dto.response.CommentResponse;
+import com.website.bitsa.dto.response.ContactMessageSummary;
+import com.website.bitsa.dto.response.DashboardStatsResponse;
+import com.website.bitsa.dto.response.DashboardStreamFrame;
+import com.website.bitsa.model.Comment;
+import com.website.bitsa.model.ContactMessage;
+import com.website.bitsa.repository.EventRepository;
+import com.website.bitsa.util.TransactionUtil;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Server-Sent Events feed for open admin dashboards.
+ * Services report changes after commit; they are buffered and pushed to every client as one
+ * frame per interval. Frames and heartbeats are built on the task scheduler but written by a
+ * dedicated sender pool, so an idle connection holds no request thread and a slow client
+ * never holds up the other @Scheduled jobs or the other clients.
+ */
+@Slf4j
+@Service
+public class DashboardStreamService {
+
+    private static final int MAX_ITEMS_PER_FRAME = 50;
+    // About half a minute of frames; a client this far behind is dropped instead of buffered further
+    private static final int MAX_QUEUED_EVENTS = 30;
+
+    private final DashboardStatsService dashboardStatsService;
+    private final EventRepository eventRepository;
+    private final long timeoutMs;
+    private final ThreadPoolExecutor sender;
+
+    private final Map<SseEmitter, Client> clients = new ConcurrentHashMap<>();
+
+    // Guarded by "this"; swapped out whole on every flush
+    private List<ContactMessageSummary> newMessages = new ArrayList<>();
+    private List<CommentResponse> newComments = new ArrayList<>();
+    private Set<Long> changedEvents = new HashSet<>();
+    private int dropped;
+
+    private volatile LocalDateTime statsSentAt;
+
+    public DashboardStreamService(DashboardStatsService dashboardStatsService,
+                                  EventRepository eventRepository,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${dashboard.stream.timeout-ms}") long timeoutMs,
+                                  @Value("${dashboard.stream.sender-threads:2}") int senderThreads) {
+        this.dashboardStatsService = dashboardStatsService;
+        this.eventRepository = eventRepository;
+        this.timeoutMs = timeoutMs;
+
+        // A write to a client that stopped reading blocks its thread until the container's write timeout
+        // fails it, so the pool grows past the core threads rather than queueing the other clients behind
+        // it. Each client has at most one drain task in flight: never more threads than open streams.
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.sender = new ThreadPoolExecutor(senderThreads, Integer.MAX_VALUE, 60L, TimeUnit.SECONDS,
+                new SynchronousQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "dashboard-stream-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        Gauge.builder("bitsa.dashboard.stream.clients", clients, Map::size)
+                .description("Open admin dashboard streams")
+                .register(meterRegistry);
+        Gauge.builder("bitsa.dashboard.stream.queued", this, DashboardStreamService::getQueuedEvents)
+                .description("Dashboard stream events not yet written to their client")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+    }
+
+    // ========== SUBSCRIPTIONS ==========
+
+    /**
+     * Open a stream; the first event is a full stats snapshot, then deltas follow
+     */
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        register(emitter);
+        return emitter;
+    }
+
+    void register(SseEmitter emitter) {
+        emitter.onCompletion(() -> clients.remove(emitter));
+        emitter.onTimeout(() -> clients.remove(emitter));
+        emitter.onError(error -> clients.remove(emitter));
+        Client client = new Client(emitter);
+        clients.put(emitter, client);
+
+        client.enqueue(SseEmitter.event().name("snapshot").data(dashboardStatsService.getStats()));
+    }
+
+    public int getClientCount() {
+        return clients.size();
+    }
+
+    /**
+     * Events handed to the sender pool and not yet written, over all open streams
+     */
+    public int getQueuedEvents() {
+        int queued = 0;
+        for (Client client : clients.values()) {
+            queued += client.queued.get();
+        }
+        return queued;
+    }
+
+    // ========== CHANGE NOTIFICATIONS ==========
+
+    public void contactMessageReceived(ContactMessage message) {
+        if (clients.isEmpty()) {
+            return;
+        }
+        ContactMessageSummary summary = ContactMessageSummary.builder()
+                .id(message.getId())
+                .name(message.getName())
+                .subject(message.getSubject())
+                .category(message.getCategory())
+                .createdAt(message.getCreatedAt())
+                .build();
+        TransactionUtil.afterCommit(() -> {
+            synchronized (this) {
+                if (newMessages.size() < MAX_ITEMS_PER_FRAME) {
+                    newMessages.add(summary);
+                } else {
+                    dropped++;
+                }
+            }
+        });
+    }
+
+    public void commentAwaitingApproval(Comment comment) {
+        if (clients.isEmpty()) {
+            return;
+        }
+        CommentResponse summary = CommentResponse.builder()
+                .id(comment.getId())
+                .commentText(comment.getPreview())
+                .userName(comment.getUser().getName())
+                .createdAt(comment.getCreatedAt())
+                .build();
+        TransactionUtil.afterCommit(() -> {
+            synchronized (this) {
+                if (newComments.size() < MAX_ITEMS_PER_FRAME) {
+                    newComments.add(summary);
+                } else {
+                    dropped++;
+                }
+            }
+        });
+    }
+
+    /**
+     * The attendee count is read when the frame is built, so a burst of registrations costs one query
+     */
+    public void registrationsChanged(Long eventId) {
+        if (clients.isEmpty()) {
+            return;
+        }
+        TransactionUtil.afterCommit(() -> {
+            synchronized (this) {
+                changedEvents.add(eventId);
+            }
+        });
+    }
+
+    // ========== PUSH ==========
+
+    /**
+     * Send everything buffered since the last frame as a single "delta" event
+     */
+    @Scheduled(fixedDelayString = "${dashboard.stream.frame-interval-ms}")
+    public void flush() {
+        List<ContactMessageSummary> messages;
+        List<CommentResponse> comments;
+        Set<Long> eventIds;
+        int droppedItems;
+        synchronized (this) {
+            messages = newMessages;
+            comments = newComments;
+            eventIds = changedEvents;
+            droppedItems = dropped;
+            newMessages = new ArrayList<>();
+            newComments = new ArrayList<>();
+            changedEvents = new HashSet<>();
+            dropped = 0;
+        }
+        if (clients.isEmpty()) {
+            return;
+        }
+
+        DashboardStatsResponse stats = dashboardStatsService.getStats();
+        boolean statsChanged = !Objects.equals(stats.getUpdatedAt(), statsSentAt);
+        if (!statsChanged && messages.isEmpty() && comments.isEmpty() && eventIds.isEmpty() && droppedItems == 0) {
+            return;
+        }
+
+        DashboardStreamFrame frame = DashboardStreamFrame.builder()
+                .stats(statsChanged ? stats : null)
+                .contactMessages(messages.isEmpty() ? null : messages)
+                .pendingComments(comments.isEmpty() ? null : comments)
+                .registrations(eventIds.isEmpty() ? null : attendeeCounts(eventIds))
+                .dropped(droppedItems == 0 ? null : droppedItems)
+                .build();
+        statsSentAt = stats.getUpdatedAt();
+
+        for (Client client : clients.values()) {
+            client.enqueue(SseEmitter.event().name("delta").data(frame));
+        }
+    }
+
+    /**
+     * Keeps proxies and browsers from closing quiet connections
+     */
+    @Scheduled(fixedRateString = "${dashboard.stream.heartbeat-interval-ms}")
+    public void heartbeat() {
+        for (Client client : clients.values()) {
+            client.enqueue(SseEmitter.event().comment("heartbeat"));
+        }
+    }
+
+    private Map<Long, Integer> attendeeCounts(Set<Long> eventIds) {
+        Map<Long, Integer> counts = new HashMap<>();
+        for (Object[] row : eventRepository.findAttendeeCounts(eventIds)) {
+            counts.put((Long) row[0], (Integer) row[1]);
+        }
+        return counts;
+    }
+
+    /**
+     * One open stream. Its events are written in order by the sender pool, one write at a time.
+     */
+    private final class Client {
+
+        private final SseEmitter emitter;
+        private final Queue<SseEmitter.SseEventBuilder> events = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile boolean overflowed;
+
+        private Client(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void enqueue(SseEmitter.SseEventBuilder event) {
+            if (queued.incrementAndGet() > MAX_QUEUED_EVENTS) {
+                drop();
+                return;
+            }
+            events.add(event);
+            scheduleDrain();
+        }
+
+        /**
+         * Stop writing to a client that fell too far behind and end its stream. The emitter is still
+         * locked by the write it is stuck in, so completing it here would block the scheduler too; the
+         * drain completes it as soon as that write returns instead of leaving it open until the timeout.
+         */
+        private void drop() {
+            overflowed = true;
+            if (clients.remove(emitter) != null) {
+                log.debug("Dropping dashboard stream client: {} events behind", MAX_QUEUED_EVENTS);
+            }
+            events.clear();
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (!draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                sender.execute(this::drain);
+            } catch (RejectedExecutionException ex) {
+                draining.set(false);  // Shutting down
+            }
+        }
+
+        private void drain() {
+            try {
+                SseEmitter.SseEventBuilder event;
+                while (clients.containsKey(emitter) && (event = events.poll()) != null) {
+                    send(event);
+                    queued.decrementAndGet();
+                }
+            } finally {
+                draining.set(false);
+            }
+            if (overflowed) {
+                // The client reconnects and starts over from a fresh snapshot
+                if (closed.compareAndSet(false, true)) {
+                    emitter.complete();
+                }
+                return;
+            }
+            // An event enqueued after the last poll but before draining was cleared
+            if (!events.isEmpty() && clients.containsKey(emitter)) {
+                scheduleDrain();
+            }
+        }
+
+        private void send(SseEmitter.SseEventBuilder event) {
+            try {
+                emitter.send(event);
+            } catch (IOException | IllegalStateException ex) {
+                // Client went away; the container completes the emitter
+                clients.remove(emitter);
+                log.debug("Dropping dashboard stream client: {}", ex.getMessage());
+            }
+        }
+    }
+}
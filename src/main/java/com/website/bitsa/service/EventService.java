@@ -1,7 +1,10 @@
 package com.website.bitsa.service;
 
 
+import com.website.bitsa.config.CacheConfig;
 import com.website.bitsa.dto.request.CreateEventRequest;
+import com.website.bitsa.dto.response.CancelRegistrationsResponse;
+import com.website.bitsa.dto.response.CursorPage;
 import com.website.bitsa.dto.response.EventResponse;
 import com.website.bitsa.exception.BadRequestException;
 import com.website.bitsa.exception.ResourceNotFoundException;
@@ -13,7 +16,14 @@ import com.website.bitsa.repository.EventRegistrationRepository;
 import com.website.bitsa.repository.EventRepository;
 import com.website.bitsa.repository.EventTypeRepository;
 import com.website.bitsa.repository.UserRepository;
+import com.website.bitsa.service.ContentVersionService.Table;
+import com.website.bitsa.service.DashboardStatsService.Stat;
+import com.website.bitsa.util.CursorUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,37 +35,64 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class EventService {
 
+    private static final int MAX_PROMOTIONS_PER_PASS = 1000;
+
     private final EventRepository eventRepository;
     private final EventRegistrationRepository registrationRepository;
     private final EventTypeRepository eventTypeRepository;
     private final UserRepository userRepository;
+    private final ViewCountBuffer viewCountBuffer;
+    private final CacheInvalidator cacheInvalidator;
+    private final DashboardStatsService dashboardStatsService;
+    private final DashboardStreamService dashboardStreamService;
+    private final ActivityMetrics activityMetrics;
+    private final ContentVersionService contentVersions;
 
     // ========== EVENT OPERATIONS ==========
 
-    public List<EventResponse> getAllUpcomingEvents() {
-        return eventRepository.findUpcomingEvents(LocalDateTime.now())
-                .stream()
-                .map(this::convertToEventResponse)
-                .collect(Collectors.toList());
+    public CursorPage<EventResponse> getUpcomingEvents(String cursor, Integer limit) {
+        int pageSize = CursorUtil.normalizeLimit(limit);
+        CursorUtil.Cursor after = CursorUtil.decode(cursor);
+        Pageable fetch = PageRequest.of(0, pageSize + 1);
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Event> events = after == null
+                ? eventRepository.findUpcomingEvents(now, fetch)
+                : eventRepository.findUpcomingEventsAfterCursor(now, after.timestamp(), after.id(), fetch);
+
+        return CursorPage.of(events, pageSize, Event::getDateTime, Event::getId, this::convertToEventResponse);
     }
 
-    public List<EventResponse> getAllPastEvents() {
-        return eventRepository.findPastEvents(LocalDateTime.now())
-                .stream()
-                .map(this::convertToEventResponse)
-                .collect(Collectors.toList());
+    public CursorPage<EventResponse> getPastEvents(String cursor, Integer limit) {
+        int pageSize = CursorUtil.normalizeLimit(limit);
+        CursorUtil.Cursor after = CursorUtil.decode(cursor);
+        Pageable fetch = PageRequest.of(0, pageSize + 1);
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Event> events = after == null
+                ? eventRepository.findPastEvents(now, fetch)
+                : eventRepository.findPastEventsAfterCursor(now, after.timestamp(), after.id(), fetch);
+
+        return CursorPage.of(events, pageSize, Event::getDateTime, Event::getId, this::convertToEventResponse);
     }
 
     public EventResponse getEventBySlug(String slug) {
         Event event = eventRepository.findBySlugAndIsPublishedTrue(slug)
                 .orElseThrow(() -> new ResourceNotFoundException("Event not found with slug: " + slug));
 
-        event.incrementViewCount();
-        eventRepository.save(event);
+        viewCountBuffer.record(ViewCountBuffer.Target.EVENT, event.getId());
 
         return convertToEventResponse(event);
     }
 
+    /**
+     * Count a view answered with 304 Not Modified, where the event itself was never loaded
+     */
+    public void recordView(String slug) {
+        eventRepository.findPublishedIdBySlug(slug)
+                .ifPresent(id -> viewCountBuffer.record(ViewCountBuffer.Target.EVENT, id));
+    }
+
     public EventResponse getEventById(Long id) {
         Event event = eventRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Event not found with id: " + id));
@@ -69,12 +106,14 @@ public class EventService {
                 .collect(Collectors.toList());
     }
 
+    @Cacheable(CacheConfig.FEATURED_EVENTS)
     public List<EventResponse> getFeaturedEvents() {
         return eventRepository.findFeaturedUpcomingEvents(LocalDateTime.now())
                 .stream()
                 .map(this::convertToEventResponse)
                 .collect(Collectors.toList());
     }
+
     public List<EventResponse> getAllEventsAdmin() {
         return eventRepository.findAllByOrderByDateTimeDesc() // You might need to add this to Repository
                 .stream()
@@ -105,6 +144,7 @@ public class EventService {
                 .requirements(request.getRequirements())
                 .agenda(request.getAgenda())
                 .registrationRequired(request.getRegistrationRequired())
+                .waitlistEnabled(request.getWaitlistEnabled())
                 .isPublished(request.getIsPublished())
                 .isFeatured(request.getIsFeatured())
                 .currentAttendees(0)
@@ -116,6 +156,11 @@ public class EventService {
         eventType.incrementEventCount();
         eventTypeRepository.save(eventType);
 
+        dashboardStatsService.record(Stat.UPCOMING_EVENTS, false, isListedAsUpcoming(savedEvent));
+        cacheInvalidator.evictAfterCommit(CacheConfig.EVENT_TYPES);
+        if (isFeaturedAndPublished(savedEvent)) {
+            cacheInvalidator.evictAfterCommit(CacheConfig.FEATURED_EVENTS);
+        }
         return convertToEventResponse(savedEvent);
     }
 
@@ -127,6 +172,12 @@ public class EventService {
         EventType eventType = eventTypeRepository.findById(request.getEventTypeId())
                 .orElseThrow(() -> new ResourceNotFoundException("Event type not found"));
 
+        boolean wasFeatured = isFeaturedAndPublished(event);
+        boolean wasUpcoming = isListedAsUpcoming(event);
+        Integer previousMax = event.getMaxAttendees();
+        boolean capacityGrew = previousMax != null
+                && (request.getMaxAttendees() == null || request.getMaxAttendees() > previousMax);
+
         event.setTitle(request.getTitle());
         event.setDescription(request.getDescription());
         event.setDateTime(request.getDateTime());
@@ -140,10 +191,23 @@ public class EventService {
         event.setRequirements(request.getRequirements());
         event.setAgenda(request.getAgenda());
         event.setRegistrationRequired(request.getRegistrationRequired());
+        event.setWaitlistEnabled(request.getWaitlistEnabled());
         event.setIsPublished(request.getIsPublished());
         event.setIsFeatured(request.getIsFeatured());
 
         Event updatedEvent = eventRepository.save(event);
+        dashboardStatsService.record(Stat.UPCOMING_EVENTS, wasUpcoming, isListedAsUpcoming(updatedEvent));
+
+        // Extra capacity goes to people already waiting before new registrants can take it
+        if (capacityGrew) {
+            eventRepository.findByIdForUpdate(id);
+            promoteIntoOpenSeats(updatedEvent);
+            updatedEvent.setCurrentAttendees(eventRepository.findCurrentAttendees(id));
+            dashboardStreamService.registrationsChanged(id);
+        }
+        if (wasFeatured || isFeaturedAndPublished(updatedEvent)) {
+            cacheInvalidator.evictAfterCommit(CacheConfig.FEATURED_EVENTS);
+        }
         return convertToEventResponse(updatedEvent);
     }
 
@@ -157,20 +221,41 @@ public class EventService {
         eventTypeRepository.save(eventType);
 
         eventRepository.delete(event);
+
+        dashboardStatsService.record(Stat.UPCOMING_EVENTS, isListedAsUpcoming(event), false);
+        cacheInvalidator.evictAfterCommit(CacheConfig.EVENT_TYPES);
+        if (isFeaturedAndPublished(event)) {
+            cacheInvalidator.evictAfterCommit(CacheConfig.FEATURED_EVENTS);
+        }
     }
 
+    @Transactional
     public EventResponse cancelEvent(Long id, String reason) {
         Event event = eventRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Event not found"));
 
+        boolean wasUpcoming = isListedAsUpcoming(event);
         event.cancel(reason);
         Event cancelledEvent = eventRepository.save(event);
+        dashboardStatsService.record(Stat.UPCOMING_EVENTS, wasUpcoming, false);
+
+        if (isFeaturedAndPublished(cancelledEvent)) {
+            cacheInvalidator.evictAfterCommit(CacheConfig.FEATURED_EVENTS);
+        }
 
         return convertToEventResponse(cancelledEvent);
     }
 
     // ========== REGISTRATION OPERATIONS ==========
 
+    /**
+     * Register a user for an event.
+     * The seat is taken with a conditional UPDATE before the registration is written, so the event
+     * row lock is always the first lock taken: inserting a registration needs a shared lock on its
+     * event (foreign key), and two registrants holding that shared lock would deadlock upgrading it
+     * for the seat UPDATE. The lock is held to commit, and maxAttendees can never be exceeded.
+     * When the event is full and has a waitlist, the registration joins the end of the queue.
+     */
     @Transactional
     public EventRegistration registerForEvent(Long eventId, String userEmail) {
         Event event = eventRepository.findById(eventId)
@@ -179,8 +264,10 @@ public class EventService {
         User user = userRepository.findByEmail(userEmail)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
-        // Check if already registered
-        if (registrationRepository.existsByEventIdAndUserIdAndIsCancelledFalse(eventId, user.getId())) {
+        // Check if already registered (fast path only - re-checked when the row is written)
+        EventRegistration registration = registrationRepository.findByEventIdAndUserId(eventId, user.getId())
+                .orElse(null);
+        if (registration != null && !registration.getIsCancelled()) {
             throw new BadRequestException("You are already registered for this event");
         }
 
@@ -189,42 +276,107 @@ public class EventService {
             throw new BadRequestException("Registration is not open for this event");
         }
 
-        // Check if event is full
-        if (event.isFull()) {
+        // Fast path only - the seat reservation below is authoritative
+        boolean waitlistEnabled = Boolean.TRUE.equals(event.getWaitlistEnabled());
+        if (event.isFull() && !waitlistEnabled) {
             throw new BadRequestException("Event is full");
         }
 
-        EventRegistration registration = EventRegistration.builder()
-                .event(event)
-                .user(user)
-                .attendanceStatus("REGISTERED")
-                .isCancelled(false)
-                .isWaitlisted(false)
-                .build();
+        boolean seated = eventRepository.reserveSeat(eventId, LocalDateTime.now()) == 1;
+        if (!seated) {
+            if (!waitlistEnabled) {
+                throw new BadRequestException("Event is full");
+            }
+            // Waitlist positions are assigned under the event lock so they never collide
+            eventRepository.findByIdForUpdate(eventId);
+            // A seat may have been released while we waited for the lock
+            seated = eventRepository.reserveSeat(eventId, LocalDateTime.now()) == 1;
+        }
 
-        EventRegistration savedRegistration = registrationRepository.save(registration);
+        // Any rejection from here on rolls the seat back with the transaction
+        if (registration == null) {
+            registration = EventRegistration.builder()
+                    .event(event)
+                    .user(user)
+                    .attendanceStatus("REGISTERED")
+                    .isCancelled(false)
+                    .isWaitlisted(false)
+                    .build();
+        } else {
+            // Conditional update: of two concurrent renewals of a cancelled row only one succeeds
+            if (registrationRepository.reactivateIfCancelled(registration.getId(), LocalDateTime.now()) == 0) {
+                throw new BadRequestException("You are already registered for this event");
+            }
+            registration.reactivate();
+        }
+        if (!seated) {
+            registration.addToWaitlist(registrationRepository.findMaxWaitlistPosition(eventId) + 1);
+        }
 
-        // Update event attendee count
-        event.incrementAttendeeCount();
-        eventRepository.save(event);
+        EventRegistration savedRegistration;
+        try {
+            savedRegistration = registrationRepository.saveAndFlush(registration);
+        } catch (DataIntegrityViolationException ex) {
+            // Concurrent request for the same (event, user) won the unique constraint
+            throw new BadRequestException("You are already registered for this event");
+        }
 
+        if (seated) {
+            // Seat counts are written with bulk updates, which ContentVersionListener does not see
+            contentVersions.changed(Table.EVENTS);
+            dashboardStreamService.registrationsChanged(eventId);
+        }
+        activityMetrics.registrationAccepted(!seated);
         return savedRegistration;
     }
 
+    /**
+     * Cancel a user's own registration; a freed seat goes straight to the head of the waitlist
+     */
+    @Transactional
     public void cancelRegistration(Long eventId, String userEmail) {
         User user = userRepository.findByEmail(userEmail)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
+        eventRepository.findByIdForUpdate(eventId)
+                .orElseThrow(() -> new ResourceNotFoundException("Event not found"));
+
         EventRegistration registration = registrationRepository.findByEventIdAndUserId(eventId, user.getId())
                 .orElseThrow(() -> new ResourceNotFoundException("Registration not found"));
 
-        registration.cancel("Cancelled by user");
-        registrationRepository.save(registration);
+        // Conditional update: of two concurrent cancels only one frees the seat
+        if (registrationRepository.cancelIfActive(registration.getId(), "Cancelled by user", LocalDateTime.now()) == 0) {
+            throw new BadRequestException("Registration is already cancelled");
+        }
+
+        if (!registration.getIsWaitlisted()) {
+            fillFreedSeats(eventId, 1);
+            dashboardStreamService.registrationsChanged(eventId);
+        }
+    }
+
+    /**
+     * Cancel many registrations of one event (e.g. no-shows) with a fixed number of statements,
+     * promoting as many waitlisted registrations as seats were freed.
+     */
+    @Transactional
+    public CancelRegistrationsResponse cancelRegistrations(Long eventId, List<Long> registrationIds, String reason) {
+        eventRepository.findByIdForUpdate(eventId)
+                .orElseThrow(() -> new ResourceNotFoundException("Event not found"));
+
+        String cancellationReason = reason == null || reason.isBlank() ? "Cancelled by admin" : reason;
+        int freedSeats = (int) registrationRepository.countConfirmedAmong(eventId, registrationIds);
+        int cancelled = registrationRepository.cancelAllIfActive(eventId, registrationIds, cancellationReason, LocalDateTime.now());
+        int promoted = freedSeats > 0 ? fillFreedSeats(eventId, freedSeats) : 0;
+        if (freedSeats > 0) {
+            dashboardStreamService.registrationsChanged(eventId);
+        }
 
-        // Decrement event attendee count
-        Event event = registration.getEvent();
-        event.decrementAttendeeCount();
-        eventRepository.save(event);
+        return CancelRegistrationsResponse.builder()
+                .cancelled(cancelled)
+                .promoted(promoted)
+                .seatsReleased(freedSeats - promoted)
+                .build();
     }
 
     public List<EventRegistration> getEventRegistrations(Long eventId) {
@@ -256,12 +408,64 @@ public class EventService {
                 .isFeatured(event.getIsFeatured())
                 .isFull(event.isFull())
                 .isRegistrationOpen(event.isRegistrationOpen())
+                .waitlistEnabled(event.getWaitlistEnabled())
                 .isCancelled(event.getIsCancelled())
+                .viewCount(viewCountBuffer.currentCount(ViewCountBuffer.Target.EVENT, event.getId(), event.getViewCount()))
                 .slug(event.getSlug())
                 .createdAt(event.getCreatedAt())
                 .build();
     }
 
+    /**
+     * Hand freed seats to the head of the waitlist; seats nobody is waiting for are released.
+     * Caller must hold the event lock.
+     */
+    private int fillFreedSeats(Long eventId, int freedSeats) {
+        List<Long> heads = registrationRepository.findWaitlistHeadIds(eventId, PageRequest.of(0, freedSeats));
+        if (!heads.isEmpty()) {
+            registrationRepository.promoteFromWaitlist(heads, LocalDateTime.now());
+        }
+        if (freedSeats > heads.size()) {
+            eventRepository.releaseSeats(eventId, freedSeats - heads.size(), LocalDateTime.now());
+            contentVersions.changed(Table.EVENTS);
+        }
+        return heads.size();
+    }
+
+    /**
+     * Move waitlisted registrations into seats opened by a capacity increase.
+     * Caller must hold the event lock.
+     */
+    private void promoteIntoOpenSeats(Event event) {
+        Integer maxAttendees = event.getMaxAttendees();
+        int openSeats = maxAttendees == null
+                ? Integer.MAX_VALUE
+                : maxAttendees - eventRepository.findCurrentAttendees(event.getId());
+        if (openSeats <= 0) {
+            return;
+        }
+
+        List<Long> heads = registrationRepository.findWaitlistHeadIds(event.getId(),
+                PageRequest.of(0, Math.min(openSeats, MAX_PROMOTIONS_PER_PASS)));
+        if (!heads.isEmpty()) {
+            registrationRepository.promoteFromWaitlist(heads, LocalDateTime.now());
+            eventRepository.addAttendees(event.getId(), heads.size(), LocalDateTime.now());
+            contentVersions.changed(Table.EVENTS);
+        }
+    }
+
+    private boolean isFeaturedAndPublished(Event event) {
+        return Boolean.TRUE.equals(event.getIsFeatured()) && Boolean.TRUE.equals(event.getIsPublished());
+    }
+
+    /**
+     * Matches EventRepository.countUpcomingEvents
+     */
+    private boolean isListedAsUpcoming(Event event) {
+        return Boolean.TRUE.equals(event.getIsPublished()) && !Boolean.TRUE.equals(event.getIsCancelled())
+                && event.getDateTime() != null && event.getDateTime().isAfter(LocalDateTime.now());
+    }
+
     public long countUpcomingEvents() {
         return eventRepository.countUpcomingEvents(LocalDateTime.now());
     }
@@ -0,0 +1,22 @@
+package com.website.bitsa.service;
+
+import com.website.bitsa.config.CacheConfig;
+import com.website.bitsa.model.EventType;
+import com.website.bitsa.repository.EventTypeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class EventTypeService {
+
+    private final EventTypeRepository eventTypeRepository;
+
+    @Cacheable(CacheConfig.EVENT_TYPES)
+    public List<EventType> getAllEventTypes() {
+        return eventTypeRepository.findAll();
+    }
+}
@@ -1,15 +1,24 @@
 package com.website.bitsa.service;
 
+import com.website.bitsa.config.CacheConfig;
+import com.website.bitsa.dto.response.CursorPage;
 import com.website.bitsa.exception.ResourceNotFoundException;
 import com.website.bitsa.model.Gallery;
 import com.website.bitsa.model.User;
 import com.website.bitsa.repository.GalleryRepository;
 import com.website.bitsa.repository.UserRepository;
+import com.website.bitsa.service.DashboardStatsService.Stat;
+import com.website.bitsa.util.CursorUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
@@ -17,29 +26,72 @@ public class GalleryService {
 
     private final GalleryRepository galleryRepository;
     private final UserRepository userRepository;
-
-    public List<Gallery> getAllPublishedImages() {
-        return galleryRepository.findByIsPublishedTrueOrderByCreatedAtDesc();
+    private final TagService tagService;
+    private final ViewCountBuffer viewCountBuffer;
+    private final CacheInvalidator cacheInvalidator;
+    private final DashboardStatsService dashboardStatsService;
+
+    public CursorPage<Gallery> getPublishedImages(String cursor, Integer limit) {
+        int pageSize = CursorUtil.normalizeLimit(limit);
+        CursorUtil.Cursor after = CursorUtil.decode(cursor);
+        Pageable fetch = PageRequest.of(0, pageSize + 1);
+
+        List<Gallery> images = after == null
+                ? galleryRepository.findByIsPublishedTrueOrderByCreatedAtDescIdDesc(fetch)
+                : galleryRepository.findPublishedAfterCursor(after.timestamp(), after.id(), fetch);
+
+        return CursorPage.of(withBufferedViews(images), pageSize, Gallery::getCreatedAt, Gallery::getId,
+                Function.identity());
     }
 
     public List<Gallery> getImagesByCategory(String category) {
-        return galleryRepository.findByCategoryAndIsPublishedTrueOrderByCreatedAtDesc(category);
+        return withBufferedViews(galleryRepository.findByCategoryAndIsPublishedTrueOrderByCreatedAtDesc(category));
+    }
+
+    /**
+     * Published images carrying any or all of the comma-separated tags, newest first
+     */
+    public CursorPage<Gallery> getImagesByTags(String tags, String match, String cursor, Integer limit) {
+        int pageSize = CursorUtil.normalizeLimit(limit);
+        CursorUtil.Cursor after = CursorUtil.decode(cursor);
+        TagService.TagFilter filter = tagService.filter(tags, match);
+
+        List<Long> ids;
+        if (filter.matchesNothing()) {
+            ids = List.of();
+        } else if (after == null) {
+            ids = galleryRepository.findPublishedIdsByTags(filter.tagIds(), filter.required(), pageSize + 1);
+        } else {
+            ids = galleryRepository.findPublishedIdsByTagsAfterCursor(filter.tagIds(), filter.required(),
+                    after.timestamp(), after.id(), pageSize + 1);
+        }
+
+        List<Gallery> images = TagService.loadInOrder(ids, galleryRepository::findAllById, Gallery::getId);
+        return CursorPage.of(withBufferedViews(images), pageSize, Gallery::getCreatedAt, Gallery::getId,
+                Function.identity());
     }
 
     public List<Gallery> getFeaturedImages() {
-        return galleryRepository.findByIsFeaturedTrueAndIsPublishedTrueOrderByDisplayOrderAsc();
+        return withBufferedViews(galleryRepository.findByIsFeaturedTrueAndIsPublishedTrueOrderByDisplayOrderAsc());
     }
 
     public Gallery getImageById(Long id) {
         Gallery image = galleryRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Image not found with id: " + id));
 
-        image.incrementViewCount();
-        galleryRepository.save(image);
+        viewCountBuffer.record(ViewCountBuffer.Target.GALLERY, image.getId());
 
-        return image;
+        return withBufferedViews(List.of(image)).get(0);
     }
 
+    /**
+     * Count a view answered with 304 Not Modified, where the image itself was never loaded
+     */
+    public void recordView(Long id) {
+        viewCountBuffer.record(ViewCountBuffer.Target.GALLERY, id);
+    }
+
+    @Cacheable(CacheConfig.GALLERY_CATEGORIES)
     public List<String> getAllCategories() {
         return galleryRepository.findAllCategories();
     }
@@ -50,7 +102,14 @@ public class GalleryService {
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
         gallery.setUploadedBy(uploader);
-        return galleryRepository.save(gallery);
+        tagService.syncTags(gallery.getTagIndex(), gallery.getTags());
+        Gallery savedGallery = galleryRepository.save(gallery);
+
+        if (Boolean.TRUE.equals(savedGallery.getIsPublished())) {
+            dashboardStatsService.record(Stat.TOTAL_IMAGES, 1);
+            cacheInvalidator.evictAfterCommit(CacheConfig.GALLERY_CATEGORIES);
+        }
+        return savedGallery;
     }
 
     @Transactional
@@ -58,15 +117,25 @@ public class GalleryService {
         Gallery gallery = galleryRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Image not found"));
 
+        // Only the published category set is cached
+        boolean categoriesChanged = !Objects.equals(gallery.getCategory(), updatedGallery.getCategory())
+                || !Objects.equals(gallery.getIsPublished(), updatedGallery.getIsPublished());
+
         gallery.setTitle(updatedGallery.getTitle());
         gallery.setDescription(updatedGallery.getDescription());
         gallery.setAltText(updatedGallery.getAltText());
         gallery.setCategory(updatedGallery.getCategory());
         gallery.setTags(updatedGallery.getTags());
+        tagService.syncTags(gallery.getTagIndex(), gallery.getTags());
         gallery.setIsFeatured(updatedGallery.getIsFeatured());
+        dashboardStatsService.record(Stat.TOTAL_IMAGES,
+                Boolean.TRUE.equals(gallery.getIsPublished()), Boolean.TRUE.equals(updatedGallery.getIsPublished()));
         gallery.setIsPublished(updatedGallery.getIsPublished());
         gallery.setDisplayOrder(updatedGallery.getDisplayOrder());
 
+        if (categoriesChanged) {
+            cacheInvalidator.evictAfterCommit(CacheConfig.GALLERY_CATEGORIES);
+        }
         return galleryRepository.save(gallery);
     }
 
@@ -74,6 +143,12 @@ public class GalleryService {
         Gallery gallery = galleryRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Image not found"));
         galleryRepository.delete(gallery);
+        cacheInvalidator.evictAfterCommit(CacheConfig.TAG_CLOUD);
+
+        if (Boolean.TRUE.equals(gallery.getIsPublished())) {
+            dashboardStatsService.record(Stat.TOTAL_IMAGES, -1);
+            cacheInvalidator.evictAfterCommit(CacheConfig.GALLERY_CATEGORIES);
+        }
     }
 
     public Gallery togglePublish(Long id) {
@@ -81,15 +156,28 @@ public class GalleryService {
                 .orElseThrow(() -> new ResourceNotFoundException("Image not found"));
 
         gallery.setIsPublished(!gallery.getIsPublished());
-        return galleryRepository.save(gallery);
+        Gallery savedGallery = galleryRepository.save(gallery);
+
+        dashboardStatsService.record(Stat.TOTAL_IMAGES, savedGallery.getIsPublished() ? 1 : -1);
+        cacheInvalidator.evictAfterCommit(CacheConfig.GALLERY_CATEGORIES);
+        cacheInvalidator.evictAfterCommit(CacheConfig.TAG_CLOUD);
+        return savedGallery;
     }
 
     public List<Gallery> getMostViewedImages() {
-        return galleryRepository.findTop10ByIsPublishedTrueOrderByViewCountDesc();
+        return withBufferedViews(galleryRepository.findTop10ByIsPublishedTrueOrderByViewCountDesc());
     }
 
     public List<Gallery> getMostLikedImages() {
-        return galleryRepository.findTop10ByIsPublishedTrueOrderByLikeCountDesc();
+        return withBufferedViews(galleryRepository.findTop10ByIsPublishedTrueOrderByLikeCountDesc());
+    }
+
+    /**
+     * The entities themselves are the response; view_count is not updatable, so the overlay is never written back
+     */
+    private List<Gallery> withBufferedViews(List<Gallery> images) {
+        return viewCountBuffer.withPending(ViewCountBuffer.Target.GALLERY, images, Gallery::getId,
+                Gallery::getViewCount, Gallery::setViewCount);
     }
 
     public long countTotalImages() {
@@ -3,45 +3,149 @@ package com.website.bitsa.service;
 
 import com.website.bitsa.model.User;
 import com.website.bitsa.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
-import java.util.Collections;
-import java.util.List;
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
 
+/**
+ * Signed (HS256) access and refresh tokens, plus the UserDetailsService used at login.
+ * Access tokens carry everything a request needs (id, email, name, role), so verifying
+ * one never touches the database. Both tokens of a login share a session id ("sid"),
+ * which is what logout revokes. Stream tokens are minted from an access token for EventSource
+ * clients, which cannot send headers; they live for a minute and share the login's session id.
+ */
 @Service
-@RequiredArgsConstructor
 public class JwtService implements UserDetailsService {
 
+    public enum TokenType { ACCESS, REFRESH, STREAM }
+
+    private static final String CLAIM_TYPE = "typ";
+    private static final String CLAIM_SESSION = "sid";
+    private static final String CLAIM_USER_ID = "uid";
+    private static final String CLAIM_NAME = "name";
+    private static final String CLAIM_ROLE = "role";
+
     private final UserRepository userRepository;
+    private final SecretKey key;
+    private final Duration accessExpiration;
+    private final Duration refreshExpiration;
+    private final Duration streamExpiration;
+
+    public JwtService(UserRepository userRepository,
+                      @Value("${jwt.secret}") String secret,
+                      @Value("${jwt.expiration}") long accessExpirationMs,
+                      @Value("${jwt.refresh-expiration}") long refreshExpirationMs,
+                      @Value("${jwt.stream-expiration}") long streamExpirationMs) {
+        this.userRepository = userRepository;
+        this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.accessExpiration = Duration.ofMillis(accessExpirationMs);
+        this.refreshExpiration = Duration.ofMillis(refreshExpirationMs);
+        this.streamExpiration = Duration.ofMillis(streamExpirationMs);
+    }
+
+    // ========== USER DETAILS ==========
 
+    /**
+     * Inactive users come back disabled and locked; repeated logins are served from UserDetailsCache
+     */
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
-
-        List<GrantedAuthority> authorities = Collections.singletonList(
-                new SimpleGrantedAuthority("ROLE_" + user.getRole().getName())
-        );
-
-        return org.springframework.security.core.userdetails.User.builder()
-                .username(user.getEmail())
-                .password(user.getPassword())
-                .authorities(authorities)
-                .accountExpired(false)
-                .accountLocked(!user.getIsActive())
-                .credentialsExpired(false)
-                .disabled(!user.getIsActive())
-                .build();
+        return AuthenticatedUser.from(user);
     }
 
     public User getUserFromEmail(String email) {
         return userRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found"));
     }
-}
\ No newline at end of file
+
+    // ========== TOKENS ==========
+
+    public String generateToken(AuthenticatedUser user, UUID sessionId, TokenType type) {
+        return generateToken(user, sessionId, type, UUID.randomUUID());
+    }
+
+    /**
+     * Token with a given id (jti), for callers that record it (refresh tokens, see AuthSessionService)
+     */
+    public String generateToken(AuthenticatedUser user, UUID sessionId, TokenType type, UUID tokenId) {
+        Instant now = Instant.now();
+        Duration lifetime = switch (type) {
+            case ACCESS -> accessExpiration;
+            case REFRESH -> refreshExpiration;
+            case STREAM -> streamExpiration;
+        };
+        return Jwts.builder()
+                .id(tokenId.toString())
+                .subject(user.getUsername())
+                .claim(CLAIM_TYPE, type.name())
+                .claim(CLAIM_SESSION, sessionId.toString())
+                .claim(CLAIM_USER_ID, user.getId())
+                .claim(CLAIM_NAME, user.getName())
+                .claim(CLAIM_ROLE, user.getRoleName())
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(now.plus(lifetime)))
+                .signWith(key)
+                .compact();
+    }
+
+    /**
+     * Verify signature, expiry and type; empty for anything that is not a valid token of that type
+     */
+    public Optional<TokenClaims> parse(String token, TokenType expectedType) {
+        try {
+            Claims claims = Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+            TokenClaims parsed = new TokenClaims(
+                    UUID.fromString(claims.getId()),
+                    UUID.fromString(claims.get(CLAIM_SESSION, String.class)),
+                    claims.get(CLAIM_USER_ID, Long.class),
+                    claims.getSubject(),
+                    claims.get(CLAIM_NAME, String.class),
+                    claims.get(CLAIM_ROLE, String.class),
+                    TokenType.valueOf(claims.get(CLAIM_TYPE, String.class)),
+                    claims.getIssuedAt().toInstant(),
+                    claims.getExpiration().toInstant());
+            return parsed.type() == expectedType ? Optional.of(parsed) : Optional.empty();
+        } catch (JwtException | IllegalArgumentException | NullPointerException ex) {
+            return Optional.empty();
+        }
+    }
+
+    public Duration getAccessExpiration() {
+        return accessExpiration;
+    }
+
+    public Duration getRefreshExpiration() {
+        return refreshExpiration;
+    }
+
+    public Duration getStreamExpiration() {
+        return streamExpiration;
+    }
+
+    public record TokenClaims(UUID tokenId, UUID sessionId, Long userId, String email, String name,
+                              String role, TokenType type, Instant issuedAt, Instant expiresAt) {
+
+        /**
+         * Principal rebuilt from the claims alone (no password, always enabled)
+         */
+        public AuthenticatedUser toPrincipal() {
+            return new AuthenticatedUser(userId, email, "", name, role, true);
+        }
+    }
+}
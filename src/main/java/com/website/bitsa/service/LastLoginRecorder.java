@@ -0,0 +1,94 @@
+package com.website.bitsa.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Write-behind buffer for users.last_login.
+ * Logins only record the timestamp in memory; the latest login per user is written
+ * with one JDBC batch per flush instead of an entity save on the login path.
+ */
+@Slf4j
+@Service
+public class LastLoginRecorder {
+
+    // Never moves last_login backwards if an older batch is retried after a newer one
+    private static final String UPDATE_SQL =
+            "UPDATE users SET last_login = ? WHERE id = ? AND (last_login IS NULL OR last_login < ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ConcurrentHashMap<Long, LocalDateTime> pending = new ConcurrentHashMap<>();
+    private final Counter flushedCounter;
+
+    public LastLoginRecorder(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.flushedCounter = Counter.builder("bitsa.auth.last_login.flushed")
+                .description("Last-login timestamps written to the database")
+                .register(meterRegistry);
+        Gauge.builder("bitsa.auth.last_login.pending", pending, Map::size)
+                .description("Users whose last login is waiting for the next flush")
+                .register(meterRegistry);
+    }
+
+    // ========== RECORDING ==========
+
+    public void record(Long userId) {
+        pending.merge(userId, LocalDateTime.now(), (previous, latest) -> latest.isAfter(previous) ? latest : previous);
+    }
+
+    // ========== FLUSHING ==========
+
+    @Scheduled(fixedDelayString = "${auth.last-login.flush-interval-ms:10000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("Flushing buffered last-login timestamps before shutdown");
+        flush();
+    }
+
+    public synchronized void flush() {
+        List<Long> ids = new ArrayList<>();
+        List<LocalDateTime> times = new ArrayList<>();
+        List<Object[]> batch = new ArrayList<>();
+
+        for (Map.Entry<Long, LocalDateTime> entry : pending.entrySet()) {
+            // Only take the value we read; a newer login keeps its entry for the next flush
+            if (pending.remove(entry.getKey(), entry.getValue())) {
+                Timestamp at = Timestamp.valueOf(entry.getValue());
+                ids.add(entry.getKey());
+                times.add(entry.getValue());
+                batch.add(new Object[]{at, entry.getKey(), at});
+            }
+        }
+
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, batch);
+            flushedCounter.increment(batch.size());
+        } catch (RuntimeException ex) {
+            log.warn("Failed to flush {} last-login timestamps, will retry: {}", batch.size(), ex.getMessage());
+            for (int i = 0; i < ids.size(); i++) {
+                pending.merge(ids.get(i), times.get(i), (current, failed) -> current.isAfter(failed) ? current : failed);
+            }
+        }
+    }
+}
@@ -0,0 +1,431 @@
+package com.website.bitsa.service;
+
+import com.website.bitsa.dto.response.PostSearchHit;
+import com.website.bitsa.dto.response.PostSearchResponse;
+import com.website.bitsa.model.Post;
+import com.website.bitsa.model.Tag;
+import com.website.bitsa.repository.PostRepository;
+import com.website.bitsa.util.TransactionUtil;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.*;
+import org.apache.lucene.index.*;
+import org.apache.lucene.search.*;
+import org.apache.lucene.search.highlight.*;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.Bits;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * Embedded Lucene index over published blog posts.
+ * Searches are served entirely from the index (BM25 ranking, prefix matching, tag/category
+ * filters, highlighted snippets); BlogService pushes changes here after each commit.
+ */
+@Slf4j
+@Service
+public class PostSearchService {
+
+    public static final int DEFAULT_PAGE_SIZE = 10;
+    public static final int MAX_PAGE_SIZE = 50;
+
+    private static final int MAX_QUERY_TERMS = 10;
+    private static final int MIN_PREFIX_LENGTH = 2;
+    private static final int REINDEX_CHUNK = 200;
+    // Bump when toDocument changes: reconcileIndex rewrites documents built by an older version
+    private static final int DOCUMENT_VERSION = 3;
+
+    // Index fields
+    private static final String F_ID = "id";
+    private static final String F_TITLE = "title";
+    private static final String F_CONTENT = "content";
+    private static final String F_TAG_TEXT = "tagText";
+    private static final String F_TAG = "tag";
+    private static final String F_CATEGORY_ID = "categoryId";
+    private static final String F_PUBLISHED_AT = "publishedAt";
+    private static final String F_UPDATED_AT = "updatedAt";
+    private static final String F_SLUG = "slug";
+    private static final String F_EXCERPT = "excerpt";
+    private static final String F_TAGS = "tags";
+    private static final String F_IMAGE = "featuredImage";
+    private static final String F_READING_TIME = "readingTimeMinutes";
+    private static final String F_VERSION = "documentVersion";
+
+    private final PostRepository postRepository;
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    public PostSearchService(PostRepository postRepository,
+                             @Value("${search.index-dir:}") String indexDir) throws IOException {
+        this.postRepository = postRepository;
+        // A blank directory keeps the index in memory (tests); otherwise it survives restarts
+        this.directory = indexDir.isBlank() ? new ByteBuffersDirectory() : FSDirectory.open(Path.of(indexDir));
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        this.searcherManager = new SearcherManager(writer, null);
+    }
+
+    // ========== SEARCH ==========
+
+    public PostSearchResponse search(String keyword, String tag, Long categoryId, Integer page, Integer size) {
+        int pageNumber = page == null ? 0 : Math.max(page, 0);
+        int pageSize = size == null || size < 1 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+
+        List<String> terms = analyze(keyword);
+        Query query = buildQuery(terms, tag, categoryId);
+
+        IndexSearcher searcher = null;
+        try {
+            searcher = searcherManager.acquire();
+            int totalHits = searcher.count(query);
+
+            // In long: a large page number must not overflow into a negative hit count
+            long offset = (long) pageNumber * pageSize;
+            List<PostSearchHit> results = new ArrayList<>();
+            if (offset < totalHits) {
+                int needed = (int) Math.min(offset + pageSize, totalHits);
+
+                // Without keywords every hit scores the same, so newest first is the useful order
+                TopDocs top = terms.isEmpty()
+                        ? searcher.search(query, needed, new Sort(new SortField(F_PUBLISHED_AT, SortField.Type.LONG, true)))
+                        : searcher.search(query, needed);
+
+                Highlighter highlighter = terms.isEmpty() ? null : highlighter(query);
+                StoredFields storedFields = searcher.storedFields();
+                ScoreDoc[] scoreDocs = top.scoreDocs;
+                for (int i = (int) offset; i < scoreDocs.length; i++) {
+                    Document doc = storedFields.document(scoreDocs[i].doc);
+                    results.add(toHit(doc, highlighter, terms.isEmpty() ? null : scoreDocs[i].score));
+                }
+                addNames(results);
+            }
+
+            return PostSearchResponse.builder()
+                    .results(results)
+                    .totalHits((long) totalHits)
+                    .page(pageNumber)
+                    .size(pageSize)
+                    .hasMore(offset + pageSize < totalHits)
+                    .build();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Search failed", ex);
+        } finally {
+            if (searcher != null) {
+                release(searcher);
+            }
+        }
+    }
+
+    /**
+     * Every keyword term must match title, tags or content (exactly or as a prefix)
+     */
+    private Query buildQuery(List<String> terms, String tag, Long categoryId) {
+        BooleanQuery.Builder root = new BooleanQuery.Builder();
+
+        if (terms.isEmpty()) {
+            root.add(new MatchAllDocsQuery(), BooleanClause.Occur.MUST);
+        }
+        for (String term : terms) {
+            BooleanQuery.Builder anyField = new BooleanQuery.Builder();
+            anyField.add(new BoostQuery(new TermQuery(new Term(F_TITLE, term)), 3f), BooleanClause.Occur.SHOULD);
+            anyField.add(new BoostQuery(new TermQuery(new Term(F_TAG_TEXT, term)), 2f), BooleanClause.Occur.SHOULD);
+            anyField.add(new TermQuery(new Term(F_CONTENT, term)), BooleanClause.Occur.SHOULD);
+            if (term.length() >= MIN_PREFIX_LENGTH) {
+                anyField.add(new BoostQuery(new PrefixQuery(new Term(F_TITLE, term)), 1.5f), BooleanClause.Occur.SHOULD);
+                anyField.add(new BoostQuery(new PrefixQuery(new Term(F_CONTENT, term)), 0.5f), BooleanClause.Occur.SHOULD);
+            }
+            root.add(anyField.build(), BooleanClause.Occur.MUST);
+        }
+
+        if (tag != null && !tag.isBlank()) {
+            root.add(new TermQuery(new Term(F_TAG, normalizeTag(tag))), BooleanClause.Occur.FILTER);
+        }
+        if (categoryId != null) {
+            root.add(new TermQuery(new Term(F_CATEGORY_ID, String.valueOf(categoryId))), BooleanClause.Occur.FILTER);
+        }
+        return root.build();
+    }
+
+    private List<String> analyze(String keyword) {
+        List<String> terms = new ArrayList<>();
+        if (keyword == null || keyword.isBlank()) {
+            return terms;
+        }
+        try (TokenStream stream = analyzer.tokenStream(F_CONTENT, keyword)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken() && terms.size() < MAX_QUERY_TERMS) {
+                terms.add(term.toString());
+            }
+            stream.end();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return terms;
+    }
+
+    private Highlighter highlighter(Query query) {
+        Highlighter highlighter = new Highlighter(
+                new SimpleHTMLFormatter("<mark>", "</mark>"),
+                new SimpleHTMLEncoder(),
+                new QueryScorer(query, F_CONTENT));
+        highlighter.setTextFragmenter(new SimpleFragmenter(160));
+        return highlighter;
+    }
+
+    private PostSearchHit toHit(Document doc, Highlighter highlighter, Float score) {
+        String snippet = null;
+        if (highlighter != null) {
+            try {
+                String[] fragments = highlighter.getBestFragments(analyzer, F_CONTENT, doc.get(F_CONTENT), 2);
+                snippet = fragments.length == 0 ? null : String.join(" ... ", fragments);
+            } catch (IOException | InvalidTokenOffsetsException ex) {
+                log.warn("Could not highlight post {}: {}", doc.get(F_ID), ex.getMessage());
+            }
+        }
+
+        String tags = doc.get(F_TAGS);
+        IndexableField publishedAt = doc.getField(F_PUBLISHED_AT);
+        IndexableField readingTime = doc.getField(F_READING_TIME);
+
+        return PostSearchHit.builder()
+                .id(Long.valueOf(doc.get(F_ID)))
+                .title(doc.get(F_TITLE))
+                .slug(doc.get(F_SLUG))
+                .excerpt(doc.get(F_EXCERPT))
+                .snippet(snippet)
+                .featuredImage(doc.get(F_IMAGE))
+                .readingTimeMinutes(readingTime == null ? null : readingTime.numericValue().intValue())
+                .tags(tags == null || tags.isEmpty() ? new String[0] : tags.split(","))
+                .publishedAt(publishedAt == null ? null : fromMillis(publishedAt.numericValue().longValue()))
+                .score(score)
+                .build();
+    }
+
+    /**
+     * Category and author names of one page of hits, in a single query
+     */
+    private void addNames(List<PostSearchHit> hits) {
+        if (hits.isEmpty()) {
+            return;
+        }
+        Map<Long, Object[]> names = new HashMap<>();
+        for (Object[] row : postRepository.findCategoryAndAuthorNames(hits.stream().map(PostSearchHit::getId).toList())) {
+            names.put((Long) row[0], row);
+        }
+        for (PostSearchHit hit : hits) {
+            Object[] row = names.get(hit.getId());
+            if (row != null) {
+                hit.setCategoryName((String) row[1]);
+                hit.setAuthorName((String) row[2]);
+            }
+        }
+    }
+
+    // ========== INDEX MAINTENANCE ==========
+
+    /**
+     * Index (or drop, when unpublished) a post once the current transaction commits.
+     * The document is built now, while lazy associations are still reachable.
+     */
+    public void indexPost(Post post) {
+        if (!Boolean.TRUE.equals(post.getIsPublished())) {
+            removePost(post.getId());
+            return;
+        }
+        Document doc = toDocument(post);
+        TransactionUtil.afterCommit(() -> {
+            // updatedAt is only final after the flush, so stamp it here
+            doc.add(new StoredField(F_UPDATED_AT, toMillis(post.getUpdatedAt())));
+            write(w -> w.updateDocument(idTerm(post.getId()), doc));
+        });
+    }
+
+    public void removePost(Long postId) {
+        TransactionUtil.afterCommit(() -> write(w -> w.deleteDocuments(idTerm(postId))));
+    }
+
+    /**
+     * Bring the persisted index in line with the database without rebuilding it:
+     * only posts whose updatedAt differs from the indexed stamp are re-read.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileIndex() {
+        try {
+            Map<Long, Long> indexed = readIndexedStamps();
+            Map<Long, Long> published = new HashMap<>();
+            for (Object[] row : postRepository.findPublishedIndexStamps()) {
+                published.put((Long) row[0], toMillis((LocalDateTime) row[1]));
+            }
+
+            int removed = 0;
+            for (Long id : indexed.keySet()) {
+                if (!published.containsKey(id)) {
+                    writer.deleteDocuments(idTerm(id));
+                    removed++;
+                }
+            }
+
+            List<Long> stale = new ArrayList<>();
+            published.forEach((id, stamp) -> {
+                if (!stamp.equals(indexed.get(id))) {
+                    stale.add(id);
+                }
+            });
+            for (int from = 0; from < stale.size(); from += REINDEX_CHUNK) {
+                List<Long> chunk = stale.subList(from, Math.min(from + REINDEX_CHUNK, stale.size()));
+                for (Post post : postRepository.findByIdIn(chunk)) {
+                    Document doc = toDocument(post);
+                    doc.add(new StoredField(F_UPDATED_AT, toMillis(post.getUpdatedAt())));
+                    writer.updateDocument(idTerm(post.getId()), doc);
+                }
+            }
+
+            writer.commit();
+            searcherManager.maybeRefresh();
+            log.info("Search index reconciled: {} posts indexed, {} re-indexed, {} removed",
+                    published.size(), stale.size(), removed);
+        } catch (IOException ex) {
+            log.error("Search index reconciliation failed", ex);
+        }
+    }
+
+    private Map<Long, Long> readIndexedStamps() throws IOException {
+        Map<Long, Long> stamps = new HashMap<>();
+        Set<String> fields = Set.of(F_ID, F_UPDATED_AT, F_VERSION);
+        try (DirectoryReader reader = DirectoryReader.open(writer)) {
+            for (LeafReaderContext leaf : reader.leaves()) {
+                Bits liveDocs = leaf.reader().getLiveDocs();
+                StoredFields storedFields = leaf.reader().storedFields();
+                for (int docId = 0; docId < leaf.reader().maxDoc(); docId++) {
+                    if (liveDocs != null && !liveDocs.get(docId)) {
+                        continue;
+                    }
+                    Document doc = storedFields.document(docId, fields);
+                    IndexableField updatedAt = doc.getField(F_UPDATED_AT);
+                    IndexableField version = doc.getField(F_VERSION);
+                    boolean current = updatedAt != null && version != null
+                            && version.numericValue().intValue() == DOCUMENT_VERSION;
+                    // An outdated document never matches, so it is rebuilt like a changed post
+                    stamps.put(Long.valueOf(doc.get(F_ID)), current ? updatedAt.numericValue().longValue() : -1L);
+                }
+            }
+        }
+        return stamps;
+    }
+
+    private Document toDocument(Post post) {
+        Document doc = new Document();
+        doc.add(new StringField(F_ID, String.valueOf(post.getId()), Field.Store.YES));
+        doc.add(new TextField(F_TITLE, nullToEmpty(post.getTitle()), Field.Store.YES));
+        // Markup is stripped so snippets are plain text and tags never match
+        doc.add(new TextField(F_CONTENT, stripMarkup(post.getContent()), Field.Store.YES));
+
+        String[] tags = post.getTagsArray();
+        List<String> normalizedTags = new ArrayList<>();
+        for (String tag : tags) {
+            String normalized = normalizeTag(tag);
+            if (!normalized.isEmpty()) {
+                normalizedTags.add(normalized);
+                doc.add(new StringField(F_TAG, normalized, Field.Store.NO));
+            }
+        }
+        doc.add(new TextField(F_TAG_TEXT, String.join(" ", normalizedTags), Field.Store.NO));
+        doc.add(new StoredField(F_TAGS, String.join(",", Arrays.stream(tags).map(String::trim).toList())));
+
+        doc.add(new StringField(F_CATEGORY_ID, String.valueOf(post.getCategory().getId()), Field.Store.NO));
+        doc.add(new StoredField(F_SLUG, nullToEmpty(post.getSlug())));
+        // Same excerpt as the post lists: the author's, or one taken from the content
+        if (post.getRenderedExcerpt() != null) {
+            doc.add(new StoredField(F_EXCERPT, post.getRenderedExcerpt()));
+        }
+        if (post.getFeaturedImage() != null) {
+            doc.add(new StoredField(F_IMAGE, post.getFeaturedImage()));
+        }
+        if (post.getReadingTimeMinutes() != null) {
+            doc.add(new StoredField(F_READING_TIME, post.getReadingTimeMinutes()));
+        }
+
+        long publishedAt = toMillis(post.getPublishedAt());
+        doc.add(new NumericDocValuesField(F_PUBLISHED_AT, publishedAt));
+        doc.add(new StoredField(F_PUBLISHED_AT, publishedAt));
+        doc.add(new StoredField(F_VERSION, DOCUMENT_VERSION));
+        return doc;
+    }
+
+    // ========== LIFECYCLE & HELPERS ==========
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    private interface IndexOperation {
+        void apply(IndexWriter writer) throws IOException;
+    }
+
+    private synchronized void write(IndexOperation operation) {
+        try {
+            operation.apply(writer);
+            writer.commit();
+            searcherManager.maybeRefresh();
+        } catch (IOException ex) {
+            // The next startup reconciliation repairs anything missed here
+            log.error("Failed to update search index", ex);
+        }
+    }
+
+    private void release(IndexSearcher searcher) {
+        try {
+            searcherManager.release(searcher);
+        } catch (IOException ex) {
+            log.warn("Failed to release index searcher", ex);
+        }
+    }
+
+    private static Term idTerm(Long id) {
+        return new Term(F_ID, String.valueOf(id));
+    }
+
+    private static String normalizeTag(String tag) {
+        return Tag.normalize(tag);
+    }
+
+    private static String stripMarkup(String content) {
+        return content == null ? "" : content.replaceAll("<[^>]+>", " ");
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    // Millisecond precision so in-memory and database timestamps compare equal
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime == null ? 0L : dateTime.truncatedTo(ChronoUnit.MILLIS).toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static LocalDateTime fromMillis(long millis) {
+        return millis == 0L ? null : LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneOffset.UTC);
+    }
+}
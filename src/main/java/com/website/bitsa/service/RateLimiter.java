@@ -0,0 +1,141 @@
+package com.website.bitsa.service;
+
+import com.website.bitsa.config.RateLimit;
+import com.website.bitsa.config.RateLimitBackend;
+import com.website.bitsa.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Per-route token buckets, one per client IP and one per account.
+ * Limits come from "rate-limit.<route>.per-ip" / "rate-limit.<route>.per-account" (see RateLimit);
+ * a route/scope without a property is not limited. Rejections are counted in
+ * bitsa.ratelimit.rejected{route,scope} and surface as 429 with Retry-After.
+ * Most limits take a token per request (check); login per account takes one per failed attempt
+ * only (checkRemaining + charge), so a user's own successful logins never lock them out.
+ */
+@Service
+public class RateLimiter {
+
+    public enum Route {
+        LOGIN("POST", "/api/auth/login"),
+        REGISTER("POST", "/api/auth/register"),
+        CONTACT("POST", "/api/contact"),
+        COMMENT("POST", "/api/blog/posts/*/comments");
+
+        private final String method;
+        private final String pathPattern;
+
+        Route(String method, String pathPattern) {
+            this.method = method;
+            this.pathPattern = pathPattern;
+        }
+
+        public String getMethod() {
+            return method;
+        }
+
+        public String getPathPattern() {
+            return pathPattern;
+        }
+
+        String propertyName() {
+            return name().toLowerCase();
+        }
+    }
+
+    public enum Scope {
+        IP("per-ip"), ACCOUNT("per-account");
+
+        private final String property;
+
+        Scope(String property) {
+            this.property = property;
+        }
+    }
+
+    private final RateLimitBackend backend;
+    private final boolean enabled;
+    private final Map<Route, Map<Scope, RateLimit>> limits = new EnumMap<>(Route.class);
+    private final Map<Route, Map<Scope, Counter>> rejected = new EnumMap<>(Route.class);
+
+    public RateLimiter(RateLimitBackend backend, Environment environment, MeterRegistry meterRegistry) {
+        this.backend = backend;
+        this.enabled = environment.getProperty("rate-limit.enabled", Boolean.class, true);
+        for (Route route : Route.values()) {
+            Map<Scope, RateLimit> routeLimits = new EnumMap<>(Scope.class);
+            Map<Scope, Counter> routeCounters = new EnumMap<>(Scope.class);
+            for (Scope scope : Scope.values()) {
+                String spec = environment.getProperty("rate-limit." + route.propertyName() + "." + scope.property);
+                if (spec != null && !spec.isBlank()) {
+                    routeLimits.put(scope, RateLimit.parse(spec));
+                    routeCounters.put(scope, Counter.builder("bitsa.ratelimit.rejected")
+                            .description("Requests rejected by a rate limit")
+                            .tag("route", route.propertyName())
+                            .tag("scope", scope.name().toLowerCase())
+                            .register(meterRegistry));
+                }
+            }
+            limits.put(route, routeLimits);
+            rejected.put(route, routeCounters);
+        }
+        Gauge.builder("bitsa.ratelimit.buckets", backend, RateLimitBackend::size)
+                .description("Token buckets currently held")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Take a token for this client/account, or throw TooManyRequestsException when its bucket is empty
+     */
+    public void check(Route route, Scope scope, String key) {
+        RateLimit limit = limits.get(route).get(scope);
+        if (!enabled || limit == null || key == null) {
+            return;
+        }
+        reject(route, scope, backend.tryConsume(key(route, scope, key), limit));
+    }
+
+    /**
+     * Throw TooManyRequestsException when this client/account has no token left, without taking one.
+     * For limits charged only on failure (see charge); concurrent attempts may each pass this check.
+     */
+    public void checkRemaining(Route route, Scope scope, String key) {
+        RateLimit limit = limits.get(route).get(scope);
+        if (!enabled || limit == null || key == null) {
+            return;
+        }
+        reject(route, scope, backend.peek(key(route, scope, key), limit));
+    }
+
+    /**
+     * Take a token for a failed attempt; the next checkRemaining rejects once the bucket is empty
+     */
+    public void charge(Route route, Scope scope, String key) {
+        RateLimit limit = limits.get(route).get(scope);
+        if (enabled && limit != null && key != null) {
+            backend.tryConsume(key(route, scope, key), limit);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    private void reject(Route route, Scope scope, RateLimitBackend.Result result) {
+        if (!result.allowed()) {
+            rejected.get(route).get(scope).increment();
+            long retryAfterSeconds = Math.max(1, (long) Math.ceil(result.retryAfter().toMillis() / 1000.0));
+            throw new TooManyRequestsException("Too many requests, please try again later", retryAfterSeconds);
+        }
+    }
+
+    private static String key(Route route, Scope scope, String key) {
+        return route.propertyName() + ":" + scope.property + ":" + key;
+    }
+}
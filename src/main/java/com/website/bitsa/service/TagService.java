@@ -0,0 +1,212 @@
+package com.website.bitsa.service;
+
+import com.website.bitsa.config.CacheConfig;
+import com.website.bitsa.dto.response.TagCountResponse;
+import com.website.bitsa.exception.BadRequestException;
+import com.website.bitsa.model.Tag;
+import com.website.bitsa.repository.TagRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Normalized tag index behind posts and gallery images.
+ * The comma-separated tags column stays the display form; post_tags / gallery_tags hold the
+ * normalized tags so tag pages, AND/OR filters and the tag cloud are index seeks, not LIKE scans.
+ */
+@Slf4j
+@Service
+public class TagService {
+
+    public static final int MAX_FILTER_TAGS = 10;
+
+    private final TagRepository tagRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final CacheInvalidator cacheInvalidator;
+
+    public TagService(TagRepository tagRepository, JdbcTemplate jdbcTemplate, CacheInvalidator cacheInvalidator) {
+        this.tagRepository = tagRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.cacheInvalidator = cacheInvalidator;
+    }
+
+    public enum Match {
+        ANY, ALL;
+
+        public static Match parse(String match) {
+            if (match == null || match.isBlank()) {
+                return ALL;
+            }
+            try {
+                return valueOf(match.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException ex) {
+                throw new BadRequestException("match must be 'any' or 'all'");
+            }
+        }
+    }
+
+    /**
+     * Tag ids to look up and how many of them a row must carry; matchesNothing when
+     * the answer is known to be empty without a query (unknown tag under ALL, no known tag under ANY)
+     */
+    public record TagFilter(List<Long> tagIds, long required, boolean matchesNothing) {
+    }
+
+    // ========== SYNC ==========
+
+    /**
+     * Bring an owner's tag set in line with its comma-separated tags, creating unknown tags.
+     * The set is edited in place so Hibernate only writes the join rows that changed.
+     */
+    @Transactional
+    public void syncTags(Set<Tag> tagIndex, String tags) {
+        Set<String> names = Tag.parse(tags);
+        tagIndex.removeIf(tag -> !names.contains(tag.getName()));
+        tagIndex.addAll(resolve(names));
+        cacheInvalidator.evictAfterCommit(CacheConfig.TAG_CLOUD);
+    }
+
+    private List<Tag> resolve(Set<String> names) {
+        if (names.isEmpty()) {
+            return List.of();
+        }
+        for (String name : names) {
+            if (name.length() > Tag.MAX_NAME_LENGTH) {
+                throw new BadRequestException("Tags can be at most " + Tag.MAX_NAME_LENGTH + " characters");
+            }
+        }
+
+        List<Tag> tags = new ArrayList<>(tagRepository.findByNameIn(names));
+        Set<String> missing = new LinkedHashSet<>(names);
+        tags.forEach(tag -> missing.remove(tag.getName()));
+        if (missing.isEmpty()) {
+            return tags;
+        }
+
+        create(missing);
+        tags.addAll(tagRepository.findCommittedByNameIn(missing));
+        return tags;
+    }
+
+    /**
+     * Insert tags in the caller's transaction, on its connection. A name a concurrent writer already
+     * inserted is left alone instead of failing on uk_tags_name (waiting for that writer to commit or
+     * roll back first), so the caller's transaction survives the race. Names go in sorted so two
+     * writers creating overlapping tags lock them in the same order.
+     */
+    private void create(Set<String> names) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate("INSERT INTO tags (name, created_at) VALUES (?, ?) ON DUPLICATE KEY UPDATE id = id",
+                new TreeSet<>(names).stream().map(name -> new Object[]{name, now}).toList());
+    }
+
+    // ========== FILTERS ==========
+
+    public TagFilter filter(String tags, String match) {
+        Set<String> names = Tag.parse(tags);
+        if (names.isEmpty()) {
+            throw new BadRequestException("Provide at least one tag");
+        }
+        if (names.size() > MAX_FILTER_TAGS) {
+            throw new BadRequestException("Filter by at most " + MAX_FILTER_TAGS + " tags");
+        }
+
+        Match mode = Match.parse(match);
+        List<Long> tagIds = tagRepository.findByNameIn(names).stream().map(Tag::getId).toList();
+        boolean matchesNothing = tagIds.isEmpty() || (mode == Match.ALL && tagIds.size() < names.size());
+        return new TagFilter(tagIds, mode == Match.ALL ? tagIds.size() : 1, matchesNothing);
+    }
+
+    /**
+     * Load rows by id and return them in the order of the ids (the order the id query sorted them in)
+     */
+    public static <T> List<T> loadInOrder(List<Long> ids, Function<List<Long>, List<T>> loader, Function<T, Long> idOf) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, T> byId = new HashMap<>();
+        for (T row : loader.apply(ids)) {
+            byId.put(idOf.apply(row), row);
+        }
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+
+    // ========== TAG CLOUD ==========
+
+    /**
+     * Every tag on published content with its post and image counts, most used first
+     */
+    @Cacheable(CacheConfig.TAG_CLOUD)
+    public List<TagCountResponse> getTagCloud() {
+        Map<String, TagCountResponse> cloud = new HashMap<>();
+        for (Object[] row : tagRepository.countPublishedPostsByTag()) {
+            cloud.computeIfAbsent((String) row[0], TagService::emptyCount).setPostCount(((Number) row[1]).longValue());
+        }
+        for (Object[] row : tagRepository.countPublishedImagesByTag()) {
+            cloud.computeIfAbsent((String) row[0], TagService::emptyCount).setImageCount(((Number) row[1]).longValue());
+        }
+        return cloud.values().stream()
+                .sorted(Comparator.comparingLong((TagCountResponse tag) -> tag.getPostCount() + tag.getImageCount())
+                        .reversed()
+                        .thenComparing(TagCountResponse::getName))
+                .toList();
+    }
+
+    private static TagCountResponse emptyCount(String name) {
+        return TagCountResponse.builder().name(name).postCount(0L).imageCount(0L).build();
+    }
+
+    // ========== BACKFILL ==========
+
+    /**
+     * Index rows whose tags were written without TagService: rows from before the tag tables
+     * existed and bulk-loaded data. Rows already indexed are skipped, so this is a no-op once caught up.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillTagIndex() {
+        int posts = backfill("posts", "post_tags", "post_id");
+        int images = backfill("gallery", "gallery_tags", "gallery_id");
+        if (posts + images > 0) {
+            cacheInvalidator.evictAfterCommit(CacheConfig.TAG_CLOUD);
+            log.info("Tag index backfilled: {} posts, {} images", posts, images);
+        }
+    }
+
+    private int backfill(String table, String joinTable, String ownerColumn) {
+        Map<Long, Set<String>> untagged = new LinkedHashMap<>();
+        jdbcTemplate.query("SELECT o.id, o.tags FROM " + table + " o WHERE o.tags IS NOT NULL AND o.tags <> '' "
+                        + "AND NOT EXISTS (SELECT 1 FROM " + joinTable + " j WHERE j." + ownerColumn + " = o.id)",
+                rs -> {
+                    Set<String> names = Tag.parse(rs.getString(2));
+                    names.removeIf(name -> name.length() > Tag.MAX_NAME_LENGTH);
+                    if (!names.isEmpty()) {
+                        untagged.put(rs.getLong(1), names);
+                    }
+                });
+        if (untagged.isEmpty()) {
+            return 0;
+        }
+
+        Set<String> allNames = new HashSet<>();
+        untagged.values().forEach(allNames::addAll);
+        Map<String, Long> tagIds = new HashMap<>();
+        for (Tag tag : resolve(allNames)) {
+            tagIds.put(tag.getName(), tag.getId());
+        }
+
+        List<Object[]> rows = new ArrayList<>();
+        untagged.forEach((ownerId, names) -> names.forEach(name -> rows.add(new Object[]{ownerId, tagIds.get(name)})));
+        jdbcTemplate.batchUpdate("INSERT INTO " + joinTable + " (" + ownerColumn + ", tag_id) VALUES (?, ?)", rows);
+        return untagged.size();
+    }
+}
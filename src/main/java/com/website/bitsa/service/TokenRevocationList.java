@@ -0,0 +1,77 @@
+package com.website.bitsa.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Revoked access tokens on this node, kept only until they would have expired anyway.
+ * Two kinds of entry, keyed by compact values (UUIDs and user ids, never token strings):
+ * a login session (sid, shared by its access and stream tokens) and a user (every token issued
+ * before a point in time). Other nodes learn nothing from it, so a revoked access token stays usable
+ * there until it expires; refresh tokens are checked against the shared AuthSessionService instead.
+ */
+@Service
+public class TokenRevocationList {
+
+    // id -> epoch second after which the entry can be forgotten
+    private final Map<UUID, Long> revokedSessions = new ConcurrentHashMap<>();
+    // user id -> tokens issued at or before this epoch second are revoked
+    private final Map<Long, Long> revokedUsers = new ConcurrentHashMap<>();
+
+    private final long maxTokenLifetimeSeconds;
+
+    public TokenRevocationList(JwtService jwtService, MeterRegistry meterRegistry) {
+        this.maxTokenLifetimeSeconds = Math.max(jwtService.getAccessExpiration().toSeconds(),
+                jwtService.getStreamExpiration().toSeconds());
+        Gauge.builder("bitsa.auth.revoked", this, TokenRevocationList::size)
+                .description("Revocation entries held in memory")
+                .register(meterRegistry);
+    }
+
+    // ========== REVOKING ==========
+
+    /**
+     * Every access and stream token of the login stops working on this node (logout)
+     */
+    public void revokeSession(UUID sessionId) {
+        revokedSessions.merge(sessionId, Instant.now().getEpochSecond() + maxTokenLifetimeSeconds, Math::max);
+    }
+
+    /**
+     * Every token the user holds right now stops working (deactivation, deletion)
+     */
+    public void revokeUser(Long userId) {
+        revokedUsers.merge(userId, Instant.now().getEpochSecond(), Math::max);
+    }
+
+    // ========== CHECKING ==========
+
+    public boolean isRevoked(JwtService.TokenClaims claims) {
+        if (revokedSessions.containsKey(claims.sessionId())) {
+            return true;
+        }
+        Long revokedBefore = revokedUsers.get(claims.userId());
+        return revokedBefore != null && claims.issuedAt().getEpochSecond() <= revokedBefore;
+    }
+
+    public int size() {
+        return revokedSessions.size() + revokedUsers.size();
+    }
+
+    /**
+     * Drop entries for tokens that have expired on their own
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation-purge-interval-ms:60000}")
+    public void purgeExpired() {
+        long now = Instant.now().getEpochSecond();
+        revokedSessions.values().removeIf(expiresAt -> expiresAt < now);
+        revokedUsers.values().removeIf(revokedAt -> revokedAt + maxTokenLifetimeSeconds < now);
+    }
+}
@@ -0,0 +1,64 @@
+package com.website.bitsa.service;
+
+import com.website.bitsa.config.CacheConfig;
+import com.website.bitsa.util.TransactionUtil;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+
+/**
+ * Login-time UserDetails cache keyed by email (Caffeine spec "cache.specs.users": size bound + TTL).
+ * Entries are immutable snapshots and every hit returns a fresh principal, because Spring Security
+ * erases the password on the principal it hands back after authentication.
+ * A cached entry whose password no longer matches is reloaded from the database by the provider.
+ */
+@Service
+public class UserDetailsCache implements UserCache {
+
+    private final Cache cache;
+
+    public UserDetailsCache(CacheManager cacheManager) {
+        this.cache = cacheManager.getCache(CacheConfig.USERS);
+    }
+
+    @Override
+    public UserDetails getUserFromCache(String email) {
+        Snapshot snapshot = cache.get(email, Snapshot.class);
+        return snapshot == null ? null : snapshot.toPrincipal();
+    }
+
+    @Override
+    public void putUserInCache(UserDetails user) {
+        if (user instanceof AuthenticatedUser principal && principal.getPassword() != null) {
+            cache.put(principal.getUsername(), Snapshot.of(principal));
+        }
+    }
+
+    @Override
+    public void removeUserFromCache(String email) {
+        cache.evict(email);
+    }
+
+    /**
+     * Drop the entry now and again once the surrounding transaction commits,
+     * so a login racing the change cannot re-cache the old state
+     */
+    public void invalidate(String email) {
+        removeUserFromCache(email);
+        TransactionUtil.afterCommit(() -> removeUserFromCache(email));
+    }
+
+    private record Snapshot(Long id, String email, String password, String name, String roleName, boolean active) {
+
+        static Snapshot of(AuthenticatedUser user) {
+            return new Snapshot(user.getId(), user.getUsername(), user.getPassword(), user.getName(),
+                    user.getRoleName(), user.isEnabled());
+        }
+
+        AuthenticatedUser toPrincipal() {
+            return new AuthenticatedUser(id, email, password, name, roleName, active);
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.website.bitsa.model.User;
 import com.website.bitsa.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -14,6 +15,10 @@ import java.util.List;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final DashboardStatsService dashboardStatsService;
+    private final UserDetailsCache userDetailsCache;
+    private final TokenRevocationList tokenRevocationList;
+    private final AuthSessionService authSessionService;
 
     public List<User> getAllUsers() {
         return userRepository.findAll();
@@ -49,20 +54,36 @@ public class UserService {
         return userRepository.countByRoleName("ADMIN");
     }
 
+    @Transactional
     public void deleteUser(Long id) {
         User user = getUserById(id);
         userRepository.delete(user);
+        userDetailsCache.invalidate(user.getEmail());
+        tokenRevocationList.revokeUser(user.getId());
+        authSessionService.endAll(user.getId());
+        dashboardStatsService.recordUser(user, Boolean.TRUE.equals(user.getIsActive()), false);
     }
 
+    @Transactional
     public User deactivateUser(Long id) {
-        User user = getUserById(id);
-        user.setIsActive(false);
-        return userRepository.save(user);
+        return setActive(id, false);
     }
 
+    @Transactional
     public User activateUser(Long id) {
+        return setActive(id, true);
+    }
+
+    private User setActive(Long id, boolean active) {
         User user = getUserById(id);
-        user.setIsActive(true);
+        dashboardStatsService.recordUser(user, Boolean.TRUE.equals(user.getIsActive()), active);
+        user.setIsActive(active);
+        userDetailsCache.invalidate(user.getEmail());
+        if (!active) {
+            // Access tokens are verified without a lookup, so outstanding ones must be revoked explicitly
+            tokenRevocationList.revokeUser(user.getId());
+            authSessionService.endAll(user.getId());
+        }
         return userRepository.save(user);
     }
 }
\ No newline at end of file
@@ -0,0 +1,176 @@
+package com.website.bitsa.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Write-behind buffer for view counters.
+ * Public GETs record a view here instead of saving the whole entity; deltas are
+ * aggregated per entity id and flushed as batched "view_count = view_count + ?" updates.
+ */
+@Slf4j
+@Service
+public class ViewCountBuffer {
+
+    public enum Target {
+        POST("UPDATE posts SET view_count = COALESCE(view_count, 0) + ?, last_viewed_at = ? WHERE id = ?"),
+        EVENT("UPDATE events SET view_count = COALESCE(view_count, 0) + ? WHERE id = ?"),
+        GALLERY("UPDATE gallery SET view_count = COALESCE(view_count, 0) + ? WHERE id = ?");
+
+        private final String updateSql;
+
+        Target(String updateSql) {
+            this.updateSql = updateSql;
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // One LongAdder per entity id: concurrent viewers of the same row never contend on a lock
+    private final Map<Target, ConcurrentHashMap<Long, LongAdder>> pending = new EnumMap<>(Target.class);
+    private final Map<Target, Counter> bufferedCounters = new EnumMap<>(Target.class);
+    private final Map<Target, Counter> flushedCounters = new EnumMap<>(Target.class);
+
+    public ViewCountBuffer(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+
+        for (Target target : Target.values()) {
+            ConcurrentHashMap<Long, LongAdder> deltas = new ConcurrentHashMap<>();
+            pending.put(target, deltas);
+
+            String name = target.name().toLowerCase();
+            bufferedCounters.put(target, Counter.builder("bitsa.views.buffered")
+                    .description("View increments recorded in memory")
+                    .tag("target", name)
+                    .register(meterRegistry));
+            flushedCounters.put(target, Counter.builder("bitsa.views.flushed")
+                    .description("View increments written to the database")
+                    .tag("target", name)
+                    .register(meterRegistry));
+            Gauge.builder("bitsa.views.pending", deltas, ViewCountBuffer::sum)
+                    .description("View increments waiting for the next flush")
+                    .tag("target", name)
+                    .register(meterRegistry);
+        }
+    }
+
+    // ========== RECORDING ==========
+
+    /**
+     * Record a single view (called on the public read path)
+     */
+    public void record(Target target, Long id) {
+        pending.get(target).computeIfAbsent(id, key -> new LongAdder()).increment();
+        bufferedCounters.get(target).increment();
+    }
+
+    /**
+     * Persisted count plus the views still waiting in the buffer
+     */
+    public int currentCount(Target target, Long id, Integer persistedCount) {
+        LongAdder delta = pending.get(target).get(id);
+        int base = persistedCount != null ? persistedCount : 0;
+        return delta == null ? base : base + (int) delta.sum();
+    }
+
+    /**
+     * Add the buffered views to items about to be returned. Only for freshly built DTOs or entities
+     * whose view_count is not updatable; never for cached instances, which would be counted twice.
+     */
+    public <T> List<T> withPending(Target target, List<T> items, Function<T, Long> id,
+                                   Function<T, Integer> persistedCount, BiConsumer<T, Integer> setCount) {
+        if (pending.get(target).isEmpty()) {
+            return items;
+        }
+        for (T item : items) {
+            setCount.accept(item, currentCount(target, id.apply(item), persistedCount.apply(item)));
+        }
+        return items;
+    }
+
+    // ========== FLUSHING ==========
+
+    @Scheduled(fixedDelayString = "${views.flush-interval-ms:5000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("Flushing buffered view counts before shutdown");
+        flush();
+    }
+
+    /**
+     * Drain every non-zero delta and write it with one JDBC batch per target
+     */
+    public synchronized void flush() {
+        LocalDateTime now = LocalDateTime.now();
+
+        for (Target target : Target.values()) {
+            ConcurrentHashMap<Long, LongAdder> deltas = pending.get(target);
+            List<Long> ids = new ArrayList<>();
+            List<Object[]> batch = new ArrayList<>();
+
+            deltas.forEach((id, adder) -> {
+                long delta = adder.sumThenReset();
+                if (delta > 0) {
+                    ids.add(id);
+                    batch.add(target == Target.POST
+                            ? new Object[]{delta, Timestamp.valueOf(now), id}
+                            : new Object[]{delta, id});
+                }
+            });
+
+            if (batch.isEmpty()) {
+                continue;
+            }
+
+            try {
+                int[] updated = jdbcTemplate.batchUpdate(target.updateSql, batch);
+                long written = 0;
+                for (int i = 0; i < updated.length; i++) {
+                    long delta = (long) batch.get(i)[0];
+                    if (updated[i] == 0) {
+                        // Row was deleted since it was viewed - stop tracking it
+                        deltas.remove(ids.get(i));
+                    } else {
+                        written += delta;
+                    }
+                }
+                flushedCounters.get(target).increment(written);
+            } catch (RuntimeException ex) {
+                // Put the deltas back so the next flush retries them
+                log.warn("Failed to flush {} view counts, will retry: {}", target, ex.getMessage());
+                for (int i = 0; i < ids.size(); i++) {
+                    deltas.computeIfAbsent(ids.get(i), key -> new LongAdder()).add((long) batch.get(i)[0]);
+                }
+            }
+        }
+    }
+
+    private static double sum(ConcurrentHashMap<Long, LongAdder> deltas) {
+        long total = 0;
+        for (LongAdder adder : deltas.values()) {
+            total += adder.sum();
+        }
+        return total;
+    }
+}
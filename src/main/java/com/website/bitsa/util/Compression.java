@@ -0,0 +1,104 @@
+package com.website.bitsa.util;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.Encoder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Response body encoders: Brotli through Brotli4j's bundled native library, gzip from the JDK.
+ * When the native library does not load on this platform, Brotli is simply never negotiated.
+ */
+public class Compression {
+
+    public static final boolean BROTLI_AVAILABLE = Brotli4jLoader.isAvailable();
+
+    public enum Encoding {
+        BROTLI("br"), GZIP("gzip");
+
+        private final String token;
+
+        Encoding(String token) {
+            this.token = token;
+        }
+
+        public String token() {
+            return token;
+        }
+    }
+
+    /**
+     * Pick the encoding for an Accept-Encoding header: Brotli over gzip, nothing the client gave q=0.
+     * Returns null when the response should go out uncompressed.
+     */
+    public static Encoding negotiate(String acceptEncoding, boolean brotliEnabled) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return null;
+        }
+        boolean brotli = false;
+        boolean gzip = false;
+        for (String entry : acceptEncoding.split(",")) {
+            String[] parts = entry.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            if (isRefused(parts)) {
+                continue;
+            }
+            brotli |= coding.equals("br");
+            gzip |= coding.equals("gzip") || coding.equals("*");
+        }
+        if (brotli && brotliEnabled && BROTLI_AVAILABLE) {
+            return Encoding.BROTLI;
+        }
+        return gzip ? Encoding.GZIP : null;
+    }
+
+    private static boolean isRefused(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2)) <= 0;
+                } catch (NumberFormatException ex) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    public static byte[] compress(Encoding encoding, byte[] body, int level) {
+        return encoding == Encoding.BROTLI ? brotli(body, level) : gzip(body, level);
+    }
+
+    /**
+     * @param quality 0-11; 4-6 is the usual range for responses compressed on the fly
+     */
+    public static byte[] brotli(byte[] body, int quality) {
+        try {
+            return Encoder.compress(body, new Encoder.Parameters().setQuality(quality));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * @param level 1-9 (java.util.zip.Deflater levels)
+     */
+    public static byte[] gzip(byte[] body, int level) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(level);
+            }
+        }) {
+            gzip.write(body);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return out.toByteArray();
+    }
+}
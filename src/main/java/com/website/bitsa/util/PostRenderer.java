@@ -0,0 +1,126 @@
+package com.website.bitsa.util;
+
+import com.website.bitsa.model.Post;
+import org.jsoup.Jsoup;
+import org.jsoup.safety.Safelist;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Write-time rendering of a post: slug, canonical tags, sanitized HTML, word count, reading time
+ * and excerpt are computed here once per content change and stored, so reads never redo them.
+ * The inputs are fingerprinted in contentHash; a save that leaves them unchanged skips the work.
+ */
+public class PostRenderer {
+
+    public static final int WORDS_PER_MINUTE = 200;
+    public static final int EXCERPT_LENGTH = 200;
+
+    private static final Pattern SLUG_INVALID = Pattern.compile("[^a-z0-9\\s-]");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern HYPHENS = Pattern.compile("-+");
+    private static final char SEPARATOR = '\u0000';
+
+    // Formatting, links, images and tables; no scripts, styles, iframes or event handlers
+    private static final Safelist SAFELIST = Safelist.relaxed().preserveRelativeLinks(true);
+
+    // Only used to resolve relative links while checking their protocol; the links are kept relative
+    private static final String BASE_URI = "https://localhost/";
+
+    /**
+     * Render the post if its content, excerpt or tags changed since the last render.
+     *
+     * @return true when the artifacts were recomputed
+     */
+    public static boolean render(Post post) {
+        post.setTags(canonicalTags(post.getTags()));
+        if (post.getSlug() == null || post.getSlug().isEmpty()) {
+            post.setSlug(slugify(post.getTitle()));
+        }
+
+        String hash = hash(post.getContent(), post.getExcerpt(), post.getTags());
+        if (hash.equals(post.getContentHash())) {
+            return false;
+        }
+
+        String html = sanitize(post.getContent());
+        String text = Jsoup.parseBodyFragment(html).text();
+        int wordCount = countWords(text);
+
+        post.setContentHtml(html);
+        post.setWordCount(wordCount);
+        post.setReadingTimeMinutes(Math.max(1, wordCount / WORDS_PER_MINUTE));
+        post.setRenderedExcerpt(post.getExcerpt() == null || post.getExcerpt().isBlank()
+                ? excerpt(text)
+                : post.getExcerpt().trim());
+        post.setContentHash(hash);
+        return true;
+    }
+
+    public static String slugify(String title) {
+        String slug = SLUG_INVALID.matcher(title.toLowerCase(Locale.ROOT)).replaceAll("");
+        slug = WHITESPACE.matcher(slug.trim()).replaceAll("-");
+        return HYPHENS.matcher(slug).replaceAll("-");
+    }
+
+    public static String sanitize(String html) {
+        return html == null ? "" : Jsoup.clean(html, BASE_URI, SAFELIST);
+    }
+
+    /**
+     * Trimmed, non-blank tags without case-insensitive duplicates, comma-joined (first spelling wins)
+     */
+    public static String canonicalTags(String tags) {
+        if (tags == null || tags.isBlank()) {
+            return null;
+        }
+        List<String> kept = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (String tag : tags.split(",")) {
+            String trimmed = tag.trim();
+            if (!trimmed.isEmpty() && seen.add(trimmed.toLowerCase(Locale.ROOT))) {
+                kept.add(trimmed);
+            }
+        }
+        return kept.isEmpty() ? null : String.join(",", kept);
+    }
+
+    /**
+     * First EXCERPT_LENGTH characters of the plain text, cut at a word boundary
+     */
+    static String excerpt(String text) {
+        if (text.length() <= EXCERPT_LENGTH) {
+            return text;
+        }
+        int cut = text.lastIndexOf(' ', EXCERPT_LENGTH);
+        return text.substring(0, cut > 0 ? cut : EXCERPT_LENGTH) + "...";
+    }
+
+    private static int countWords(String text) {
+        return text.isBlank() ? 0 : WHITESPACE.split(text.trim()).length;
+    }
+
+    private static String hash(String... inputs) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String input : inputs) {
+                if (input != null) {
+                    digest.update(input.getBytes(StandardCharsets.UTF_8));
+                }
+                digest.update((byte) SEPARATOR);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.website.bitsa.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Side effects that must only happen once the surrounding transaction has committed
+ * (index updates, in-memory counters, notifications).
+ */
+public class TransactionUtil {
+
+    /**
+     * Run the action after the current transaction commits, or right away when there is none.
+     * A rolled back transaction never runs it.
+     */
+    public static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,273 @@
+-- Baseline: the schema as Hibernate (ddl-auto=update) created it before migrations were introduced.
+-- Existing databases are baselined at version 1 (spring.flyway.baseline-on-migrate) and skip this script;
+-- constraint names are Hibernate's generated ones so both paths end with the same schema.
+
+create table categories (
+    display_order integer,
+    is_active bit,
+    is_featured bit,
+    post_count integer,
+    color_hex varchar(7),
+    created_at datetime(6) not null,
+    id bigint not null auto_increment,
+    updated_at datetime(6),
+    icon_class varchar(50),
+    name varchar(100) not null,
+    slug varchar(100),
+    description varchar(500),
+    primary key (id)
+) engine=InnoDB;
+
+create table comments (
+    is_approved bit,
+    is_edited bit,
+    is_flagged bit,
+    like_count integer,
+    approved_at datetime(6),
+    approved_by bigint,
+    created_at datetime(6) not null,
+    id bigint not null auto_increment,
+    post_id bigint not null,
+    updated_at datetime(6),
+    user_id bigint not null,
+    commentText TEXT not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table contact_messages (
+    is_read bit,
+    is_replied bit,
+    is_spam bit,
+    spam_score float(53),
+    created_at datetime(6) not null,
+    id bigint not null auto_increment,
+    read_at datetime(6),
+    read_by bigint,
+    replied_at datetime(6),
+    replied_by bigint,
+    updated_at datetime(6),
+    phone varchar(20),
+    category varchar(50),
+    ip_address varchar(50),
+    priority varchar(50),
+    email varchar(100) not null,
+    name varchar(100) not null,
+    subject varchar(200),
+    referrer varchar(500),
+    user_agent varchar(500),
+    message TEXT not null,
+    reply_message TEXT,
+    primary key (id)
+) engine=InnoDB;
+
+create table event_registrations (
+    checked_in bit,
+    confirmation_sent bit,
+    is_cancelled bit,
+    is_waitlisted bit,
+    reminder_sent bit,
+    waitlist_position integer,
+    cancelled_at datetime(6),
+    check_in_time datetime(6),
+    checked_in_by bigint,
+    event_id bigint not null,
+    id bigint not null auto_increment,
+    registration_date datetime(6) not null,
+    updated_at datetime(6),
+    user_id bigint not null,
+    attendance_status varchar(50),
+    cancellation_reason varchar(500),
+    special_requirements varchar(500),
+    notes varchar(1000),
+    primary key (id)
+) engine=InnoDB;
+
+create table event_types (
+    default_duration_minutes integer,
+    display_order integer,
+    event_count integer,
+    has_capacity_limit bit,
+    is_active bit,
+    is_featured bit,
+    requires_registration bit,
+    total_attendees integer,
+    color_hex varchar(7),
+    created_at datetime(6) not null,
+    id bigint not null auto_increment,
+    updated_at datetime(6),
+    badge_color varchar(50),
+    icon_class varchar(50),
+    name varchar(100) not null,
+    slug varchar(100),
+    description varchar(500),
+    primary key (id)
+) engine=InnoDB;
+
+create table events (
+    current_attendees integer,
+    duration_minutes integer,
+    is_cancelled bit,
+    is_featured bit,
+    is_published bit,
+    max_attendees integer,
+    registration_required bit,
+    share_count integer,
+    view_count integer,
+    waitlist_enabled bit,
+    created_at datetime(6) not null,
+    creator_id bigint not null,
+    dateTime datetime(6) not null,
+    event_type_id bigint not null,
+    id bigint not null auto_increment,
+    registration_closes_at datetime(6),
+    registration_opens_at datetime(6),
+    updated_at datetime(6),
+    featured_image_alt varchar(200),
+    location varchar(200) not null,
+    slug varchar(200),
+    title varchar(200) not null,
+    cancellation_reason varchar(500),
+    featured_image varchar(500),
+    meeting_link varchar(500),
+    requirements varchar(1000),
+    agenda TEXT,
+    description TEXT not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table gallery (
+    display_order integer,
+    height integer,
+    is_featured bit,
+    is_published bit,
+    like_count integer,
+    view_count integer,
+    width integer,
+    created_at datetime(6) not null,
+    event_date datetime(6),
+    file_size bigint,
+    id bigint not null auto_increment,
+    updated_at datetime(6),
+    uploaded_by bigint not null,
+    file_type varchar(50),
+    category varchar(100),
+    altText varchar(200),
+    title varchar(200) not null,
+    description varchar(500),
+    imageUrl varchar(500) not null,
+    tags varchar(500),
+    primary key (id)
+) engine=InnoDB;
+
+create table posts (
+    comment_count integer,
+    comments_enabled bit,
+    is_featured bit,
+    is_locked bit,
+    is_pinned bit,
+    is_published bit,
+    like_count integer,
+    reading_time_minutes integer,
+    share_count integer,
+    view_count integer,
+    author_id bigint not null,
+    category_id bigint not null,
+    created_at datetime(6) not null,
+    id bigint not null auto_increment,
+    last_viewed_at datetime(6),
+    published_at datetime(6),
+    updated_at datetime(6),
+    language varchar(10),
+    featured_image_alt varchar(200),
+    meta_title varchar(200),
+    slug varchar(200),
+    title varchar(200) not null,
+    excerpt varchar(500),
+    featured_image varchar(500),
+    meta_description varchar(500),
+    meta_keywords varchar(500),
+    tags varchar(500),
+    content TEXT not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table roles (
+    can_comment bit,
+    can_manage_events bit,
+    can_manage_gallery bit,
+    can_manage_posts bit,
+    can_manage_users bit,
+    can_register_events bit,
+    is_active bit,
+    created_at datetime(6) not null,
+    id bigint not null auto_increment,
+    updated_at datetime(6),
+    name varchar(50) not null,
+    description varchar(200),
+    primary key (id)
+) engine=InnoDB;
+
+create table users (
+    is_active bit,
+    is_email_verified bit,
+    year integer,
+    created_at datetime(6) not null,
+    id bigint not null auto_increment,
+    last_login datetime(6),
+    role_id bigint not null,
+    updated_at datetime(6),
+    student_id varchar(50),
+    course varchar(100),
+    email varchar(100) not null,
+    name varchar(100) not null,
+    password varchar(255) not null,
+    primary key (id)
+) engine=InnoDB;
+
+alter table categories
+    add constraint UKt8o6pivur7nn124jehx7cygw5 unique (name);
+
+alter table event_registrations
+    add constraint UKmv1wttabjpboyulu2pql4koqo unique (event_id, user_id);
+
+alter table event_types
+    add constraint UK60hr93n9u4csw3jstw87kwvyb unique (name);
+
+alter table roles
+    add constraint UKofx66keruapi6vyqpv6f2or37 unique (name);
+
+alter table users
+    add constraint UKqh3otyipv2k9hqte4a1abcyhq unique (student_id);
+
+alter table users
+    add constraint UK6dotkott2kjsp8vw4d0m25fb7 unique (email);
+
+alter table comments
+    add constraint FKh4c7lvsc298whoyd4w9ta25cr foreign key (post_id) references posts (id);
+
+alter table comments
+    add constraint FK8omq0tc18jd43bu5tjh6jvraq foreign key (user_id) references users (id);
+
+alter table event_registrations
+    add constraint FK6eykq6wu4n23qhn5vwb8kyut5 foreign key (event_id) references events (id);
+
+alter table event_registrations
+    add constraint FKnk7jh3bmmv11csoxkjnb6av4h foreign key (user_id) references users (id);
+
+alter table events
+    add constraint FK7ljm71n1057envlomdxcni5hs foreign key (creator_id) references users (id);
+
+alter table events
+    add constraint FK2198du56mf1aoaxrdlw3du288 foreign key (event_type_id) references event_types (id);
+
+alter table gallery
+    add constraint FKg4bmpvgl4fr3bm2bj3exe9bph foreign key (uploaded_by) references users (id);
+
+alter table posts
+    add constraint FK6xvn0811tkyo3nfjk2xvqx6ns foreign key (author_id) references users (id);
+
+alter table posts
+    add constraint FKijnwr3brs8vaosl80jg9rp7uc foreign key (category_id) references categories (id);
+
+alter table users
+    add constraint FKp56c1712k691lhsyewcssf40f foreign key (role_id) references roles (id);
@@ -0,0 +1,71 @@
+-- Composite indexes for the public listing, detail and moderation queries.
+-- Column order: equality predicates first, then the range/sort column. InnoDB appends the primary key
+-- to every secondary index, so the keyset tiebreak "ORDER BY <column>, id" is served by the same index.
+-- IndexPlanTest asserts each query below is planned on its index.
+
+-- ========== posts ==========
+
+-- PostRepository: findByIsPublishedTrueOrderByPublishedAtDesc[IdDesc], findPublishedAfterCursor,
+-- findRecentPosts, countByIsPublishedTrue, findPublishedIndexStamps
+create index idx_posts_published_at on posts (is_published, published_at);
+
+-- PostRepository: findBySlugAndIsPublishedTrue
+create index idx_posts_slug on posts (slug);
+
+-- PostRepository: findByCategoryIdAndIsPublishedTrue[OrderByPublishedAtDesc], countByCategoryIdAndIsPublishedTrue,
+-- findRelatedPosts (also serves the category_id foreign key)
+create index idx_posts_category_published_at on posts (category_id, is_published, published_at);
+
+-- PostRepository: findByAuthorIdOrderByCreatedAtDesc, countByAuthorId (also serves the author_id foreign key)
+create index idx_posts_author_created_at on posts (author_id, created_at);
+
+-- ========== events ==========
+
+-- EventRepository: findUpcomingEvents[AfterCursor], countUpcomingEvents
+create index idx_events_upcoming on events (is_published, is_cancelled, dateTime);
+
+-- EventRepository: findPastEvents[AfterCursor], findFeaturedUpcomingEvents (no is_cancelled predicate)
+create index idx_events_published_date on events (is_published, dateTime);
+
+-- EventRepository: findBySlugAndIsPublishedTrue
+create index idx_events_slug on events (slug);
+
+-- EventRepository: findUpcomingEventsByType (also serves the event_type_id foreign key)
+create index idx_events_type_date on events (event_type_id, is_published, dateTime);
+
+-- ========== comments ==========
+
+-- CommentRepository: findByPostIdAndIsApprovedTrueOrderByCreatedAtDesc, countByPostIdAndIsApprovedTrue,
+-- countByPostIdAndIsApprovedFalseAndIsFlaggedFalse, findByPostIdOrderByCreatedAtDesc (also serves the post_id foreign key)
+create index idx_comments_post_approved_created_at on comments (post_id, is_approved, created_at);
+
+-- CommentRepository: findByIsApprovedFalseAndIsFlaggedFalseOrderByCreatedAtDesc, countByIsApprovedFalseAndIsFlaggedFalse,
+-- findTop10ByIsApprovedTrueOrderByCreatedAtDesc, countByIsApprovedTrue
+create index idx_comments_moderation on comments (is_approved, is_flagged, created_at);
+
+-- ========== gallery ==========
+
+-- GalleryRepository: findByIsPublishedTrueOrderByCreatedAtDescIdDesc, findPublishedAfterCursor,
+-- findTop10ByIsPublishedTrueOrderByCreatedAtDesc, countByIsPublishedTrue
+create index idx_gallery_published_created_at on gallery (is_published, created_at);
+
+-- GalleryRepository: findByCategoryAndIsPublishedTrueOrderByCreatedAtDesc, findAllCategories
+create index idx_gallery_category_published on gallery (category, is_published, created_at);
+
+-- GalleryRepository: findByEventDateBetweenAndIsPublishedTrueOrderByEventDateDesc, findByEventDateAfterAndIsPublishedTrue...
+create index idx_gallery_published_event_date on gallery (is_published, event_date);
+
+-- ========== contact_messages ==========
+
+-- ContactMessageRepository: findByIsReadFalseAndIsRepliedFalseOrderByCreatedAtDesc, countPendingMessages,
+-- countByStatus, findByIsReadFalseOrderByCreatedAtDesc, countByIsReadFalse
+create index idx_contact_status on contact_messages (is_read, is_replied, is_spam, created_at);
+
+-- ContactMessageRepository: findByIsSpamFalseOrderByCreatedAtDesc (the admin inbox), findByIsSpamTrue..., countByIsSpamTrue
+create index idx_contact_spam_created_at on contact_messages (is_spam, created_at);
+
+-- ContactMessageRepository: findRecentMessages, findByCreatedAtBetweenOrderByCreatedAtDesc, findOldRepliedMessages
+create index idx_contact_created_at on contact_messages (created_at);
+
+-- ContactMessageRepository: findByEmailOrderByCreatedAtDesc, countByEmail
+create index idx_contact_email_created_at on contact_messages (email, created_at);
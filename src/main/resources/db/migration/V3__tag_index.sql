@@ -0,0 +1,56 @@
+-- Normalized tag dictionary and tag-to-row join tables for posts and gallery images.
+-- posts.tags / gallery.tags stay as the display form; the join tables are the index that tag pages,
+-- the tag cloud and AND/OR tag filters read. TagService backfills rows written before this migration.
+
+create table tags (
+    id bigint not null auto_increment,
+    created_at datetime(6) not null,
+    name varchar(100) not null,
+    primary key (id)
+) engine=InnoDB;
+
+alter table tags
+    add constraint uk_tags_name unique (name);
+
+-- ========== post_tags ==========
+
+create table post_tags (
+    post_id bigint not null,
+    tag_id bigint not null,
+    primary key (post_id, tag_id)
+) engine=InnoDB;
+
+-- Tag pages and filters seek by tag first: PostRepository.findPublishedIdsByTags[AfterCursor],
+-- TagRepository.countPublishedPostsByTag
+create index idx_post_tags_tag_post on post_tags (tag_id, post_id);
+
+alter table post_tags
+    add constraint fk_post_tags_post
+    foreign key (post_id)
+    references posts (id);
+
+alter table post_tags
+    add constraint fk_post_tags_tag
+    foreign key (tag_id)
+    references tags (id);
+
+-- ========== gallery_tags ==========
+
+create table gallery_tags (
+    gallery_id bigint not null,
+    tag_id bigint not null,
+    primary key (gallery_id, tag_id)
+) engine=InnoDB;
+
+-- GalleryRepository.findPublishedIdsByTags[AfterCursor], TagRepository.countPublishedImagesByTag
+create index idx_gallery_tags_tag_gallery on gallery_tags (tag_id, gallery_id);
+
+alter table gallery_tags
+    add constraint fk_gallery_tags_gallery
+    foreign key (gallery_id)
+    references gallery (id);
+
+alter table gallery_tags
+    add constraint fk_gallery_tags_tag
+    foreign key (tag_id)
+    references tags (id);
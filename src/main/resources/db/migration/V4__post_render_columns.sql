@@ -0,0 +1,8 @@
+-- Write-time rendering artifacts for posts (PostRenderer). They are recomputed only when content_hash,
+-- a SHA-256 of the rendering inputs, changes; rows written before this migration have a null hash
+-- and are rendered by BlogService on startup.
+
+alter table posts add column content_html TEXT;
+alter table posts add column rendered_excerpt varchar(500);
+alter table posts add column word_count integer;
+alter table posts add column content_hash varchar(64);
@@ -0,0 +1,18 @@
+-- One row per table behind public responses, the source of their HTTP validators (ContentVersionService).
+-- Every transaction that writes one of those tables bumps its row just before committing, so all nodes
+-- see the new version together with the data; a conditional GET reads the rows by primary key.
+
+create table content_versions (
+    name varchar(50) not null,
+    version bigint not null,
+    updated_at datetime(6) not null,
+    primary key (name)
+) engine=InnoDB;
+
+insert into content_versions (name, version, updated_at) values
+    ('posts', 0, current_timestamp(6)),
+    ('comments', 0, current_timestamp(6)),
+    ('events', 0, current_timestamp(6)),
+    ('gallery', 0, current_timestamp(6)),
+    ('categories', 0, current_timestamp(6)),
+    ('event_types', 0, current_timestamp(6));
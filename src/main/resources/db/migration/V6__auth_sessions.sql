@@ -0,0 +1,18 @@
+-- Login sessions behind refresh tokens (AuthSessionService). Access tokens are checked without a lookup;
+-- a refresh must find its session here with the presented token as the current one, so logout, rotation
+-- and deactivation on any node are seen by every other node. Rows go once the refresh token expires.
+
+create table auth_sessions (
+    id varchar(36) not null,
+    user_id bigint not null,
+    refresh_token_id varchar(36) not null,
+    created_at datetime(6) not null,
+    expires_at datetime(6) not null,
+    primary key (id)
+) engine=InnoDB;
+
+-- Deactivation and deletion end every session of the user
+create index idx_auth_sessions_user on auth_sessions (user_id);
+
+-- AuthSessionService.purgeExpired
+create index idx_auth_sessions_expires on auth_sessions (expires_at);
@@ -0,0 +1,31 @@
+package com.website.bitsa.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CacheConfigTest {
+
+    @Test
+    void compressedResponsesAreBoundedByTheirBytes() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("cache.specs." + CacheConfig.COMPRESSED_RESPONSES, "maximumWeight=10000");
+        CacheManager cacheManager = new CacheConfig().cacheManager(environment);
+        CaffeineCache cache = (CaffeineCache) cacheManager.getCache(CacheConfig.COMPRESSED_RESPONSES);
+
+        for (int i = 0; i < 20; i++) {
+            cache.put("body-" + i, new byte[1000]);
+        }
+        cache.put("large", new byte[8000]);
+
+        Cache<Object, Object> nativeCache = cache.getNativeCache();
+        nativeCache.cleanUp();
+        long bytes = nativeCache.asMap().values().stream().mapToLong(value -> ((byte[]) value).length).sum();
+        assertThat(bytes).isLessThanOrEqualTo(10000);
+        assertThat(nativeCache.policy().eviction().orElseThrow().weightedSize()).hasValue(bytes);
+    }
+}
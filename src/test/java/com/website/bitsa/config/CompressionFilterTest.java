@@ -0,0 +1,136 @@
+package com.website.bitsa.config;
+
+import com.aayushatharva.brotli4j.decoder.Decoder;
+import com.website.bitsa.util.Compression;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class CompressionFilterTest {
+
+    private static final String LARGE_JSON = "[" + "{\"title\":\"Spring Boot workshop\",\"excerpt\":\"Hands-on\"},".repeat(60)
+            + "{}]";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CompressionFilter filter = new CompressionFilter(
+            new ConcurrentMapCacheManager(CacheConfig.COMPRESSED_RESPONSES), meterRegistry, true, 1024, true, 4, 6);
+
+    @Test
+    void prefersBrotliAndFallsBackToGzip() throws Exception {
+        assumeTrue(Compression.BROTLI_AVAILABLE, "Brotli native library not available on this platform");
+
+        MockHttpServletResponse brotli = perform(request("gzip, deflate, br"), LARGE_JSON, "\"v1-abc\"");
+        assertThat(brotli.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("br");
+        assertThat(brotli.getHeader(HttpHeaders.ETAG)).isEqualTo("\"v1-abc-br\"");
+        assertThat(brotli.getHeaders(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(new String(Decoder.decompress(brotli.getContentAsByteArray()).getDecompressedData(),
+                StandardCharsets.UTF_8)).isEqualTo(LARGE_JSON);
+
+        MockHttpServletResponse gzip = perform(request("gzip, br;q=0"), LARGE_JSON, "\"v1-abc\"");
+        assertThat(gzip.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(gzip.getContentLength()).isEqualTo(gzip.getContentAsByteArray().length);
+        assertThat(gunzip(gzip.getContentAsByteArray())).isEqualTo(LARGE_JSON);
+    }
+
+    @Test
+    void smallOrNonJsonBodiesAreSentAsTheyAre() throws Exception {
+        MockHttpServletResponse small = perform(request("gzip"), "{\"ok\":true}", null);
+        assertThat(small.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(small.getContentAsString()).isEqualTo("{\"ok\":true}");
+
+        MockHttpServletResponse identity = perform(request(null), LARGE_JSON, "\"v1-abc\"");
+        assertThat(identity.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(identity.getHeader(HttpHeaders.ETAG)).isEqualTo("\"v1-abc\"");
+        assertThat(identity.getContentAsString()).isEqualTo(LARGE_JSON);
+    }
+
+    @Test
+    void identicalPayloadsAreCompressedOnce() throws Exception {
+        perform(request("gzip"), LARGE_JSON, null);
+        MockHttpServletResponse second = perform(request("gzip"), LARGE_JSON, null);
+
+        assertThat(gunzip(second.getContentAsByteArray())).isEqualTo(LARGE_JSON);
+        assertThat(meterRegistry.counter("bitsa.http.compression", "encoding", "gzip", "result", "compressed").count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.counter("bitsa.http.compression", "encoding", "gzip", "result", "precompressed").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void ifNoneMatchReachesTheControllerWithoutTheEncodingSuffix() throws Exception {
+        MockHttpServletRequest request = request("gzip");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"v1-abc-gzip\", \"v1-old-br\"");
+        AtomicReference<String> seen = new AtomicReference<>();
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res) {
+                seen.set(req.getHeader(HttpHeaders.IF_NONE_MATCH));
+                res.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                res.setHeader(HttpHeaders.ETAG, "\"v1-abc\"");
+            }
+        }));
+
+        assertThat(seen.get()).isEqualTo("\"v1-abc\", \"v1-old\"");
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_NOT_MODIFIED);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"v1-abc-gzip\"");
+    }
+
+    @Test
+    void eventStreamsAreNotBuffered() throws Exception {
+        MockHttpServletRequest request = request("gzip");
+        request.addHeader(HttpHeaders.ACCEPT, MediaType.TEXT_EVENT_STREAM_VALUE);
+
+        MockHttpServletResponse response = perform(request, LARGE_JSON, null);
+
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(response.getHeader(HttpHeaders.VARY)).isNull();
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequest request, String json, String etag) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res) throws IOException {
+                res.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                if (etag != null) {
+                    res.setHeader(HttpHeaders.ETAG, etag);
+                }
+                res.getOutputStream().write(json.getBytes(StandardCharsets.UTF_8));
+            }
+        }));
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String acceptEncoding) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/blog/posts");
+        if (acceptEncoding != null) {
+            request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        return request;
+    }
+
+    private static String gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
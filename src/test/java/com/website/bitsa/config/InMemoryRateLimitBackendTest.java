@@ -0,0 +1,98 @@
+package com.website.bitsa.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryRateLimitBackendTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final InMemoryRateLimitBackend backend = new InMemoryRateLimitBackend(1000, clock::get);
+
+    @Test
+    void allowsABurstThenRefillsEvenly() {
+        RateLimit limit = RateLimit.parse("3/30s");
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(backend.tryConsume("ip", limit).allowed()).isTrue();
+        }
+        RateLimitBackend.Result rejected = backend.tryConsume("ip", limit);
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.retryAfter()).isEqualTo(Duration.ofSeconds(10));
+
+        // One token every 10 seconds
+        advance(Duration.ofSeconds(10));
+        assertThat(backend.tryConsume("ip", limit).allowed()).isTrue();
+        assertThat(backend.tryConsume("ip", limit).allowed()).isFalse();
+    }
+
+    @Test
+    void keysHaveSeparateBuckets() {
+        RateLimit limit = RateLimit.parse("1/1m");
+
+        assertThat(backend.tryConsume("a", limit).allowed()).isTrue();
+        assertThat(backend.tryConsume("a", limit).allowed()).isFalse();
+        assertThat(backend.tryConsume("b", limit).allowed()).isTrue();
+    }
+
+    @Test
+    void peekNeverTakesAToken() {
+        RateLimit limit = RateLimit.parse("1/1m");
+
+        assertThat(backend.peek("ip", limit).allowed()).isTrue();
+        assertThat(backend.peek("ip", limit).allowed()).isTrue();
+        assertThat(backend.tryConsume("ip", limit).allowed()).isTrue();
+
+        RateLimitBackend.Result empty = backend.peek("ip", limit);
+        assertThat(empty.allowed()).isFalse();
+        assertThat(empty.retryAfter()).isEqualTo(Duration.ofMinutes(1));
+    }
+
+    @Test
+    void idleBucketsAreDropped() {
+        RateLimit limit = RateLimit.parse("2/1m");
+        backend.tryConsume("ip", limit);
+
+        advance(Duration.ofMinutes(2));
+        backend.tryConsume("other", limit);
+
+        assertThat(backend.tryConsume("ip", limit).allowed()).isTrue();
+        assertThat(backend.tryConsume("ip", limit).allowed()).isTrue();
+    }
+
+    @Test
+    void concurrentCallersNeverOverdrawABucket() throws Exception {
+        RateLimit limit = RateLimit.parse("50/1h");
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> attempts = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            attempts.add(pool.submit(() -> {
+                start.await();
+                return backend.tryConsume("shared", limit).allowed();
+            }));
+        }
+        start.countDown();
+
+        int allowed = 0;
+        for (Future<Boolean> attempt : attempts) {
+            allowed += attempt.get() ? 1 : 0;
+        }
+        pool.shutdown();
+
+        assertThat(allowed).isEqualTo(50);
+    }
+
+    private void advance(Duration duration) {
+        clock.addAndGet(duration.toNanos());
+    }
+}
@@ -0,0 +1,55 @@
+package com.website.bitsa.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Boots the app on the loadtest profile and drives it over HTTP. Excluded from the normal build:
+ *   mvn -Ploadtest test
+ */
+@Slf4j
+@Tag("loadtest")
+@ActiveProfiles("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ApiLoadTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${loadtest.duration-seconds}")
+    private int durationSeconds;
+
+    @Value("${loadtest.concurrency}")
+    private int concurrency;
+
+    @Value("${loadtest.rush-applicants}")
+    private int rushApplicants;
+
+    @Value("${loadtest.report}")
+    private String reportPath;
+
+    @Test
+    void publicEndpointsAndRegistrationRush() throws Exception {
+        LoadGenerator.Report report =
+                new LoadGenerator("http://localhost:" + port, durationSeconds, concurrency, rushApplicants).run();
+        report.writeTo(Path.of(reportPath));
+        log.info("Load test report written to {}\n{}", reportPath, report.summary());
+
+        assertThat(report.endpoints())
+                .filteredOn(stats -> stats.endpoint().startsWith("GET"))
+                .allSatisfy(stats -> assertThat(stats.errors()).isZero());
+        LoadGenerator.RushOutcome rush = report.registrationRush();
+        assertThat(rush.attendeesAfter()).isLessThanOrEqualTo(rush.seats());
+        // Every applicant holds a bearer token, so each attempt ends registered or rejected (full)
+        assertThat(rush.failed()).isZero();
+    }
+}
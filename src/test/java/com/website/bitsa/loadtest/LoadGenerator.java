@@ -0,0 +1,349 @@
+package com.website.bitsa.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Scripted HTTP load against the public blog, events and gallery endpoints, followed by a
+ * registration rush on one event. Reports p50/p99 latency and requests/sec per endpoint.
+ *
+ * Works against any running instance seeded by {@link LoadTestDataSeeder}:
+ *   LoadGenerator http://localhost:8080 [durationSeconds] [concurrency] [rushApplicants] [reportPath]
+ */
+@Slf4j
+public class LoadGenerator {
+
+    private static final String[] SEARCH_TERMS = {"spring", "react workshop", "docker", "security", "java cloud"};
+
+    private final String baseUrl;
+    private final int durationSeconds;
+    private final int concurrency;
+    private final int rushApplicants;
+    private final HttpClient client;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final List<String> postSlugs = new ArrayList<>();
+    private final List<String> eventSlugs = new ArrayList<>();
+    private final List<Long> imageIds = new ArrayList<>();
+
+    public LoadGenerator(String baseUrl, int durationSeconds, int concurrency, int rushApplicants) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.durationSeconds = durationSeconds;
+        this.concurrency = concurrency;
+        this.rushApplicants = rushApplicants;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(concurrency))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+        int duration = args.length > 1 ? Integer.parseInt(args[1]) : 30;
+        int concurrency = args.length > 2 ? Integer.parseInt(args[2]) : 32;
+        int applicants = args.length > 3 ? Integer.parseInt(args[3]) : 300;
+        Path report = Path.of(args.length > 4 ? args[4] : "target/loadtest-report.json");
+
+        Report result = new LoadGenerator(baseUrl, duration, concurrency, applicants).run();
+        result.writeTo(report);
+        log.info("Load test report written to {}\n{}", report, result.summary());
+        System.exit(0);
+    }
+
+    public Report run() throws Exception {
+        discover();
+        Instant startedAt = Instant.now();
+        List<EndpointStats> endpoints = new ArrayList<>(readMix());
+        RushResult rush = registrationRush();
+        endpoints.addAll(rush.endpoints());
+        return new Report(baseUrl, startedAt.toString(), durationSeconds, concurrency, endpoints, rush.outcome());
+    }
+
+    // ========== READ MIX ==========
+
+    private record Target(String name, int weight, java.util.function.Function<Random, String> path) {
+    }
+
+    private List<Target> targets() {
+        return List.of(
+                new Target("GET /api/blog/posts", 20, r -> "/api/blog/posts"),
+                new Target("GET /api/blog/posts/{slug}", 25, r -> "/api/blog/posts/" + pick(r, postSlugs)),
+                new Target("GET /api/blog/posts/search", 10,
+                        r -> "/api/blog/posts/search?keyword=" + SEARCH_TERMS[r.nextInt(SEARCH_TERMS.length)].replace(" ", "+")),
+                new Target("GET /api/blog/posts/featured", 5, r -> "/api/blog/posts/featured"),
+                new Target("GET /api/events", 10, r -> "/api/events"),
+                new Target("GET /api/events/{slug}", 10, r -> "/api/events/" + pick(r, eventSlugs)),
+                new Target("GET /api/gallery", 10, r -> "/api/gallery"),
+                new Target("GET /api/gallery/{id}", 5, r -> "/api/gallery/" + pick(r, imageIds)),
+                new Target("GET /api/categories", 5, r -> "/api/categories"));
+    }
+
+    private List<EndpointStats> readMix() throws Exception {
+        List<Target> targets = targets();
+        int totalWeight = targets.stream().mapToInt(Target::weight).sum();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(durationSeconds);
+
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        List<Future<Samples>> futures = new ArrayList<>();
+        for (int w = 0; w < concurrency; w++) {
+            long seed = w;
+            futures.add(workers.submit(() -> {
+                Random random = new Random(seed);
+                Samples samples = new Samples();
+                while (System.nanoTime() < deadline) {
+                    Target target = choose(targets, totalWeight, random);
+                    samples.time(target.name(), () -> get(target.path().apply(random)));
+                }
+                return samples;
+            }));
+        }
+        Samples all = new Samples();
+        for (Future<Samples> future : futures) {
+            all.merge(future.get());
+        }
+        workers.shutdown();
+        return all.stats(durationSeconds * 1000.0);
+    }
+
+    // ========== REGISTRATION RUSH ==========
+
+    private record RushResult(List<EndpointStats> endpoints, RushOutcome outcome) {
+    }
+
+    private RushResult registrationRush() throws Exception {
+        JsonNode event = objectMapper.readTree(get("/api/events/" + LoadTestDataSeeder.RUSH_EVENT_SLUG).body());
+        long eventId = event.path("id").asLong();
+        int seats = event.path("maxAttendees").asInt();
+
+        // Log everyone in first so the rush itself measures only registration
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        Samples loginSamples = new Samples();
+        String[] tokens = new String[rushApplicants];
+        List<Future<?>> logins = new ArrayList<>();
+        long loginStart = System.nanoTime();
+        for (int i = 0; i < rushApplicants; i++) {
+            int applicant = i;
+            logins.add(workers.submit(() -> {
+                Samples samples = new Samples();
+                HttpResponse<String> response = samples.time("POST /api/auth/login", () -> post("/api/auth/login",
+                        "{\"email\":\"" + LoadTestDataSeeder.studentEmail(applicant) + "\",\"password\":\""
+                                + LoadTestDataSeeder.STUDENT_PASSWORD + "\"}", null));
+                tokens[applicant] = accessToken(response);
+                synchronized (loginSamples) {
+                    loginSamples.merge(samples);
+                }
+                return null;
+            }));
+        }
+        for (Future<?> login : logins) {
+            login.get();
+        }
+        double loginMillis = (System.nanoTime() - loginStart) / 1e6;
+
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger registered = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        Map<Integer, Integer> statuses = new ConcurrentSkipListMap<>();
+        Samples rushSamples = new Samples();
+        List<Future<?>> attempts = new ArrayList<>();
+        for (int i = 0; i < rushApplicants; i++) {
+            String token = tokens[i];
+            attempts.add(workers.submit(() -> {
+                start.await();
+                Samples samples = new Samples();
+                HttpResponse<String> response = samples.time("POST /api/events/{id}/register",
+                        () -> post("/api/events/" + eventId + "/register", "", token));
+                statuses.merge(response == null ? 0 : response.statusCode(), 1, Integer::sum);
+                if (response == null || response.statusCode() >= 500 || response.statusCode() == 401
+                        || response.statusCode() == 403) {
+                    failed.incrementAndGet();
+                } else if (response.statusCode() < 300) {
+                    registered.incrementAndGet();
+                } else {
+                    rejected.incrementAndGet();
+                }
+                synchronized (rushSamples) {
+                    rushSamples.merge(samples);
+                }
+                return null;
+            }));
+        }
+        long rushStart = System.nanoTime();
+        start.countDown();
+        for (Future<?> attempt : attempts) {
+            attempt.get();
+        }
+        double rushMillis = (System.nanoTime() - rushStart) / 1e6;
+        workers.shutdown();
+
+        JsonNode after = objectMapper.readTree(get("/api/events/" + LoadTestDataSeeder.RUSH_EVENT_SLUG).body());
+        List<EndpointStats> endpoints = new ArrayList<>(loginSamples.stats(loginMillis));
+        endpoints.addAll(rushSamples.stats(rushMillis));
+        return new RushResult(endpoints, new RushOutcome(rushApplicants, seats, registered.get(), rejected.get(),
+                failed.get(), after.path("currentAttendees").asInt(), statuses));
+    }
+
+    // ========== HTTP ==========
+
+    private void discover() throws IOException, InterruptedException {
+        objectMapper.readTree(get("/api/blog/posts?limit=50").body()).path("items")
+                .forEach(post -> postSlugs.add(post.path("slug").asText()));
+        objectMapper.readTree(get("/api/events?limit=50").body()).path("items")
+                .forEach(event -> eventSlugs.add(event.path("slug").asText()));
+        objectMapper.readTree(get("/api/gallery?limit=50").body()).path("items")
+                .forEach(image -> imageIds.add(image.path("id").asLong()));
+        if (postSlugs.isEmpty() || eventSlugs.isEmpty() || imageIds.isEmpty()) {
+            throw new IllegalStateException("No seeded content at " + baseUrl + " - is the loadtest profile active?");
+        }
+    }
+
+    private HttpResponse<String> get(String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> post(String path, String json, String token) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private String accessToken(HttpResponse<String> response) throws IOException {
+        if (response == null || response.statusCode() != 200) {
+            return null;
+        }
+        return objectMapper.readTree(response.body()).path("token").asText(null);
+    }
+
+    private static Target choose(List<Target> targets, int totalWeight, Random random) {
+        int roll = random.nextInt(totalWeight);
+        for (Target target : targets) {
+            roll -= target.weight();
+            if (roll < 0) {
+                return target;
+            }
+        }
+        return targets.get(targets.size() - 1);
+    }
+
+    private static <T> T pick(Random random, List<T> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    // ========== MEASUREMENT ==========
+
+    private interface Call {
+        HttpResponse<String> execute() throws Exception;
+    }
+
+    /**
+     * Latencies and error counts per endpoint; one instance per worker, merged at the end
+     */
+    private static class Samples {
+        private final Map<String, List<Long>> latencies = new TreeMap<>();
+        private final Map<String, Integer> errors = new HashMap<>();
+
+        HttpResponse<String> time(String endpoint, Call call) {
+            long start = System.nanoTime();
+            HttpResponse<String> response = null;
+            try {
+                response = call.execute();
+            } catch (Exception ignored) {
+                // Counted as an error below
+            }
+            latencies.computeIfAbsent(endpoint, key -> new ArrayList<>()).add(System.nanoTime() - start);
+            if (response == null || response.statusCode() >= 500) {
+                errors.merge(endpoint, 1, Integer::sum);
+            }
+            return response;
+        }
+
+        void merge(Samples other) {
+            other.latencies.forEach((endpoint, values) ->
+                    latencies.computeIfAbsent(endpoint, key -> new ArrayList<>()).addAll(values));
+            other.errors.forEach((endpoint, count) -> errors.merge(endpoint, count, Integer::sum));
+        }
+
+        List<EndpointStats> stats(double elapsedMillis) {
+            List<EndpointStats> stats = new ArrayList<>();
+            latencies.forEach((endpoint, values) -> {
+                long[] sorted = values.stream().mapToLong(Long::longValue).sorted().toArray();
+                stats.add(new EndpointStats(endpoint, sorted.length, errors.getOrDefault(endpoint, 0),
+                        round(sorted.length / (elapsedMillis / 1000.0)),
+                        millis(percentile(sorted, 50)), millis(percentile(sorted, 99)),
+                        millis(sorted[sorted.length - 1])));
+            });
+            return stats;
+        }
+
+        private static long percentile(long[] sorted, int percentile) {
+            int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+        }
+
+        private static double millis(long nanos) {
+            return round(nanos / 1e6);
+        }
+
+        private static double round(double value) {
+            return Math.round(value * 100) / 100.0;
+        }
+    }
+
+    // ========== REPORT ==========
+
+    public record EndpointStats(String endpoint, int requests, int errors, double requestsPerSecond,
+                                double p50Ms, double p99Ms, double maxMs) {
+    }
+
+    public record RushOutcome(int applicants, int seats, int registered, int rejected, int failed,
+                              int attendeesAfter, Map<Integer, Integer> statusCodes) {
+    }
+
+    public record Report(String baseUrl, String startedAt, int durationSeconds, int concurrency,
+                         List<EndpointStats> endpoints, RushOutcome registrationRush) {
+
+        public void writeTo(Path path) throws IOException {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(path.toFile(), this);
+        }
+
+        public String summary() {
+            StringBuilder text = new StringBuilder(String.format("%-36s %9s %7s %9s %9s %9s%n",
+                    "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms"));
+            for (EndpointStats stats : endpoints) {
+                text.append(String.format("%-36s %9d %7d %9.1f %9.2f %9.2f%n", stats.endpoint(), stats.requests(),
+                        stats.errors(), stats.requestsPerSecond(), stats.p50Ms(), stats.p99Ms()));
+            }
+            text.append("Registration rush: ").append(registrationRush);
+            return text.toString();
+        }
+    }
+}
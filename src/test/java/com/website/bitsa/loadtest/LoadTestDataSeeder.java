@@ -0,0 +1,228 @@
+package com.website.bitsa.loadtest;
+
+import com.website.bitsa.DataSeeder;
+import com.website.bitsa.repository.*;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Seeds the reference data, then bulk-loads a production-sized dataset with JDBC batches.
+ * Runs before ApplicationReadyEvent, so the search index and dashboard counters pick the rows up.
+ */
+@Component
+@Profile("loadtest")
+public class LoadTestDataSeeder extends DataSeeder {
+
+    public static final String STUDENT_PASSWORD = "loadtest123";
+    public static final String RUSH_EVENT_SLUG = "loadtest-registration-rush";
+
+    private static final int BATCH_SIZE = 1000;
+    private static final String[] WORDS = {
+            "spring", "boot", "java", "react", "hackathon", "workshop", "students", "cloud", "database",
+            "security", "docker", "kubernetes", "design", "testing", "frontend", "backend", "python", "careers",
+            "the", "a", "and", "of", "to", "in", "with", "for", "on", "our", "we", "is"
+    };
+    private static final String[] TAGS = {"Java", "Spring Boot", "React", "DevOps", "Cloud", "Security", "AI", "Python"};
+    private static final String[] GALLERY_CATEGORIES = {"Events", "Workshops", "Team", "Campus", "Hackathons"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final Random random = new Random(2024);
+
+    @Value("${loadtest.seed.students}")
+    private int students;
+
+    @Value("${loadtest.seed.posts}")
+    private int posts;
+
+    @Value("${loadtest.seed.comments-per-post}")
+    private int commentsPerPost;
+
+    @Value("${loadtest.seed.events}")
+    private int events;
+
+    @Value("${loadtest.seed.registrations-per-event}")
+    private int registrationsPerEvent;
+
+    @Value("${loadtest.seed.gallery-images}")
+    private int galleryImages;
+
+    @Value("${loadtest.seed.rush-seats}")
+    private int rushSeats;
+
+    public LoadTestDataSeeder(RoleRepository roleRepository, UserRepository userRepository,
+                              CategoryRepository categoryRepository, EventTypeRepository eventTypeRepository,
+                              PasswordEncoder passwordEncoder, JdbcTemplate jdbcTemplate) {
+        super(roleRepository, userRepository, categoryRepository, eventTypeRepository, passwordEncoder);
+        this.passwordEncoder = passwordEncoder;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void run(String... args) throws Exception {
+        super.run(args);
+
+        long started = System.currentTimeMillis();
+        List<Long> studentIds = seedStudents();
+        Long adminId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = 'admin@bitsa.com'", Long.class);
+        List<Long> postIds = seedPosts(adminId);
+        seedComments(postIds, studentIds);
+        seedEvents(adminId, studentIds);
+        seedGallery(adminId);
+
+        System.out.printf("✅ Load-test data seeded in %d ms: %d students, %d posts, %d events, %d images%n",
+                System.currentTimeMillis() - started, students, posts, events, galleryImages);
+    }
+
+    private List<Long> seedStudents() {
+        Long roleId = jdbcTemplate.queryForObject("SELECT id FROM roles WHERE name = 'STUDENT'", Long.class);
+        String password = passwordEncoder.encode(STUDENT_PASSWORD);  // One hash shared by every account
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < students; i++) {
+            rows.add(new Object[]{"Load Student " + i, studentEmail(i), password, "LT/" + i,
+                    "Information Technology", 1 + i % 4, roleId, now});
+        }
+        batch("INSERT INTO users (name, email, password, student_id, course, year, role_id, created_at, "
+                + "is_active, is_email_verified) VALUES (?, ?, ?, ?, ?, ?, ?, ?, true, true)", rows);
+        return jdbcTemplate.queryForList("SELECT id FROM users WHERE role_id = ? ORDER BY id", Long.class, roleId);
+    }
+
+    private List<Long> seedPosts(Long authorId) {
+        List<Long> categoryIds = jdbcTemplate.queryForList("SELECT id FROM categories ORDER BY id", Long.class);
+        LocalDateTime start = LocalDateTime.now().minusDays(posts);
+
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < posts; i++) {
+            String content = paragraphs(300 + random.nextInt(1500));
+            Timestamp publishedAt = Timestamp.valueOf(start.plusDays(i));
+            rows.add(new Object[]{"Load test post " + i + ": " + words(6), content, words(25),
+                    "loadtest-post-" + i, authorId, categoryIds.get(i % categoryIds.size()),
+                    i % 50 == 0, publishedAt, tags(), Math.max(1, content.length() / 1200),
+                    random.nextInt(5000), publishedAt});
+        }
+        batch("INSERT INTO posts (title, content, excerpt, slug, author_id, category_id, is_featured, published_at, "
+                + "tags, reading_time_minutes, view_count, created_at, is_published, like_count, comment_count, "
+                + "share_count, comments_enabled, is_pinned, is_locked) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, true, 0, 0, 0, true, false, false)", rows);
+        jdbcTemplate.update("UPDATE categories c SET post_count = (SELECT COUNT(*) FROM posts p WHERE p.category_id = c.id)");
+        return jdbcTemplate.queryForList("SELECT id FROM posts ORDER BY id", Long.class);
+    }
+
+    private void seedComments(List<Long> postIds, List<Long> studentIds) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>();
+        for (Long postId : postIds) {
+            for (int c = 0; c < commentsPerPost; c++) {
+                // Roughly one in ten waits for moderation
+                rows.add(new Object[]{words(20), postId, studentIds.get(random.nextInt(studentIds.size())),
+                        random.nextInt(10) != 0, now});
+                if (rows.size() == BATCH_SIZE * 10) {
+                    insertComments(rows);
+                    rows.clear();
+                }
+            }
+        }
+        insertComments(rows);
+        jdbcTemplate.update("UPDATE posts p SET comment_count = "
+                + "(SELECT COUNT(*) FROM comments c WHERE c.post_id = p.id AND c.is_approved = true)");
+    }
+
+    private void insertComments(List<Object[]> rows) {
+        batch("INSERT INTO comments (commentText, post_id, user_id, is_approved, created_at, is_flagged, is_edited, "
+                + "like_count) VALUES (?, ?, ?, ?, ?, false, false, 0)", rows);
+    }
+
+    private void seedEvents(Long creatorId, List<Long> studentIds) {
+        List<Long> typeIds = jdbcTemplate.queryForList("SELECT id FROM event_types ORDER BY id", Long.class);
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < events; i++) {
+            // Two thirds upcoming, the rest in the past
+            LocalDateTime start = now.plusDays(i % 3 == 0 ? -(1 + i) : 1 + i);
+            int capacity = registrationsPerEvent + random.nextInt(registrationsPerEvent + 1);
+            rows.add(new Object[]{"Load test event " + i + ": " + words(4), paragraphs(150),
+                    Timestamp.valueOf(start), "Lab " + (1 + i % 6) + ", Main Campus", "loadtest-event-" + i,
+                    typeIds.get(i % typeIds.size()), creatorId, capacity, Math.min(registrationsPerEvent, capacity),
+                    i % 20 == 0, Timestamp.valueOf(now.minusDays(30))});
+        }
+        rows.add(new Object[]{"Registration rush", "Limited seats, opens to everyone at once", Timestamp.valueOf(now.plusDays(14)),
+                "Main Hall", RUSH_EVENT_SLUG, typeIds.get(0), creatorId, rushSeats, 0, true,
+                Timestamp.valueOf(now)});
+        batch("INSERT INTO events (title, description, dateTime, location, slug, event_type_id, creator_id, "
+                + "max_attendees, current_attendees, is_featured, created_at, is_published, is_cancelled, "
+                + "registration_required, waitlist_enabled, view_count, share_count) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, true, false, true, false, 0, 0)", rows);
+        jdbcTemplate.update("UPDATE event_types t SET event_count = (SELECT COUNT(*) FROM events e WHERE e.event_type_id = t.id)");
+
+        List<Long> eventIds = jdbcTemplate.queryForList(
+                "SELECT id FROM events WHERE slug <> ? ORDER BY id", Long.class, RUSH_EVENT_SLUG);
+        Timestamp registeredAt = Timestamp.valueOf(now.minusDays(1));
+        List<Object[]> registrations = new ArrayList<>();
+        for (Long eventId : eventIds) {
+            int first = random.nextInt(studentIds.size());
+            for (int r = 0; r < registrationsPerEvent; r++) {
+                registrations.add(new Object[]{eventId, studentIds.get((first + r) % studentIds.size()), registeredAt});
+            }
+        }
+        batch("INSERT INTO event_registrations (event_id, user_id, registration_date, attendance_status, "
+                + "is_waitlisted, is_cancelled, reminder_sent, confirmation_sent, checked_in) "
+                + "VALUES (?, ?, ?, 'REGISTERED', false, false, false, false, false)", registrations);
+    }
+
+    private void seedGallery(Long uploaderId) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < galleryImages; i++) {
+            rows.add(new Object[]{"Photo " + i + " " + words(3), words(12), "/uploads/gallery/loadtest-" + i + ".jpg",
+                    words(4), uploaderId, GALLERY_CATEGORIES[i % GALLERY_CATEGORIES.length], tags(),
+                    i % 40 == 0, i, random.nextInt(3000), random.nextInt(300), now});
+        }
+        batch("INSERT INTO gallery (title, description, imageUrl, altText, uploaded_by, category, tags, is_featured, "
+                + "display_order, view_count, like_count, created_at, is_published, file_type) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, true, 'image/jpeg')", rows);
+    }
+
+    public static String studentEmail(int index) {
+        return "loadtest-student-" + index + "@bitsa.test";
+    }
+
+    // ========== HELPER METHODS ==========
+
+    private void batch(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(from + BATCH_SIZE, rows.size())));
+        }
+    }
+
+    private String words(int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            text.append(i == 0 ? "" : " ").append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return text.toString();
+    }
+
+    private String paragraphs(int wordCount) {
+        StringBuilder html = new StringBuilder();
+        for (int written = 0; written < wordCount; written += 60) {
+            html.append("<p>").append(words(Math.min(60, wordCount - written))).append(".</p>\n");
+        }
+        return html.toString();
+    }
+
+    private String tags() {
+        return TAGS[random.nextInt(TAGS.length)] + "," + TAGS[random.nextInt(TAGS.length)] + "," + TAGS[random.nextInt(TAGS.length)];
+    }
+}
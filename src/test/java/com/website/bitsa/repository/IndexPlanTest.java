@@ -0,0 +1,92 @@
+package com.website.bitsa.repository;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * EXPLAIN for the SQL behind the hot repository methods, against the schema built by the
+ * Flyway migrations: each must be planned on its V2 index rather than a table scan.
+ * The statements mirror what Hibernate generates for each method (same predicates and order);
+ * the same statements can be EXPLAINed on MySQL to check production plans.
+ */
+@SpringBootTest
+class IndexPlanTest {
+
+    private static final String NOW = "TIMESTAMP '2026-01-01 00:00:00'";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    static Stream<Arguments> hotQueries() {
+        return Stream.of(
+                // PostRepository
+                Arguments.of("PostRepository.findPublishedSummariesAfterCursor", "idx_posts_published_at",
+                        "SELECT id FROM posts WHERE is_published = TRUE AND (published_at < " + NOW
+                                + " OR (published_at = " + NOW + " AND id < 10)) ORDER BY published_at DESC, id DESC LIMIT 20"),
+                Arguments.of("PostRepository.findBySlugAndIsPublishedTrue", "idx_posts_slug",
+                        "SELECT id FROM posts WHERE slug = 'hello-world' AND is_published = TRUE"),
+                Arguments.of("PostRepository.findPublishedSummariesByCategoryId", "idx_posts_category_published_at",
+                        "SELECT id FROM posts WHERE category_id = 1 AND is_published = TRUE ORDER BY published_at DESC"),
+                Arguments.of("PostRepository.findByAuthorIdOrderByCreatedAtDesc", "idx_posts_author_created_at",
+                        "SELECT id FROM posts WHERE author_id = 1 ORDER BY created_at DESC"),
+                // Tag filters: the derived table that seeks by tag; posts/gallery are then joined by primary key
+                Arguments.of("PostRepository.findPublishedIdsByTags", "idx_post_tags_tag_post",
+                        "SELECT post_id FROM post_tags WHERE tag_id IN (1, 2) GROUP BY post_id HAVING COUNT(*) >= 2"),
+                // EventRepository
+                Arguments.of("EventRepository.findUpcomingEvents", "idx_events_upcoming",
+                        "SELECT id FROM events WHERE dateTime > " + NOW
+                                + " AND is_published = TRUE AND is_cancelled = FALSE ORDER BY dateTime, id LIMIT 20"),
+                Arguments.of("EventRepository.findPastEvents", "idx_events_published_date",
+                        "SELECT id FROM events WHERE dateTime < " + NOW
+                                + " AND is_published = TRUE ORDER BY dateTime DESC, id DESC LIMIT 20"),
+                Arguments.of("EventRepository.findBySlugAndIsPublishedTrue", "idx_events_slug",
+                        "SELECT id FROM events WHERE slug = 'hackathon' AND is_published = TRUE"),
+                Arguments.of("EventRepository.findUpcomingEventsByType", "idx_events_type_date",
+                        "SELECT id FROM events WHERE event_type_id = 1 AND dateTime > " + NOW
+                                + " AND is_published = TRUE ORDER BY dateTime"),
+                // CommentRepository
+                Arguments.of("CommentRepository.findByPostIdAndIsApprovedTrueOrderByCreatedAtDesc", "idx_comments_post_approved_created_at",
+                        "SELECT id FROM comments WHERE post_id = 1 AND is_approved = TRUE ORDER BY created_at DESC"),
+                Arguments.of("CommentRepository.findByIsApprovedFalseAndIsFlaggedFalseOrderByCreatedAtDesc", "idx_comments_moderation",
+                        "SELECT id FROM comments WHERE is_approved = FALSE AND is_flagged = FALSE ORDER BY created_at DESC"),
+                // GalleryRepository
+                Arguments.of("GalleryRepository.findPublishedAfterCursor", "idx_gallery_published_created_at",
+                        "SELECT id FROM gallery WHERE is_published = TRUE AND (created_at < " + NOW
+                                + " OR (created_at = " + NOW + " AND id < 10)) ORDER BY created_at DESC, id DESC LIMIT 20"),
+                Arguments.of("GalleryRepository.findByCategoryAndIsPublishedTrueOrderByCreatedAtDesc", "idx_gallery_category_published",
+                        "SELECT id FROM gallery WHERE category = 'Events' AND is_published = TRUE ORDER BY created_at DESC"),
+                Arguments.of("GalleryRepository.findByEventDateBetweenAndIsPublishedTrueOrderByEventDateDesc", "idx_gallery_published_event_date",
+                        "SELECT id FROM gallery WHERE event_date BETWEEN " + NOW + " AND TIMESTAMP '2026-02-01 00:00:00'"
+                                + " AND is_published = TRUE ORDER BY event_date DESC"),
+                Arguments.of("GalleryRepository.findPublishedIdsByTags", "idx_gallery_tags_tag_gallery",
+                        "SELECT gallery_id FROM gallery_tags WHERE tag_id IN (1, 2) GROUP BY gallery_id HAVING COUNT(*) >= 1"),
+                // ContactMessageRepository
+                Arguments.of("ContactMessageRepository.findByIsReadFalseAndIsRepliedFalseOrderByCreatedAtDesc", "idx_contact_status",
+                        "SELECT id FROM contact_messages WHERE is_read = FALSE AND is_replied = FALSE ORDER BY created_at DESC"),
+                Arguments.of("ContactMessageRepository.countPendingMessages", "idx_contact_status",
+                        "SELECT COUNT(id) FROM contact_messages WHERE is_read = FALSE AND is_replied = FALSE AND is_spam = FALSE"),
+                Arguments.of("ContactMessageRepository.findByIsSpamFalseOrderByCreatedAtDesc", "idx_contact_spam_created_at",
+                        "SELECT id FROM contact_messages WHERE is_spam = FALSE ORDER BY created_at DESC"),
+                Arguments.of("ContactMessageRepository.findRecentMessages", "idx_contact_created_at",
+                        "SELECT id FROM contact_messages WHERE created_at > " + NOW + " ORDER BY created_at DESC"),
+                Arguments.of("ContactMessageRepository.findByEmailOrderByCreatedAtDesc", "idx_contact_email_created_at",
+                        "SELECT id FROM contact_messages WHERE email = 'a@b.test' ORDER BY created_at DESC")
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("hotQueries")
+    void hotQueryUsesItsIndex(String method, String index, String sql) {
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+
+        assertThat(plan).as("plan for %s", method).containsIgnoringCase(index);
+    }
+}
@@ -0,0 +1,100 @@
+package com.website.bitsa.service;
+
+import com.website.bitsa.config.CacheConfig;
+import com.website.bitsa.dto.request.CreatePostRequest;
+import com.website.bitsa.dto.response.PostResponse;
+import com.website.bitsa.dto.response.PostSummaryResponse;
+import com.website.bitsa.model.Category;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class CacheInvalidationTest {
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private BlogService blogService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @Test
+    void repeatedReadsAreServedFromCache() {
+        categoryService.getActiveCategories();
+
+        statistics.clear();
+        categoryService.getActiveCategories();
+        categoryService.getActiveCategories();
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(meterRegistry.get("cache.gets")
+                .tag("cache", CacheConfig.CATEGORIES).tag("result", "hit")
+                .functionCounter().count()).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    void creatingAPostEvictsCategoryCounts() {
+        Category before = categoryService.getActiveCategories().get(0);
+        int postCount = before.getPostCount();
+
+        createPost(before.getId(), false);
+
+        Category after = categoryService.getActiveCategories().stream()
+                .filter(category -> category.getId().equals(before.getId()))
+                .findFirst().orElseThrow();
+        assertThat(after.getPostCount()).isEqualTo(postCount + 1);
+    }
+
+    @Test
+    void featuredPostsAreOnlyEvictedByFeaturedChanges() {
+        Long categoryId = categoryService.getActiveCategories().get(0).getId();
+        blogService.getFeaturedPosts();
+
+        createPost(categoryId, false);
+        statistics.clear();
+        blogService.getFeaturedPosts();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        PostResponse featured = createPost(categoryId, true);
+        List<PostSummaryResponse> featuredPosts = blogService.getFeaturedPosts();
+        assertThat(featuredPosts).extracting(PostSummaryResponse::getId).contains(featured.getId());
+    }
+
+    private PostResponse createPost(Long categoryId, boolean featured) {
+        CreatePostRequest request = new CreatePostRequest();
+        request.setTitle("Cache post " + UUID.randomUUID());
+        request.setContent("Body");
+        request.setCategoryId(categoryId);
+        request.setIsPublished(true);
+        request.setIsFeatured(featured);
+        return blogService.createPost(request, "admin@bitsa.com");
+    }
+}
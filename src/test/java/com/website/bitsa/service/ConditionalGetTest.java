@@ -0,0 +1,271 @@
+package com.website.bitsa.service;
+
+import com.website.bitsa.config.CompressionFilter;
+import com.website.bitsa.dto.request.CreatePostRequest;
+import com.website.bitsa.dto.response.PostResponse;
+import com.website.bitsa.model.Event;
+import com.website.bitsa.model.Gallery;
+import com.website.bitsa.model.Role;
+import com.website.bitsa.model.User;
+import com.website.bitsa.repository.*;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+class ConditionalGetTest {
+
+    private static final String AUTHOR = "admin@bitsa.com";
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private BlogService blogService;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private GalleryService galleryService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EventTypeRepository eventTypeRepository;
+
+    @Autowired
+    private GalleryRepository galleryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CompressionFilter compressionFilter;
+
+    @Autowired
+    private ContentVersionService contentVersionService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context)
+                .apply(springSecurity())
+                .build();
+    }
+
+    @Test
+    void listIsRevalidatedWithoutABodyUntilAPostChanges() throws Exception {
+        MvcResult first = mockMvc.perform(get("/api/blog/posts"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=60, public, stale-while-revalidate=300"))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn();
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).startsWith("\"v" + ContentVersionService.REPRESENTATION_VERSION + "-");
+        double notModifiedBefore = conditional("posts", "not_modified");
+
+        mockMvc.perform(get("/api/blog/posts").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+        assertThat(conditional("posts", "not_modified")).isEqualTo(notModifiedBefore + 1);
+
+        createPost();
+        mockMvc.perform(get("/api/blog/posts").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(result -> assertThat(result.getResponse().getHeader(HttpHeaders.ETAG)).isNotEqualTo(etag));
+    }
+
+    @Test
+    void compressedRepresentationRevalidatesByItsOwnETag() throws Exception {
+        MockMvc compressing = MockMvcBuilders.webAppContextSetup(context)
+                .apply(springSecurity())
+                .addFilters(compressionFilter)
+                .build();
+        String etag = compressing.perform(get("/api/categories").header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).endsWith("-gzip\"");
+
+        compressing.perform(get("/api/categories")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+    }
+
+    @Test
+    void deleteInvalidatesIfModifiedSinceToo() throws Exception {
+        Gallery image = galleryRepository.save(Gallery.builder()
+                .title("Hackathon " + UUID.randomUUID())
+                .imageUrl("/uploads/hackathon.jpg")
+                .category("Events")
+                .uploadedBy(userRepository.findByEmail(AUTHOR).orElseThrow())
+                .isPublished(true)
+                .build());
+        String lastModified = mockMvc.perform(get("/api/gallery"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.LAST_MODIFIED);
+        mockMvc.perform(get("/api/gallery").header(HttpHeaders.IF_MODIFIED_SINCE, lastModified))
+                .andExpect(status().isNotModified());
+
+        // Nothing left to carry a newer updated_at: only the table's version moves
+        galleryService.deleteImage(image.getId());
+
+        mockMvc.perform(get("/api/gallery").header(HttpHeaders.IF_MODIFIED_SINCE, lastModified))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void notModifiedDetailStillCountsTheView() throws Exception {
+        PostResponse post = createPost();
+        String etag = mockMvc.perform(get("/api/blog/posts/" + post.getSlug()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, public"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        double viewsBefore = meterRegistry.counter("bitsa.views.buffered", "target", "post").count();
+
+        mockMvc.perform(get("/api/blog/posts/" + post.getSlug()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        assertThat(meterRegistry.counter("bitsa.views.buffered", "target", "post").count()).isEqualTo(viewsBefore + 1);
+    }
+
+    @Test
+    void validatorsAreServedWithoutLoadingEntities() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        String etag = contentVersionService.validator(ContentVersionService.Resource.POSTS).etag();
+
+        statistics.clear();
+        mockMvc.perform(get("/api/blog/posts").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void everyNodeSeesTheSameVersion() {
+        // A second node: its own service over the same database
+        ContentVersionService otherNode = new ContentVersionService(jdbcTemplate, new SimpleMeterRegistry());
+        String etag = contentVersionService.validator(ContentVersionService.Resource.POSTS).etag();
+        assertThat(otherNode.validator(ContentVersionService.Resource.POSTS).etag()).isEqualTo(etag);
+
+        otherNode.changed(ContentVersionService.Table.CATEGORIES);
+
+        assertThat(contentVersionService.validator(ContentVersionService.Resource.POSTS).etag()).isNotEqualTo(etag);
+    }
+
+    @Test
+    void rolledBackWritesKeepTheVersion() {
+        String etag = contentVersionService.validator(ContentVersionService.Resource.GALLERY).etag();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            galleryRepository.saveAndFlush(Gallery.builder()
+                    .title("Draft " + UUID.randomUUID())
+                    .imageUrl("/uploads/draft.jpg")
+                    .category("Events")
+                    .uploadedBy(userRepository.findByEmail(AUTHOR).orElseThrow())
+                    .isPublished(true)
+                    .build());
+            status.setRollbackOnly();
+        });
+
+        assertThat(contentVersionService.validator(ContentVersionService.Resource.GALLERY).etag()).isEqualTo(etag);
+    }
+
+    @Test
+    void seatReservationsStampTheEvent() {
+        Event event = eventRepository.save(Event.builder()
+                .title("Workshop " + UUID.randomUUID())
+                .description("Popular workshop")
+                .dateTime(LocalDateTime.now().plusDays(7))
+                .location("Lab 3")
+                .eventType(eventTypeRepository.findAll().get(0))
+                .creator(userRepository.findByEmail(AUTHOR).orElseThrow())
+                .maxAttendees(10)
+                .isPublished(true)
+                .build());
+        LocalDateTime before = LocalDateTime.now().minusDays(1);
+        jdbcTemplate.update("UPDATE events SET updated_at = ? WHERE id = ?", Timestamp.valueOf(before), event.getId());
+
+        String gallery = contentVersionService.validator(ContentVersionService.Resource.GALLERY).etag();
+        long events = contentVersionService.validator(ContentVersionService.Resource.EVENTS).lastModified();
+
+        eventService.registerForEvent(event.getId(), createUser());
+
+        assertThat(eventRepository.findById(event.getId()).orElseThrow().getUpdatedAt()).isAfter(before);
+        // The seat goes through a bulk update, which moves the events version all the same
+        assertThat(contentVersionService.validator(ContentVersionService.Resource.EVENTS).lastModified())
+                .isGreaterThan(events);
+        assertThat(contentVersionService.validator(ContentVersionService.Resource.GALLERY).etag()).isEqualTo(gallery);
+    }
+
+    private double conditional(String resource, String result) {
+        return meterRegistry.counter("bitsa.http.conditional", "resource", resource, "result", result).count();
+    }
+
+    private PostResponse createPost() {
+        CreatePostRequest request = new CreatePostRequest();
+        request.setTitle("Cached " + UUID.randomUUID());
+        request.setContent("Content behind an ETag");
+        request.setCategoryId(categoryRepository.findAll().get(0).getId());
+        request.setIsPublished(true);
+        return blogService.createPost(request, AUTHOR);
+    }
+
+    private String createUser() {
+        Role studentRole = roleRepository.findByName("STUDENT").orElseThrow();
+        return userRepository.save(User.builder()
+                .name("Student")
+                .email(UUID.randomUUID() + "@bitsa.test")
+                .password("x")
+                .role(studentRole)
+                .build()).getEmail();
+    }
+}
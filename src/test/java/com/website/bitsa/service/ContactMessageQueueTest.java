@@ -0,0 +1,155 @@
+package com.website.bitsa.service;
+
+import com.website.bitsa.dto.request.ContactRequest;
+import com.website.bitsa.exception.ServiceUnavailableException;
+import com.website.bitsa.model.ContactMessage;
+import com.website.bitsa.repository.ContactMessageRepository;
+import com.website.bitsa.service.DashboardStatsService.Stat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The contact form queues messages and the writer stores them in batches.
+ * The test profile disables the scheduled flush, so each test flushes by hand.
+ */
+@SpringBootTest
+class ContactMessageQueueTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private ContactMessageQueue contactMessageQueue;
+
+    @Autowired
+    private ContactService contactService;
+
+    @Autowired
+    private ContactMessageRepository contactMessageRepository;
+
+    @Autowired
+    private DashboardStatsService dashboardStatsService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
+        contactMessageQueue.flush();
+    }
+
+    @Test
+    void formIsAcceptedAtOnceAndWrittenWithRequestMetadata() throws Exception {
+        String email = uniqueEmail();
+        long unread = dashboardStatsService.get(Stat.UNREAD_MESSAGES);
+
+        submit(email).andExpect(status().isAccepted());
+        assertThat(countByEmail(email)).isZero();
+
+        contactMessageQueue.flush();
+
+        Long id = jdbcTemplate.queryForObject("SELECT id FROM contact_messages WHERE email = ?", Long.class, email);
+        ContactMessage saved = contactMessageRepository.findById(id).orElseThrow();
+        assertThat(saved.getIpAddress()).isEqualTo("203.0.113.7");
+        assertThat(saved.getUserAgent()).isEqualTo("QueueTest/1.0");
+        assertThat(saved.getReferrer()).isEqualTo("https://bitsa.example/contact");
+        assertThat(saved.getCreatedAt()).isNotNull();
+        assertThat(saved.isPending()).isTrue();
+        assertThat(dashboardStatsService.get(Stat.UNREAD_MESSAGES)).isEqualTo(unread + 1);
+    }
+
+    @Test
+    void fullQueueRejectsWith503AndDrainsCompletely() throws Exception {
+        String email = uniqueEmail();
+        int queued = 0;
+        try {
+            while (true) {
+                contactService.enqueueContactMessage(request(email), "198.51.100.1", null, null);
+                queued++;
+            }
+        } catch (ServiceUnavailableException expected) {
+            // queue is full
+        }
+
+        submit(uniqueEmail()).andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "5"));
+
+        contactMessageQueue.drainOnShutdown();
+
+        assertThat(contactMessageQueue.size()).isZero();
+        assertThat(countByEmail(email)).isEqualTo(queued);
+    }
+
+    @Test
+    void rowTheDatabaseRefusesIsDroppedWithoutHoldingBackItsBatch() {
+        String email = uniqueEmail();
+        contactService.enqueueContactMessage(request(email), "198.51.100.1", null, null);
+        // The service takes the request as given; only the endpoint validates it
+        ContactRequest tooLong = request(email);
+        tooLong.setPhone("+254 700 000 000 000 000");
+        contactService.enqueueContactMessage(tooLong, "198.51.100.1", null, null);
+        contactService.enqueueContactMessage(request(email), "198.51.100.1", null, null);
+
+        contactMessageQueue.flush();
+
+        assertThat(contactMessageQueue.size()).isZero();
+        assertThat(countByEmail(email)).isEqualTo(2);
+    }
+
+    @Test
+    void oversizedFieldsAreRejectedBeforeQueueing() throws Exception {
+        mockMvc.perform(post("/api/contact")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Queue Test\",\"email\":\"" + uniqueEmail()
+                                + "\",\"phone\":\"+254 700 000 000 000 000\",\"message\":\"Hello from the queue test\"}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private ResultActions submit(String email) throws Exception {
+        return mockMvc.perform(post("/api/contact")
+                .with(request -> {
+                    request.setRemoteAddr("203.0.113.7");
+                    return request;
+                })
+                .header(HttpHeaders.USER_AGENT, "QueueTest/1.0")
+                .header(HttpHeaders.REFERER, "https://bitsa.example/contact")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Queue Test\",\"email\":\"" + email + "\",\"message\":\"Hello from the queue test\"}"));
+    }
+
+    private static ContactRequest request(String email) {
+        ContactRequest request = new ContactRequest();
+        request.setName("Queue Test");
+        request.setEmail(email);
+        request.setMessage("Hello from the queue test");
+        return request;
+    }
+
+    private int countByEmail(String email) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM contact_messages WHERE email = ?", Integer.class, email);
+    }
+
+    private static String uniqueEmail() {
+        return UUID.randomUUID() + "@bitsa.test";
+    }
+}
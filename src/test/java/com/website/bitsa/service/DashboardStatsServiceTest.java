@@ -0,0 +1,140 @@
+package com.website.bitsa.service;
+
+import com.website.bitsa.dto.request.ContactRequest;
+import com.website.bitsa.dto.request.CreateEventRequest;
+import com.website.bitsa.dto.request.CreatePostRequest;
+import com.website.bitsa.dto.response.DashboardStatsResponse;
+import com.website.bitsa.dto.response.EventResponse;
+import com.website.bitsa.dto.response.PostResponse;
+import com.website.bitsa.model.ContactMessage;
+import com.website.bitsa.repository.CategoryRepository;
+import com.website.bitsa.repository.EventTypeRepository;
+import com.website.bitsa.service.DashboardStatsService.Stat;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class DashboardStatsServiceTest {
+
+    @Autowired
+    private DashboardStatsService dashboardStatsService;
+
+    @Autowired
+    private ContactService contactService;
+
+    @Autowired
+    private BlogService blogService;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EventTypeRepository eventTypeRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        // Other tests insert rows straight through repositories, bypassing the counters
+        dashboardStatsService.recompute();
+    }
+
+    @Test
+    void readingStatsIssuesNoStatements() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        DashboardStatsResponse stats = dashboardStatsService.getStats();
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(stats.getTotalAdmins()).isGreaterThanOrEqualTo(1);
+        assertThat(stats.getRecomputedAt()).isNotNull();
+    }
+
+    @Test
+    void contactMessagesMoveThroughUnreadAndPending() {
+        long unread = dashboardStatsService.get(Stat.UNREAD_MESSAGES);
+        long pending = dashboardStatsService.get(Stat.PENDING_MESSAGES);
+
+        ContactMessage message = contactService.submitContactMessage(contactRequest());
+        assertThat(dashboardStatsService.get(Stat.UNREAD_MESSAGES)).isEqualTo(unread + 1);
+        assertThat(dashboardStatsService.get(Stat.PENDING_MESSAGES)).isEqualTo(pending + 1);
+
+        contactService.markAsRead(message.getId(), 1L);
+        assertThat(dashboardStatsService.get(Stat.UNREAD_MESSAGES)).isEqualTo(unread);
+        assertThat(dashboardStatsService.get(Stat.PENDING_MESSAGES)).isEqualTo(pending);
+
+        // Already read: deleting it changes nothing
+        contactService.deleteMessage(message.getId());
+        assertThat(dashboardStatsService.get(Stat.UNREAD_MESSAGES)).isEqualTo(unread);
+    }
+
+    @Test
+    void incrementalCountersAgreeWithARecount() {
+        ContactMessage spam = contactService.submitContactMessage(contactRequest());
+        contactService.markAsSpam(spam.getId());
+        contactService.submitContactMessage(contactRequest());
+
+        Long postId = createPost().getId();
+        blogService.togglePublish(postId);
+        createPost();
+
+        EventResponse cancelled = createEvent();
+        eventService.cancelEvent(cancelled.getId(), "Venue unavailable");
+        createEvent();
+
+        DashboardStatsResponse incremental = dashboardStatsService.getStats();
+        dashboardStatsService.recompute();
+        DashboardStatsResponse recounted = dashboardStatsService.getStats();
+
+        assertThat(incremental).usingRecursiveComparison()
+                .ignoringFields("updatedAt", "recomputedAt")
+                .isEqualTo(recounted);
+    }
+
+    private ContactRequest contactRequest() {
+        ContactRequest request = new ContactRequest();
+        request.setName("Visitor");
+        request.setEmail("visitor@bitsa.test");
+        request.setSubject("Question");
+        request.setMessage("When is the next meetup?");
+        request.setCategory("GENERAL");
+        return request;
+    }
+
+    private PostResponse createPost() {
+        CreatePostRequest request = new CreatePostRequest();
+        request.setTitle("Stats post " + UUID.randomUUID());
+        request.setContent("Body");
+        request.setCategoryId(categoryRepository.findAll().get(0).getId());
+        request.setIsPublished(true);
+        request.setIsFeatured(false);
+        return blogService.createPost(request, "admin@bitsa.com");
+    }
+
+    private EventResponse createEvent() {
+        CreateEventRequest request = new CreateEventRequest();
+        request.setTitle("Stats event " + UUID.randomUUID());
+        request.setDescription("Meetup");
+        request.setDateTime(LocalDateTime.now().plusDays(3));
+        request.setLocation("Hall B");
+        request.setEventTypeId(eventTypeRepository.findAll().get(0).getId());
+        request.setIsPublished(true);
+        request.setIsFeatured(false);
+        return eventService.createEvent(request, "admin@bitsa.com");
+    }
+}
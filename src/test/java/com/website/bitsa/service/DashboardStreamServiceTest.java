@@ -0,0 +1,267 @@
+package com.website.bitsa.service;
+
+import com.website.bitsa.dto.request.ContactRequest;
+import com.website.bitsa.dto.response.DashboardStatsResponse;
+import com.website.bitsa.dto.response.DashboardStreamFrame;
+import com.website.bitsa.model.Event;
+import com.website.bitsa.model.Role;
+import com.website.bitsa.model.User;
+import com.website.bitsa.repository.EventRepository;
+import com.website.bitsa.repository.EventTypeRepository;
+import com.website.bitsa.repository.RoleRepository;
+import com.website.bitsa.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@SpringBootTest
+class DashboardStreamServiceTest {
+
+    @Autowired
+    private DashboardStreamService dashboardStreamService;
+
+    @Autowired
+    private ContactService contactService;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EventTypeRepository eventTypeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Value("${dashboard.stream.sender-threads}")
+    private int senderThreads;
+
+    private RecordingEmitter client;
+
+    @BeforeEach
+    void setUp() {
+        client = new RecordingEmitter();
+        dashboardStreamService.register(client);
+        dashboardStreamService.flush();
+        awaitSent();
+        client.sent.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.fail = true;
+        dashboardStreamService.heartbeat();
+        await().until(() -> dashboardStreamService.getQueuedEvents() == 0);
+    }
+
+    @Test
+    void newClientsStartWithASnapshot() {
+        RecordingEmitter another = new RecordingEmitter();
+        dashboardStreamService.register(another);
+        awaitSent();
+
+        assertThat(another.sent).hasSize(1);
+        assertThat(another.sent.get(0)).isInstanceOf(DashboardStatsResponse.class);
+        another.fail = true;
+    }
+
+    @Test
+    void burstOfChangesIsCoalescedIntoOneFrame() {
+        for (int i = 0; i < 5; i++) {
+            contactService.submitContactMessage(contactRequest("Question " + i));
+        }
+        Event event = createEvent(10);
+        for (String email : createUsers(3)) {
+            eventService.registerForEvent(event.getId(), email);
+        }
+
+        dashboardStreamService.flush();
+        awaitSent();
+
+        List<DashboardStreamFrame> frames = client.frames();
+        assertThat(frames).hasSize(1);
+        DashboardStreamFrame frame = frames.get(0);
+        assertThat(frame.getContactMessages()).hasSize(5);
+        assertThat(frame.getRegistrations()).containsEntry(event.getId(), 3);
+        assertThat(frame.getStats().getUnreadMessages()).isPositive();
+    }
+
+    @Test
+    void quietIntervalsSendNothingButHeartbeats() {
+        dashboardStreamService.flush();
+        awaitSent();
+        assertThat(client.sent).isEmpty();
+
+        dashboardStreamService.heartbeat();
+        awaitSent();
+        assertThat(client.sent).hasSize(1);
+        assertThat(client.frames()).isEmpty();
+    }
+
+    @Test
+    void brokenClientsAreDropped() {
+        int before = dashboardStreamService.getClientCount();
+        client.fail = true;
+
+        dashboardStreamService.heartbeat();
+
+        await().until(() -> dashboardStreamService.getClientCount() == before - 1);
+    }
+
+    @Test
+    void slowClientsHoldUpNeitherTheSchedulerNorOtherClients() {
+        BlockingEmitter slow = new BlockingEmitter();
+        dashboardStreamService.register(slow);
+        int before = dashboardStreamService.getClientCount();
+
+        // Returns although the slow client's first write never completes
+        dashboardStreamService.heartbeat();
+        await().until(() -> client.sent.size() == 1);
+
+        // Paced so the healthy client keeps up while the slow one falls behind
+        for (int i = 0; i < 40; i++) {
+            dashboardStreamService.heartbeat();
+            int expected = i + 2;
+            await().until(() -> client.sent.size() == expected);
+        }
+        assertThat(dashboardStreamService.getClientCount()).isEqualTo(before - 1);
+        slow.release.countDown();
+    }
+
+    @Test
+    void moreStuckClientsThanSenderThreadsStarveNoOne() {
+        int before = dashboardStreamService.getClientCount();
+        List<BlockingEmitter> stuck = IntStream.rangeClosed(0, senderThreads)
+                .mapToObj(i -> new BlockingEmitter())
+                .toList();
+        stuck.forEach(dashboardStreamService::register);
+        // Every one of them is inside its snapshot write, holding a thread
+        await().until(() -> stuck.stream().allMatch(emitter -> emitter.writing.getCount() == 0));
+
+        for (int i = 0; i < 40; i++) {
+            dashboardStreamService.heartbeat();
+            int expected = i + 1;
+            await().until(() -> client.sent.size() == expected);
+        }
+        assertThat(dashboardStreamService.getClientCount()).isEqualTo(before);
+
+        // Too far behind: dropped, and their streams end once the stuck writes return
+        stuck.forEach(emitter -> emitter.release.countDown());
+        await().until(() -> stuck.stream().allMatch(emitter -> emitter.completed.getCount() == 0));
+    }
+
+    private void awaitSent() {
+        await().until(() -> dashboardStreamService.getQueuedEvents() == 0);
+    }
+
+    private ContactRequest contactRequest(String subject) {
+        ContactRequest request = new ContactRequest();
+        request.setName("Visitor");
+        request.setEmail("visitor@bitsa.test");
+        request.setSubject(subject);
+        request.setMessage("Hello");
+        request.setCategory("GENERAL");
+        return request;
+    }
+
+    private Event createEvent(int seats) {
+        User creator = userRepository.findByEmail("admin@bitsa.com").orElseThrow();
+        return eventRepository.save(Event.builder()
+                .title("Stream event " + UUID.randomUUID())
+                .description("Live counts")
+                .dateTime(LocalDateTime.now().plusDays(7))
+                .location("Hall A")
+                .eventType(eventTypeRepository.findAll().get(0))
+                .creator(creator)
+                .maxAttendees(seats)
+                .isPublished(true)
+                .build());
+    }
+
+    private List<String> createUsers(int count) {
+        Role studentRole = roleRepository.findByName("STUDENT").orElseThrow();
+        return userRepository.saveAll(IntStream.range(0, count)
+                        .mapToObj(i -> User.builder()
+                                .name("Viewer " + i)
+                                .email(UUID.randomUUID() + "@bitsa.test")
+                                .password("x")
+                                .role(studentRole)
+                                .build())
+                        .toList())
+                .stream().map(User::getEmail).toList();
+    }
+
+    /**
+     * A client whose connection stopped reading: every write blocks until released
+     */
+    private static class BlockingEmitter extends SseEmitter {
+        private final CountDownLatch writing = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            writing.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            throw new IOException("Client disconnected");
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+            super.complete();
+        }
+    }
+
+    /**
+     * Captures the payload of every event instead of writing to a response
+     */
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<Object> sent = new CopyOnWriteArrayList<>();
+        private volatile boolean fail;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (fail) {
+                throw new IOException("Client disconnected");
+            }
+            sent.add(builder.build().stream()
+                    .map(ResponseBodyEmitter.DataWithMediaType::getData)
+                    .filter(data -> !(data instanceof String))
+                    .findFirst()
+                    .orElse("heartbeat"));
+        }
+
+        private List<DashboardStreamFrame> frames() {
+            return sent.stream()
+                    .filter(DashboardStreamFrame.class::isInstance)
+                    .map(DashboardStreamFrame.class::cast)
+                    .toList();
+        }
+    }
+}
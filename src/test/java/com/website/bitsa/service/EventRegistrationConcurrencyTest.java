@@ -0,0 +1,193 @@
+package com.website.bitsa.service;
+
+import com.website.bitsa.exception.BadRequestException;
+import com.website.bitsa.model.Event;
+import com.website.bitsa.model.EventType;
+import com.website.bitsa.model.Role;
+import com.website.bitsa.model.User;
+import com.website.bitsa.repository.*;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class EventRegistrationConcurrencyTest {
+
+    private static final int SEATS = 25;
+    private static final int APPLICANTS = 200;
+    private static final int THREADS = 32;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EventRegistrationRepository registrationRepository;
+
+    @Autowired
+    private EventTypeRepository eventTypeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Test
+    void registrationRushNeverOversells() throws Exception {
+        Event event = createEvent(SEATS);
+        List<String> emails = createUsers(APPLICANTS);
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger registered = new AtomicInteger();
+        AtomicInteger rejectedAsFull = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (String email : emails) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                try {
+                    eventService.registerForEvent(event.getId(), email);
+                    registered.incrementAndGet();
+                } catch (BadRequestException ex) {
+                    rejectedAsFull.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        Event reloaded = eventRepository.findById(event.getId()).orElseThrow();
+        assertThat(registered.get()).isEqualTo(SEATS);
+        assertThat(rejectedAsFull.get()).isEqualTo(APPLICANTS - SEATS);
+        assertThat(reloaded.getCurrentAttendees()).isEqualTo(SEATS);
+        assertThat(registrationRepository.countByEventIdAndIsCancelledFalse(event.getId())).isEqualTo(SEATS);
+    }
+
+    @Test
+    void concurrentCancelsReleaseTheSeatOnce() throws Exception {
+        Event event = createEvent(5);
+        String email = createUsers(1).get(0);
+        eventService.registerForEvent(event.getId(), email);
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger cancelled = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                try {
+                    eventService.cancelRegistration(event.getId(), email);
+                    cancelled.incrementAndGet();
+                } catch (BadRequestException ignored) {
+                    // Already cancelled by another request
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        assertThat(cancelled.get()).isEqualTo(1);
+        assertThat(eventRepository.findById(event.getId()).orElseThrow().getCurrentAttendees()).isZero();
+    }
+
+    @Test
+    void cancelledRegistrationCanBeRenewed() {
+        Event event = createEvent(1);
+        String email = createUsers(1).get(0);
+
+        Long firstId = eventService.registerForEvent(event.getId(), email).getId();
+        eventService.cancelRegistration(event.getId(), email);
+        Long secondId = eventService.registerForEvent(event.getId(), email).getId();
+
+        assertThat(secondId).isEqualTo(firstId);
+        assertThat(eventRepository.findById(event.getId()).orElseThrow().getCurrentAttendees()).isEqualTo(1);
+        assertThatThrownBy(() -> eventService.registerForEvent(event.getId(), email))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("already registered");
+    }
+
+    @Test
+    void concurrentRenewalsTakeOneSeat() throws Exception {
+        Event event = createEvent(5);
+        String email = createUsers(1).get(0);
+        eventService.registerForEvent(event.getId(), email);
+        eventService.cancelRegistration(event.getId(), email);
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger renewed = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                try {
+                    eventService.registerForEvent(event.getId(), email);
+                    renewed.incrementAndGet();
+                } catch (BadRequestException ignored) {
+                    // Already renewed by another request
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        assertThat(renewed.get()).isEqualTo(1);
+        assertThat(eventRepository.findById(event.getId()).orElseThrow().getCurrentAttendees()).isEqualTo(1);
+    }
+
+    private Event createEvent(int seats) {
+        User creator = userRepository.findByEmail("admin@bitsa.com").orElseThrow();
+        EventType type = eventTypeRepository.findAll().get(0);
+        return eventRepository.save(Event.builder()
+                .title("Hackathon " + UUID.randomUUID())
+                .description("Registration rush")
+                .dateTime(LocalDateTime.now().plusDays(7))
+                .location("Main Hall")
+                .eventType(type)
+                .creator(creator)
+                .maxAttendees(seats)
+                .isPublished(true)
+                .build());
+    }
+
+    private List<String> createUsers(int count) {
+        Role studentRole = roleRepository.findByName("STUDENT").orElseThrow();
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            users.add(User.builder()
+                    .name("Applicant " + i)
+                    .email(UUID.randomUUID() + "@bitsa.test")
+                    .password("x")
+                    .role(studentRole)
+                    .build());
+        }
+        return userRepository.saveAll(users).stream().map(User::getEmail).toList();
+    }
+}
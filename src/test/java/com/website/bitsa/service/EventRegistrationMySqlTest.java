@@ -0,0 +1,29 @@
+package com.website.bitsa.service;
+
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * The registration concurrency tests against InnoDB. H2 takes no shared lock on the parent row
+ * when a child row is inserted, so lock-order deadlocks (CannotAcquireLockException) only show up here.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class EventRegistrationMySqlTest extends EventRegistrationConcurrencyTest {
+
+    @Container
+    // Same driver settings as the default spring.datasource.url
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0")
+            .withUrlParam("rewriteBatchedStatements", "true");
+
+    @DynamicPropertySource
+    static void mysql(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+        registry.add("spring.datasource.driver-class-name", MYSQL::getDriverClassName);
+        registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.MySQLDialect");
+    }
+}
@@ -0,0 +1,205 @@
+package com.website.bitsa.service;
+
+import com.website.bitsa.dto.request.CreateEventRequest;
+import com.website.bitsa.dto.response.CancelRegistrationsResponse;
+import com.website.bitsa.model.Event;
+import com.website.bitsa.model.EventRegistration;
+import com.website.bitsa.model.Role;
+import com.website.bitsa.model.User;
+import com.website.bitsa.repository.*;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class EventWaitlistTest {
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EventRegistrationRepository registrationRepository;
+
+    @Autowired
+    private EventTypeRepository eventTypeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void fullEventQueuesRegistrationsInOrder() {
+        Event event = createEvent(2);
+        List<String> emails = createUsers(5);
+
+        List<EventRegistration> registrations = new ArrayList<>();
+        for (String email : emails) {
+            registrations.add(eventService.registerForEvent(event.getId(), email));
+        }
+
+        assertThat(registrations).extracting(EventRegistration::getIsWaitlisted)
+                .containsExactly(false, false, true, true, true);
+        assertThat(registrations).extracting(EventRegistration::getWaitlistPosition)
+                .containsExactly(null, null, 1, 2, 3);
+        assertThat(currentAttendees(event)).isEqualTo(2);
+    }
+
+    @Test
+    void cancellingASeatPromotesTheHeadOfTheWaitlist() {
+        Event event = createEvent(2);
+        List<String> emails = createUsers(4);
+        emails.forEach(email -> eventService.registerForEvent(event.getId(), email));
+
+        eventService.cancelRegistration(event.getId(), emails.get(0));
+
+        assertThat(isWaitlisted(event, emails.get(2))).isFalse();
+        assertThat(isWaitlisted(event, emails.get(3))).isTrue();
+        assertThat(currentAttendees(event)).isEqualTo(2);
+
+        // Leaving the waitlist frees no seat
+        eventService.cancelRegistration(event.getId(), emails.get(3));
+        assertThat(currentAttendees(event)).isEqualTo(2);
+
+        // Nobody left waiting: the seat is released
+        eventService.cancelRegistration(event.getId(), emails.get(1));
+        assertThat(currentAttendees(event)).isEqualTo(1);
+    }
+
+    @Test
+    void bulkCancellationPromotesInAFixedNumberOfStatements() {
+        Event event = createEvent(40);
+        List<String> emails = createUsers(50);
+        emails.forEach(email -> eventService.registerForEvent(event.getId(), email));
+
+        List<Long> noShows = registrationRepository
+                .findByEventIdAndIsWaitlistedFalseAndIsCancelledFalseOrderByRegistrationDateAsc(event.getId())
+                .stream().limit(30).map(EventRegistration::getId).toList();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        CancelRegistrationsResponse result = eventService.cancelRegistrations(event.getId(), noShows, "No-show");
+        long statements = statistics.getPrepareStatementCount();
+
+        assertThat(result.getCancelled()).isEqualTo(30);
+        assertThat(result.getPromoted()).isEqualTo(10);
+        assertThat(result.getSeatsReleased()).isEqualTo(20);
+        assertThat(currentAttendees(event)).isEqualTo(20);
+        assertThat(registrationRepository.findByEventIdAndIsWaitlistedTrueOrderByWaitlistPositionAsc(event.getId())
+                .stream().filter(r -> !r.getIsCancelled())).isEmpty();
+        assertThat(statements).isLessThanOrEqualTo(6);
+
+        // Repeating the call cancels nothing and frees nothing
+        CancelRegistrationsResponse again = eventService.cancelRegistrations(event.getId(), noShows, "No-show");
+        assertThat(again.getCancelled()).isZero();
+        assertThat(currentAttendees(event)).isEqualTo(20);
+    }
+
+    @Test
+    void concurrentWaitlistEntriesGetDistinctPositions() throws Exception {
+        Event event = createEvent(5);
+        List<String> emails = createUsers(40);
+
+        ExecutorService pool = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (String email : emails) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                eventService.registerForEvent(event.getId(), email);
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        List<EventRegistration> waitlist =
+                registrationRepository.findByEventIdAndIsWaitlistedTrueOrderByWaitlistPositionAsc(event.getId());
+        assertThat(waitlist).extracting(EventRegistration::getWaitlistPosition)
+                .containsExactlyElementsOf(IntStream.rangeClosed(1, 35).boxed().toList());
+        assertThat(currentAttendees(event)).isEqualTo(5);
+    }
+
+    @Test
+    void raisingCapacityPromotesWaitingRegistrations() {
+        Event event = createEvent(1);
+        List<String> emails = createUsers(4);
+        emails.forEach(email -> eventService.registerForEvent(event.getId(), email));
+
+        CreateEventRequest request = new CreateEventRequest();
+        request.setTitle(event.getTitle());
+        request.setDescription(event.getDescription());
+        request.setDateTime(event.getDateTime());
+        request.setLocation(event.getLocation());
+        request.setEventTypeId(event.getEventType().getId());
+        request.setMaxAttendees(3);
+        request.setWaitlistEnabled(true);
+        request.setIsPublished(true);
+        eventService.updateEvent(event.getId(), request);
+
+        assertThat(currentAttendees(event)).isEqualTo(3);
+        assertThat(isWaitlisted(event, emails.get(1))).isFalse();
+        assertThat(isWaitlisted(event, emails.get(2))).isFalse();
+        assertThat(isWaitlisted(event, emails.get(3))).isTrue();
+    }
+
+    private int currentAttendees(Event event) {
+        return eventRepository.findById(event.getId()).orElseThrow().getCurrentAttendees();
+    }
+
+    private boolean isWaitlisted(Event event, String email) {
+        Long userId = userRepository.findByEmail(email).orElseThrow().getId();
+        return registrationRepository.findByEventIdAndUserId(event.getId(), userId).orElseThrow().getIsWaitlisted();
+    }
+
+    private Event createEvent(int seats) {
+        User creator = userRepository.findByEmail("admin@bitsa.com").orElseThrow();
+        return eventRepository.save(Event.builder()
+                .title("Workshop " + UUID.randomUUID())
+                .description("Popular workshop")
+                .dateTime(LocalDateTime.now().plusDays(7))
+                .location("Lab 3")
+                .eventType(eventTypeRepository.findAll().get(0))
+                .creator(creator)
+                .maxAttendees(seats)
+                .waitlistEnabled(true)
+                .isPublished(true)
+                .build());
+    }
+
+    private List<String> createUsers(int count) {
+        Role studentRole = roleRepository.findByName("STUDENT").orElseThrow();
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            users.add(User.builder()
+                    .name("Student " + i)
+                    .email(UUID.randomUUID() + "@bitsa.test")
+                    .password("x")
+                    .role(studentRole)
+                    .build());
+        }
+        return userRepository.saveAll(users).stream().map(User::getEmail).toList();
+    }
+}
@@ -0,0 +1,219 @@
+package com.website.bitsa.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.website.bitsa.model.User;
+import com.website.bitsa.repository.RoleRepository;
+import com.website.bitsa.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Bearer-token authentication through the full security filter chain.
+ */
+@SpringBootTest
+class JwtAuthenticationTest {
+
+    private static final String PASSWORD = "secret123";
+    private static final String ADMIN_ONLY = "/api/admin/gallery/test";
+    private static final String STREAM = "/api/admin/dashboard/stream";
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private AuthSessionService authSessionService;
+
+    @Value("${jwt.secret}")
+    private String secret;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private MockMvc mockMvc;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void loginIssuesTokensThatAuthorizeWithoutTouchingTheDatabase() throws Exception {
+        JsonNode login = login(createUser("ADMIN"));
+        assertThat(login.path("type").asText()).isEqualTo("Bearer");
+        assertThat(login.path("refreshToken").asText()).isNotBlank();
+        assertThat(login.path("expiresIn").asLong()).isPositive();
+
+        statistics.clear();
+        call(ADMIN_ONLY, login.path("token").asText()).andExpect(status().isOk());
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void roleComesFromTheToken() throws Exception {
+        String token = login(createUser("STUDENT")).path("token").asText();
+
+        call(ADMIN_ONLY, token).andExpect(status().isForbidden());
+    }
+
+    @Test
+    void missingTamperedOrExpiredTokensAreUnauthorized() throws Exception {
+        User admin = createUser("ADMIN");
+        String token = login(admin).path("token").asText();
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+        JwtService expiring = new JwtService(userRepository, secret, -1000, -1000, -1000);
+        String expired = expiring.generateToken(AuthenticatedUser.from(admin), UUID.randomUUID(),
+                JwtService.TokenType.ACCESS);
+
+        mockMvc.perform(get(ADMIN_ONLY)).andExpect(status().isUnauthorized());
+        call(ADMIN_ONLY, tampered).andExpect(status().isUnauthorized());
+        call(ADMIN_ONLY, expired).andExpect(status().isUnauthorized());
+        // A refresh token is not an access token
+        call(ADMIN_ONLY, login(admin).path("refreshToken").asText()).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void refreshRotatesTheRefreshToken() throws Exception {
+        String refreshToken = login(createUser("ADMIN")).path("refreshToken").asText();
+
+        JsonNode refreshed = refresh(refreshToken).andExpect(status().isOk()).andReturn().getResponse()
+                .getContentAsString().transform(this::readJson);
+        call(ADMIN_ONLY, refreshed.path("token").asText()).andExpect(status().isOk());
+
+        refresh(refreshToken).andExpect(status().isUnauthorized());
+        refresh(refreshed.path("refreshToken").asText()).andExpect(status().isOk());
+    }
+
+    @Test
+    void logoutRevokesTheWholeLogin() throws Exception {
+        JsonNode login = login(createUser("ADMIN"));
+        String token = login.path("token").asText();
+
+        mockMvc.perform(post("/api/auth/logout").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk());
+
+        call(ADMIN_ONLY, token).andExpect(status().isUnauthorized());
+        refresh(login.path("refreshToken").asText()).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void refreshTokensAreCheckedAgainstTheSharedSession() throws Exception {
+        String refreshToken = login(createUser("ADMIN")).path("refreshToken").asText();
+        JwtService.TokenClaims claims = jwtService.parse(refreshToken, JwtService.TokenType.REFRESH).orElseThrow();
+
+        // Logout on another node: this node's revocation list never hears of it
+        authSessionService.end(claims.sessionId());
+
+        refresh(refreshToken).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void deactivationRevokesOutstandingTokens() throws Exception {
+        User admin = createUser("ADMIN");
+        JsonNode login = login(admin);
+
+        userService.deactivateUser(admin.getId());
+
+        call(ADMIN_ONLY, login.path("token").asText()).andExpect(status().isUnauthorized());
+        refresh(login.path("refreshToken").asText()).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void streamTokenOpensTheDashboardStreamWithoutTheHeader() throws Exception {
+        String accessToken = login(createUser("ADMIN")).path("token").asText();
+        JsonNode issued = readJson(mockMvc.perform(post("/api/admin/dashboard/stream-token")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+        String streamToken = issued.path("data").path("token").asText();
+        assertThat(issued.path("data").path("expiresIn").asLong()).isEqualTo(60);
+
+        mockMvc.perform(get(STREAM).param("token", streamToken))
+                .andExpect(status().isOk())
+                .andExpect(request().asyncStarted());
+
+        // Only the stream takes it, and only as a query parameter; access tokens never go in the URL
+        mockMvc.perform(get(ADMIN_ONLY).param("token", streamToken)).andExpect(status().isUnauthorized());
+        call(STREAM, streamToken).andExpect(status().isUnauthorized());
+        mockMvc.perform(get(STREAM).param("token", accessToken)).andExpect(status().isUnauthorized());
+
+        // Same login session: logout revokes it too
+        mockMvc.perform(post("/api/auth/logout").header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken))
+                .andExpect(status().isOk());
+        mockMvc.perform(get(STREAM).param("token", streamToken)).andExpect(status().isUnauthorized());
+    }
+
+    private User createUser(String role) {
+        return userRepository.save(User.builder()
+                .name("Token " + role)
+                .email(UUID.randomUUID() + "@bitsa.test")
+                .password(passwordEncoder.encode(PASSWORD))
+                .role(roleRepository.findByName(role).orElseThrow())
+                .build());
+    }
+
+    private JsonNode login(User user) throws Exception {
+        String body = "{\"email\":\"" + user.getEmail() + "\",\"password\":\"" + PASSWORD + "\"}";
+        return readJson(mockMvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+    }
+
+    private ResultActions refresh(String refreshToken) throws Exception {
+        return mockMvc.perform(post("/api/auth/refresh").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"refreshToken\":\"" + refreshToken + "\"}"));
+    }
+
+    private ResultActions call(String path, String token) throws Exception {
+        return mockMvc.perform(get(path).header(HttpHeaders.AUTHORIZATION, "Bearer " + token));
+    }
+
+    private JsonNode readJson(String json) {
+        try {
+            return objectMapper.readTree(json);
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.website.bitsa.service;
+
+import com.website.bitsa.config.CacheConfig;
+import com.website.bitsa.dto.response.CursorPage;
+import com.website.bitsa.dto.response.EventResponse;
+import com.website.bitsa.dto.response.PostSummaryResponse;
+import com.website.bitsa.model.*;
+import com.website.bitsa.repository.*;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * List endpoints must cost a constant number of SQL statements,
+ * no matter how many rows (and distinct authors/categories/types) they return.
+ */
+@SpringBootTest
+class ListQueryCountTest {
+
+    private static final int ROWS = 12;
+
+    @Autowired
+    private BlogService blogService;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EventTypeRepository eventTypeRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Role adminRole = roleRepository.findByName("ADMIN").orElseThrow();
+        Role studentRole = roleRepository.findByName("STUDENT").orElseThrow();
+        List<Category> categories = categoryRepository.findAll();
+        List<EventType> eventTypes = eventTypeRepository.findAll();
+
+        for (int i = 0; i < ROWS; i++) {
+            User author = userRepository.save(User.builder()
+                    .name("Author " + i)
+                    .email(UUID.randomUUID() + "@bitsa.test")
+                    .password("x")
+                    .role(i % 2 == 0 ? adminRole : studentRole)
+                    .build());
+
+            postRepository.save(Post.builder()
+                    .title("Post " + i)
+                    .content("Some content for post " + i)
+                    .author(author)
+                    .category(categories.get(i % categories.size()))
+                    .isPublished(true)
+                    .build());
+
+            eventRepository.save(Event.builder()
+                    .title("Event " + i)
+                    .description("Description " + i)
+                    .dateTime(LocalDateTime.now().plusDays(i + 1))
+                    .location("Lab " + i)
+                    .eventType(eventTypes.get(i % eventTypes.size()))
+                    .creator(author)
+                    .isPublished(true)
+                    .build());
+        }
+    }
+
+    @Test
+    void publishedPostPagesUseOneStatementEach() {
+        statistics.clear();
+        CursorPage<PostSummaryResponse> first = blogService.getPublishedPosts(null, 5);
+        assertThat(first.getItems()).hasSize(5);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        statistics.clear();
+        CursorPage<PostSummaryResponse> second = blogService.getPublishedPosts(first.getNextCursor(), 5);
+        assertThat(second.getItems()).hasSize(5);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void featuredAndCategoryPostListsUseOneStatement() {
+        cacheManager.getCache(CacheConfig.FEATURED_POSTS).clear();
+        statistics.clear();
+        blogService.getFeaturedPosts();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        Long categoryId = categoryRepository.findAll().get(0).getId();
+        statistics.clear();
+        assertThat(blogService.getPostsByCategory(categoryId)).isNotEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void upcomingEventPagesUseOneStatementEach() {
+        statistics.clear();
+        CursorPage<EventResponse> first = eventService.getUpcomingEvents(null, 5);
+        assertThat(first.getItems()).hasSize(5);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        statistics.clear();
+        CursorPage<EventResponse> second = eventService.getUpcomingEvents(first.getNextCursor(), 5);
+        assertThat(second.getItems()).hasSize(5);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void adminEventListUsesOneStatement() {
+        statistics.clear();
+        assertThat(eventService.getAllEventsAdmin()).hasSizeGreaterThanOrEqualTo(ROWS);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,106 @@
+package com.website.bitsa.service;
+
+import com.website.bitsa.dto.request.ContactRequest;
+import com.website.bitsa.dto.request.CreateCommentRequest;
+import com.website.bitsa.dto.request.CreatePostRequest;
+import com.website.bitsa.repository.CategoryRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Meters published on the management port's /actuator/prometheus endpoint.
+ */
+@SpringBootTest
+class MetricsExportTest {
+
+    @Autowired
+    private ContactService contactService;
+
+    @Autowired
+    private BlogService blogService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private PrometheusMeterRegistry prometheusMeterRegistry;
+
+    @Test
+    void businessCountersCountCommittedWrites() {
+        double contacts = counter("bitsa.contact.submissions");
+        double comments = counter("bitsa.comments.submitted");
+
+        ContactRequest contact = new ContactRequest();
+        contact.setName("Visitor");
+        contact.setEmail("visitor@bitsa.test");
+        contact.setSubject("Hello");
+        contact.setMessage("Just saying hi");
+        contactService.submitContactMessage(contact);
+
+        CreatePostRequest post = new CreatePostRequest();
+        post.setTitle("Metrics post " + UUID.randomUUID());
+        post.setContent("Body");
+        post.setCategoryId(categoryRepository.findAll().get(0).getId());
+        post.setIsPublished(true);
+        Long postId = blogService.createPost(post, "admin@bitsa.com").getId();
+
+        CreateCommentRequest comment = new CreateCommentRequest();
+        comment.setCommentText("Nice post");
+        blogService.addComment(postId, comment, "admin@bitsa.com");
+
+        assertThat(counter("bitsa.contact.submissions")).isEqualTo(contacts + 1);
+        assertThat(counter("bitsa.comments.submitted")).isEqualTo(comments + 1);
+    }
+
+    @Test
+    void scrapeIncludesRepositoryHibernateAndPoolMeters() {
+        categoryRepository.findAll();
+
+        String scrape = prometheusMeterRegistry.scrape();
+
+        assertThat(scrape)
+                .contains("spring_data_repository_invocations_seconds_bucket")
+                .contains("repository=\"CategoryRepository\"")
+                .contains("hibernate_statements_total")
+                .contains("hikaricp_connections_active")
+                .contains("bitsa_events_registrations_total{")
+                .contains("application=\"bitsa\"");
+    }
+
+    @Test
+    void slowQueryLogIsSampled() {
+        double logged = slowQueries("true");
+        double suppressed = slowQueries("false");
+
+        Logger slowLog = LoggerFactory.getLogger("org.hibernate.SQL_SLOW");
+        for (int i = 0; i < 25; i++) {
+            slowLog.info("Slow query took {} milliseconds [select 1]", 500);
+        }
+
+        double newlyLogged = slowQueries("true") - logged;
+        double newlySuppressed = slowQueries("false") - suppressed;
+        assertThat(newlyLogged + newlySuppressed).isEqualTo(25);
+        assertThat(newlyLogged).isLessThanOrEqualTo(20);
+        assertThat(newlySuppressed).isGreaterThanOrEqualTo(5);
+    }
+
+    private double counter(String name) {
+        return meterRegistry.get(name).counter().count();
+    }
+
+    private double slowQueries(String logged) {
+        return meterRegistry.get("bitsa.db.slow_queries").tag("logged", logged).counter().count();
+    }
+}
@@ -0,0 +1,166 @@
+package com.website.bitsa.service;
+
+import com.website.bitsa.dto.request.CreatePostRequest;
+import com.website.bitsa.dto.response.PostResponse;
+import com.website.bitsa.dto.response.PostSearchHit;
+import com.website.bitsa.dto.response.PostSearchResponse;
+import com.website.bitsa.model.Category;
+import com.website.bitsa.repository.CategoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+class PostSearchServiceTest {
+
+    private static final String AUTHOR = "admin@bitsa.com";
+
+    @Autowired
+    private BlogService blogService;
+
+    @Autowired
+    private PostSearchService postSearchService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private List<Category> categories;
+
+    // Unique word per test so results never mix with other tests' posts
+    private String marker;
+
+    @BeforeEach
+    void setUp() {
+        categories = categoryRepository.findAll();
+        marker = "zq" + UUID.randomUUID().toString().replace("-", "").substring(0, 10);
+    }
+
+    @Test
+    void titleMatchesRankAboveContentMatches() {
+        PostResponse inContent = createPost("Weekly notes " + marker + "a",
+                "We talked about " + marker + " kubernetes clusters at length.", "devops", 0, true);
+        PostResponse inTitle = createPost("Kubernetes for beginners " + marker + "b",
+                "An introduction with " + marker + " examples.", "devops", 0, true);
+
+        PostSearchResponse response = postSearchService.search(marker + " kubernetes", null, null, 0, 10);
+
+        assertThat(response.getResults()).extracting(PostSearchHit::getId)
+                .containsExactly(inTitle.getId(), inContent.getId());
+        assertThat(response.getTotalHits()).isEqualTo(2);
+    }
+
+    @Test
+    void prefixMatchesAndSnippetIsHighlighted() {
+        PostResponse post = createPost("Spring tips " + marker,
+                "<p>Dependency injection is the heart of " + marker + " applications.</p>", "java", 0, true);
+
+        PostSearchResponse response = postSearchService.search(marker + " dependen", null, null, 0, 10);
+
+        assertThat(response.getResults()).hasSize(1);
+        PostSearchHit hit = response.getResults().get(0);
+        assertThat(hit.getId()).isEqualTo(post.getId());
+        assertThat(hit.getSnippet()).contains("<mark>Dependency</mark>").doesNotContain("<p>");
+        assertThat(hit.getAuthorName()).isEqualTo("BITSA Admin");
+    }
+
+    @Test
+    void tagAndCategoryFiltersNarrowResults() {
+        PostResponse javaPost = createPost("Streams " + marker, marker + " streams guide", "Java, Backend", 0, true);
+        createPost("Hooks " + marker, marker + " hooks guide", "React", 1, true);
+
+        PostSearchResponse byTag = postSearchService.search(marker, "java", null, 0, 10);
+        assertThat(byTag.getResults()).extracting(PostSearchHit::getId).containsExactly(javaPost.getId());
+
+        PostSearchResponse byCategory = postSearchService.search(marker, null, categories.get(1).getId(), 0, 10);
+        assertThat(byCategory.getResults()).extracting(PostSearchHit::getTitle).containsExactly("Hooks " + marker);
+    }
+
+    @Test
+    void resultsArePaged() {
+        for (int i = 0; i < 5; i++) {
+            createPost("Paged post " + i + " " + marker, marker + " body " + i, null, 0, true);
+        }
+
+        PostSearchResponse first = postSearchService.search(marker, null, null, 0, 2);
+        PostSearchResponse last = postSearchService.search(marker, null, null, 2, 2);
+
+        assertThat(first.getResults()).hasSize(2);
+        assertThat(first.getHasMore()).isTrue();
+        assertThat(last.getResults()).hasSize(1);
+        assertThat(last.getHasMore()).isFalse();
+        assertThat(last.getTotalHits()).isEqualTo(5);
+
+        PostSearchResponse beyond = postSearchService.search(marker, null, null, Integer.MAX_VALUE, 50);
+        assertThat(beyond.getResults()).isEmpty();
+        assertThat(beyond.getHasMore()).isFalse();
+        assertThat(beyond.getTotalHits()).isEqualTo(5);
+    }
+
+    @Test
+    void unpublishedAndDeletedPostsLeaveTheIndex() {
+        PostResponse draft = createPost("Draft " + marker, marker + " draft body", null, 0, false);
+        PostResponse toggled = createPost("Toggled " + marker, marker + " toggled body", null, 0, true);
+        PostResponse deleted = createPost("Deleted " + marker, marker + " deleted body", null, 0, true);
+
+        blogService.togglePublish(toggled.getId());
+        blogService.deletePost(deleted.getId());
+
+        assertThat(postSearchService.search(marker, null, null, 0, 10).getTotalHits()).isZero();
+        assertThat(draft.getIsPublished()).isFalse();
+    }
+
+    @Test
+    void hitsShowTheSameExcerptAsThePostLists() {
+        // No excerpt of its own: the lists show one taken from the content
+        PostResponse post = createPost("Excerpted " + marker, marker + " opening paragraph of the post.", null, 0, true);
+        assertThat(post.getExcerpt()).isNotBlank();
+
+        assertThat(postSearchService.search(marker, null, null, 0, 10).getResults())
+                .extracting(PostSearchHit::getExcerpt).containsExactly(post.getExcerpt());
+    }
+
+    @Test
+    void hitsShowTheCurrentCategoryName() {
+        PostResponse post = createPost("Renamed " + marker, marker + " body", null, 1, true);
+        Category category = categoryRepository.findById(categories.get(1).getId()).orElseThrow();
+        String originalName = category.getName();
+        try {
+            category.setName("Renamed " + marker);
+            categoryRepository.save(category);
+
+            assertThat(postSearchService.search(marker, null, null, 0, 10).getResults())
+                    .extracting(PostSearchHit::getId, PostSearchHit::getCategoryName, PostSearchHit::getAuthorName)
+                    .containsExactly(tuple(post.getId(), "Renamed " + marker, post.getAuthorName()));
+        } finally {
+            category.setName(originalName);
+            categoryRepository.save(category);
+        }
+    }
+
+    @Test
+    void reconcileKeepsIndexInSyncWithDatabase() {
+        PostResponse post = createPost("Reconciled " + marker, marker + " body", null, 0, true);
+
+        postSearchService.reconcileIndex();
+
+        assertThat(postSearchService.search(marker, null, null, 0, 10).getResults())
+                .extracting(PostSearchHit::getId).containsExactly(post.getId());
+    }
+
+    private PostResponse createPost(String title, String content, String tags, int categoryIndex, boolean published) {
+        CreatePostRequest request = new CreatePostRequest();
+        request.setTitle(title);
+        request.setContent(content);
+        request.setTags(tags);
+        request.setCategoryId(categories.get(categoryIndex).getId());
+        request.setIsPublished(published);
+        return blogService.createPost(request, AUTHOR);
+    }
+}
@@ -0,0 +1,187 @@
+package com.website.bitsa.service;
+
+import com.website.bitsa.config.QueryBudgetFilter;
+import com.website.bitsa.config.StatementCounter;
+import com.website.bitsa.exception.QueryBudgetExceededException;
+import com.website.bitsa.model.*;
+import com.website.bitsa.repository.*;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Endpoints that used to lazy-load one user/event per row, checked through the full HTTP stack.
+ * The test profile fails any request over db.query-budget.max-statements.
+ */
+@SpringBootTest
+class QueryBudgetTest {
+
+    private static final int ROWS = 10;
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private QueryBudgetFilter queryBudgetFilter;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EventTypeRepository eventTypeRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private MockMvc mockMvc;
+    private Statistics statistics;
+    private Post post;
+    private List<User> students;
+
+    @BeforeEach
+    void setUp() {
+        // Built by hand rather than @AutoConfigureMockMvc so the test shares the cached context
+        mockMvc = MockMvcBuilders.webAppContextSetup(context)
+                .addFilters(queryBudgetFilter)
+                .apply(springSecurity())
+                .build();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Role studentRole = roleRepository.findByName("STUDENT").orElseThrow();
+        User admin = userRepository.findByEmail("admin@bitsa.com").orElseThrow();
+        students = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            students.add(userRepository.save(User.builder()
+                    .name("Commenter " + i)
+                    .email(UUID.randomUUID() + "@bitsa.test")
+                    .password("x")
+                    .role(studentRole)
+                    .build()));
+        }
+
+        post = postRepository.save(Post.builder()
+                .title("Budget post " + UUID.randomUUID())
+                .content("Body")
+                .author(admin)
+                .category(categoryRepository.findAll().get(0))
+                .isPublished(true)
+                .build());
+        for (User student : students) {
+            commentRepository.save(Comment.builder()
+                    .commentText("Comment by " + student.getName())
+                    .post(post)
+                    .user(student)
+                    .isApproved(true)
+                    .build());
+        }
+    }
+
+    @Test
+    void postCommentsLoadAuthorsInTheSameStatement() throws Exception {
+        statistics.clear();
+        mockMvc.perform(get("/api/blog/posts/{postId}/comments", post.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(ROWS));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(meterRegistry.get("bitsa.db.statements")
+                .tag("uri", "/api/blog/posts/{postId}/comments").summary().max()).isEqualTo(1);
+    }
+
+    @Test
+    void myRegistrationsLoadEventsInTheSameStatement() throws Exception {
+        User student = students.get(0);
+        EventType type = eventTypeRepository.findAll().get(0);
+        for (int i = 0; i < ROWS; i++) {
+            Event event = eventRepository.save(Event.builder()
+                    .title("Budget event " + i)
+                    .description("Description")
+                    .dateTime(LocalDateTime.now().plusDays(i + 1))
+                    .location("Lab")
+                    .eventType(type)
+                    .creator(student)
+                    .isPublished(true)
+                    .build());
+            eventService.registerForEvent(event.getId(), student.getEmail());
+        }
+
+        statistics.clear();
+        mockMvc.perform(get("/api/events/my-registrations").with(user(student.getEmail())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(ROWS));
+
+        // User lookup + registrations with their events
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void repeatedStatementsAreGroupedByShape() {
+        try (StatementCounter.Scope scope = StatementCounter.begin()) {
+            students.forEach(student -> userRepository.findById(student.getId()));
+
+            assertThat(scope.getStatements()).isEqualTo(ROWS);
+            Map.Entry<String, Integer> repeated = scope.mostRepeated().orElseThrow();
+            assertThat(repeated.getValue()).isEqualTo(ROWS);
+            assertThat(repeated.getKey()).startsWith("select").contains("where u1_0.id=?");
+        }
+    }
+
+    @Test
+    void requestOverBudgetFails() {
+        QueryBudgetFilter filter = new QueryBudgetFilter(meterRegistry, 3, true);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users");
+
+        assertThatThrownBy(() -> filter.doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> students.forEach(student -> userRepository.findById(student.getId()))))
+                .isInstanceOf(QueryBudgetExceededException.class)
+                .hasMessageContaining("GET UNKNOWN ran 10 SQL statements (budget 3)")
+                .hasMessageContaining("most repeated 10x: select");
+        assertThat(meterRegistry.get("bitsa.db.query_budget.exceeded").tag("uri", "UNKNOWN")
+                .counter().count()).isGreaterThanOrEqualTo(1);
+    }
+}
@@ -0,0 +1,146 @@
+package com.website.bitsa.service;
+
+import com.website.bitsa.config.RateLimitFilter;
+import com.website.bitsa.model.User;
+import com.website.bitsa.repository.RoleRepository;
+import com.website.bitsa.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Rate limits as configured in application.properties (contact: 5/10m per IP, login: 5 failures/1m per account).
+ * Every test uses its own client IPs and accounts, since buckets outlive a test method.
+ */
+@SpringBootTest
+class RateLimitTest {
+
+    private static final String PASSWORD = "secret123";
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private RateLimitFilter rateLimitFilter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context)
+                .apply(springSecurity())
+                .addFilters(rateLimitFilter)
+                .build();
+    }
+
+    @Test
+    void contactFormIsLimitedPerIp() throws Exception {
+        String ip = randomIp();
+        double rejectedBefore = rejected("contact", "ip");
+
+        for (int i = 0; i < 5; i++) {
+            contact(ip).andExpect(status().isAccepted());
+        }
+        contact(ip).andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "120"));
+
+        contact(randomIp()).andExpect(status().isAccepted());
+        assertThat(rejected("contact", "ip")).isEqualTo(rejectedBefore + 1);
+    }
+
+    @Test
+    void loginIsLimitedPerAccountAcrossIps() throws Exception {
+        String email = UUID.randomUUID() + "@bitsa.test";
+
+        for (int i = 0; i < 5; i++) {
+            login(email, randomIp()).andExpect(result ->
+                    assertThat(result.getResponse().getStatus()).isNotEqualTo(429));
+        }
+        login(email, randomIp()).andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+        login(email.toUpperCase(), randomIp()).andExpect(status().isTooManyRequests());
+    }
+
+    @Test
+    void successfulLoginsDoNotUseUpTheAccountLimit() throws Exception {
+        User user = userRepository.save(User.builder()
+                .name("Rate Test")
+                .email(UUID.randomUUID() + "@bitsa.test")
+                .password(passwordEncoder.encode(PASSWORD))
+                .role(roleRepository.findByName("STUDENT").orElseThrow())
+                .build());
+
+        for (int i = 0; i < 8; i++) {
+            login(user.getEmail(), PASSWORD, randomIp()).andExpect(status().isOk());
+        }
+        for (int i = 0; i < 5; i++) {
+            login(user.getEmail(), randomIp()).andExpect(result ->
+                    assertThat(result.getResponse().getStatus()).isNotIn(200, 429));
+        }
+        // Locked by the failures, even for the right password
+        login(user.getEmail(), PASSWORD, randomIp()).andExpect(status().isTooManyRequests());
+    }
+
+    private ResultActions contact(String ip) throws Exception {
+        return mockMvc.perform(post("/api/contact")
+                .with(request -> {
+                    request.setRemoteAddr(ip);
+                    return request;
+                })
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Rate Test\",\"email\":\"rate@bitsa.test\",\"message\":\"Hello from the rate limit test\"}"));
+    }
+
+    private ResultActions login(String email, String ip) throws Exception {
+        return login(email, "wrong-password", ip);
+    }
+
+    private ResultActions login(String email, String password, String ip) throws Exception {
+        return mockMvc.perform(post("/api/auth/login")
+                .with(request -> {
+                    request.setRemoteAddr(ip);
+                    return request;
+                })
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"" + email + "\",\"password\":\"" + password + "\"}"));
+    }
+
+    private double rejected(String route, String scope) {
+        return meterRegistry.get("bitsa.ratelimit.rejected").tag("route", route).tag("scope", scope).counter().count();
+    }
+
+    private static String randomIp() {
+        UUID random = UUID.randomUUID();
+        return "10." + (random.hashCode() & 0xff) + "." + ((random.hashCode() >> 8) & 0xff) + "."
+                + ((random.hashCode() >> 16) & 0xff);
+    }
+}
@@ -0,0 +1,84 @@
+package com.website.bitsa.service;
+
+import com.website.bitsa.model.Category;
+import com.website.bitsa.repository.CategoryRepository;
+import com.website.bitsa.repository.EventTypeRepository;
+import com.website.bitsa.repository.RoleRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Statements per lookup with Role, Category and EventType served from the second-level cache.
+ */
+@SpringBootTest
+class SecondLevelCacheTest {
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EventTypeRepository eventTypeRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void authenticationLoadsOnlyTheUserRow() {
+        jwtService.loadUserByUsername("admin@bitsa.com");
+
+        // Without the cache the eager role costs a second SELECT
+        statistics.clear();
+        jwtService.loadUserByUsername("admin@bitsa.com");
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getSecondLevelCacheHitCount()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    void referenceLookupsIssueNoStatementsOnceWarm() {
+        Long eventTypeId = eventTypeRepository.findAll().get(0).getId();
+        eventTypeRepository.findById(eventTypeId);
+        roleRepository.findByName("STUDENT");
+        categoryRepository.findByIsActiveTrueOrderByDisplayOrderAsc();
+
+        statistics.clear();
+        eventTypeRepository.findById(eventTypeId);
+        roleRepository.findByName("STUDENT");
+        categoryRepository.findByIsActiveTrueOrderByDisplayOrderAsc();
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(2);
+    }
+
+    @Test
+    void cachedEntitiesSeeWrites() {
+        Category category = categoryRepository.findAll().get(0);
+        categoryRepository.findById(category.getId());
+
+        category.incrementPostCount();
+        categoryRepository.save(category);
+
+        assertThat(categoryRepository.findById(category.getId()).orElseThrow().getPostCount())
+                .isEqualTo(category.getPostCount());
+    }
+}
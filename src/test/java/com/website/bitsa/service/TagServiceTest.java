@@ -0,0 +1,174 @@
+package com.website.bitsa.service;
+
+import com.website.bitsa.dto.request.CreatePostRequest;
+import com.website.bitsa.dto.response.CursorPage;
+import com.website.bitsa.dto.response.PostResponse;
+import com.website.bitsa.dto.response.PostSummaryResponse;
+import com.website.bitsa.dto.response.TagCountResponse;
+import com.website.bitsa.exception.BadRequestException;
+import com.website.bitsa.model.Category;
+import com.website.bitsa.repository.CategoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class TagServiceTest {
+
+    private static final String AUTHOR = "admin@bitsa.com";
+
+    @Autowired
+    private BlogService blogService;
+
+    @Autowired
+    private TagService tagService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Category category;
+
+    // Unique tag prefix per test so results never mix with other tests' posts
+    private String marker;
+
+    @BeforeEach
+    void setUp() {
+        category = categoryRepository.findAll().get(0);
+        marker = "t" + UUID.randomUUID().toString().replace("-", "").substring(0, 10);
+    }
+
+    @Test
+    void tagPageMatchesWholeNormalizedTagsOnly() {
+        PostResponse java = createPost("Java post", tag("Java") + " , " + tag("spring"), true);
+        createPost("JavaScript post", tag("javascript"), true);
+        createPost("Java draft", tag("java"), false);
+
+        assertThat(ids(blogService.getPostsByTags(" " + tag("JAVA"), "any", null, null)))
+                .containsExactly(java.getId());
+    }
+
+    @Test
+    void filtersMatchAllOrAnyTagAndPageByCursor() {
+        PostResponse both = createPost("Both", tag("a") + "," + tag("b"), true);
+        PostResponse onlyA = createPost("Only a", tag("a"), true);
+        PostResponse onlyB = createPost("Only b", tag("b") + "," + tag("c"), true);
+        String tags = tag("a") + "," + tag("b");
+
+        assertThat(ids(blogService.getPostsByTags(tags, "all", null, null))).containsExactly(both.getId());
+        assertThat(ids(blogService.getPostsByTags(tags + "," + tag("unknown"), "all", null, null))).isEmpty();
+
+        CursorPage<PostSummaryResponse> first = blogService.getPostsByTags(tags, "any", null, 2);
+        CursorPage<PostSummaryResponse> second = blogService.getPostsByTags(tags, "any", first.getNextCursor(), 2);
+        assertThat(first.getHasMore()).isTrue();
+        assertThat(second.getHasMore()).isFalse();
+        assertThat(ids(first)).hasSize(2);
+        assertThat(concat(ids(first), ids(second)))
+                .containsExactlyInAnyOrder(both.getId(), onlyA.getId(), onlyB.getId());
+
+        assertThatThrownBy(() -> blogService.getPostsByTags(tags, "some", null, null))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void updatesAreReflectedInFiltersAndTagCloud() {
+        PostResponse post = createPost("Retagged", tag("old") + "," + tag("kept"), true);
+        createPost("Draft", tag("kept"), false);
+
+        CreatePostRequest update = request("Retagged", tag("kept") + "," + tag("new"), true);
+        blogService.updatePost(post.getId(), update);
+
+        assertThat(ids(blogService.getPostsByTags(tag("old"), "any", null, null))).isEmpty();
+        assertThat(ids(blogService.getPostsByTags(tag("new"), "any", null, null))).containsExactly(post.getId());
+        assertThat(cloudCount(tag("kept"))).isEqualTo(1);
+        assertThat(cloudCount(tag("old"))).isNull();
+    }
+
+    @Test
+    void backfillIndexesRowsWrittenWithoutTheService() {
+        PostResponse post = createPost("Bulk loaded", null, true);
+        jdbcTemplate.update("UPDATE posts SET tags = ? WHERE id = ?", tag("Legacy") + "," + tag("bulk"), post.getId());
+
+        tagService.backfillTagIndex();
+
+        assertThat(ids(blogService.getPostsByTags(tag("legacy") + "," + tag("bulk"), "all", null, null)))
+                .containsExactly(post.getId());
+    }
+
+    @Test
+    void postsCreatedTogetherShareANewTag() throws Exception {
+        int writers = 6;
+        CyclicBarrier start = new CyclicBarrier(writers);
+        ExecutorService pool = Executors.newFixedThreadPool(writers);
+        try {
+            List<Future<PostResponse>> posts = new ArrayList<>();
+            for (int i = 0; i < writers; i++) {
+                int n = i;
+                posts.add(pool.submit(() -> {
+                    start.await();
+                    return createPost("Race " + n, tag("fresh"), true);
+                }));
+            }
+            for (Future<PostResponse> post : posts) {
+                post.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tags WHERE name = ?", Integer.class,
+                tag("fresh"))).isEqualTo(1);
+        assertThat(ids(blogService.getPostsByTags(tag("fresh"), "any", null, null))).hasSize(writers);
+    }
+
+    private String tag(String name) {
+        return marker + name;
+    }
+
+    private Long cloudCount(String name) {
+        return tagService.getTagCloud().stream()
+                .filter(tag -> tag.getName().equals(name))
+                .map(TagCountResponse::getPostCount)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static List<Long> ids(CursorPage<PostSummaryResponse> page) {
+        return page.getItems().stream().map(PostSummaryResponse::getId).toList();
+    }
+
+    private static List<Long> concat(List<Long> first, List<Long> second) {
+        return Stream.concat(first.stream(), second.stream()).toList();
+    }
+
+    private PostResponse createPost(String title, String tags, boolean published) {
+        return blogService.createPost(request(title, tags, published), AUTHOR);
+    }
+
+    private CreatePostRequest request(String title, String tags, boolean published) {
+        CreatePostRequest request = new CreatePostRequest();
+        request.setTitle(title + " " + marker);
+        request.setContent("Tagged content for " + marker);
+        request.setTags(tags);
+        request.setCategoryId(category.getId());
+        request.setIsPublished(published);
+        return request;
+    }
+}
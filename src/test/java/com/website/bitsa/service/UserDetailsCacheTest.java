@@ -0,0 +1,115 @@
+package com.website.bitsa.service;
+
+import com.website.bitsa.model.Role;
+import com.website.bitsa.model.User;
+import com.website.bitsa.repository.RoleRepository;
+import com.website.bitsa.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.LockedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class UserDetailsCacheTest {
+
+    private static final String PASSWORD = "secret123";
+
+    @Autowired
+    private AuthenticationManager authenticationManager;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private LastLoginRecorder lastLoginRecorder;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Role studentRole = roleRepository.findByName("STUDENT").orElseThrow();
+        user = userRepository.save(User.builder()
+                .name("Cached Student")
+                .email(UUID.randomUUID() + "@bitsa.test")
+                .password(passwordEncoder.encode(PASSWORD))
+                .role(studentRole)
+                .build());
+    }
+
+    @Test
+    void repeatedLoginsSkipTheDatabase() {
+        login(PASSWORD);
+
+        statistics.clear();
+        Authentication second = login(PASSWORD);
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        AuthenticatedUser principal = (AuthenticatedUser) second.getPrincipal();
+        assertThat(principal.getId()).isEqualTo(user.getId());
+        assertThat(principal.getName()).isEqualTo("Cached Student");
+        assertThat(principal.getRoleName()).isEqualTo("STUDENT");
+        // The cache hands out copies: erasing this principal's password must not empty the cached one
+        assertThat(principal.getPassword()).isNull();
+        assertThat(login(PASSWORD).isAuthenticated()).isTrue();
+    }
+
+    @Test
+    void wrongPasswordIsStillRejected() {
+        login(PASSWORD);
+
+        assertThatThrownBy(() -> login("wrong-password")).isInstanceOf(BadCredentialsException.class);
+    }
+
+    @Test
+    void deactivationEvictsTheCachedUser() {
+        login(PASSWORD);
+
+        userService.deactivateUser(user.getId());
+        assertThatThrownBy(() -> login(PASSWORD)).isInstanceOf(LockedException.class);
+
+        userService.activateUser(user.getId());
+        assertThat(login(PASSWORD).isAuthenticated()).isTrue();
+    }
+
+    @Test
+    void lastLoginIsWrittenInBatches() {
+        lastLoginRecorder.record(user.getId());
+        assertThat(userRepository.findById(user.getId()).orElseThrow().getLastLogin()).isNull();
+
+        lastLoginRecorder.flush();
+
+        assertThat(userRepository.findById(user.getId()).orElseThrow().getLastLogin()).isNotNull();
+    }
+
+    private Authentication login(String password) {
+        return authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(user.getEmail(), password));
+    }
+}
@@ -0,0 +1,139 @@
+package com.website.bitsa.service;
+
+import com.website.bitsa.dto.request.CreatePostRequest;
+import com.website.bitsa.dto.response.EventResponse;
+import com.website.bitsa.dto.response.PostResponse;
+import com.website.bitsa.dto.response.PostSummaryResponse;
+import com.website.bitsa.model.Event;
+import com.website.bitsa.model.Gallery;
+import com.website.bitsa.model.Post;
+import com.website.bitsa.repository.CategoryRepository;
+import com.website.bitsa.repository.EventRepository;
+import com.website.bitsa.repository.EventTypeRepository;
+import com.website.bitsa.repository.GalleryRepository;
+import com.website.bitsa.repository.PostRepository;
+import com.website.bitsa.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class ViewCountBufferTest {
+
+    private static final String AUTHOR = "admin@bitsa.com";
+
+    @Autowired
+    private ViewCountBuffer viewCountBuffer;
+
+    @Autowired
+    private BlogService blogService;
+
+    @Autowired
+    private GalleryService galleryService;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EventTypeRepository eventTypeRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private GalleryRepository galleryRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void flushAddsBufferedViewsToTheRow() {
+        PostResponse post = createPost();
+
+        blogService.getPostBySlug(post.getSlug());
+        blogService.getPostBySlug(post.getSlug());
+        PostSummaryResponse listed = blogService.getPostsByCategory(categoryRepository.findAll().get(0).getId())
+                .stream()
+                .filter(summary -> summary.getId().equals(post.getId()))
+                .findFirst().orElseThrow();
+        assertThat(listed.getViewCount()).isEqualTo(2);
+
+        viewCountBuffer.flush();
+
+        assertThat(viewCount("posts", post.getId())).isEqualTo(2);
+        assertThat(viewCountBuffer.currentCount(ViewCountBuffer.Target.POST, post.getId(), 2)).isEqualTo(2);
+    }
+
+    @Test
+    void eventResponsesIncludeBufferedViews() {
+        Event event = eventRepository.save(Event.builder()
+                .title("Viewed event " + UUID.randomUUID())
+                .description("Seen by many")
+                .dateTime(LocalDateTime.now().plusDays(7))
+                .location("Hall B")
+                .eventType(eventTypeRepository.findAll().get(0))
+                .creator(userRepository.findByEmail(AUTHOR).orElseThrow())
+                .isPublished(true)
+                .build());
+
+        eventService.getEventBySlug(event.getSlug());
+        EventResponse shown = eventService.getEventBySlug(event.getSlug());
+
+        assertThat(shown.getViewCount()).isEqualTo(2);
+    }
+
+    @Test
+    void entitySavesDoNotOverwriteFlushedViews() {
+        PostResponse created = createPost();
+        Post stalePost = postRepository.findById(created.getId()).orElseThrow();
+        Gallery staleImage = galleryRepository.save(Gallery.builder()
+                .title("Hackathon " + UUID.randomUUID())
+                .imageUrl("/uploads/hackathon.jpg")
+                .uploadedBy(userRepository.findByEmail(AUTHOR).orElseThrow())
+                .build());
+
+        blogService.getPostBySlug(created.getSlug());
+        galleryService.getImageById(staleImage.getId());
+        Gallery shown = galleryService.getImageById(staleImage.getId());
+        assertThat(shown.getViewCount()).isEqualTo(2);
+        viewCountBuffer.flush();
+
+        // Both instances were loaded before the flush and still carry view_count = 0
+        stalePost.incrementLikeCount();
+        postRepository.save(stalePost);
+        staleImage.setTitle("Hackathon finals");
+        galleryRepository.save(staleImage);
+        galleryRepository.save(shown);
+
+        assertThat(viewCount("posts", created.getId())).isEqualTo(1);
+        assertThat(viewCount("gallery", staleImage.getId())).isEqualTo(2);
+    }
+
+    private int viewCount(String table, Long id) {
+        return jdbcTemplate.queryForObject("SELECT view_count FROM " + table + " WHERE id = ?", Integer.class, id);
+    }
+
+    private PostResponse createPost() {
+        CreatePostRequest request = new CreatePostRequest();
+        request.setTitle("Viewed " + UUID.randomUUID());
+        request.setContent("Content read by many");
+        request.setCategoryId(categoryRepository.findAll().get(0).getId());
+        request.setIsPublished(true);
+        return blogService.createPost(request, AUTHOR);
+    }
+}
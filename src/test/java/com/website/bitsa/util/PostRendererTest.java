@@ -0,0 +1,65 @@
+package com.website.bitsa.util;
+
+import com.website.bitsa.model.Post;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostRendererTest {
+
+    @Test
+    void sanitizesContentAndDerivesMetadata() {
+        Post post = post("<p onclick=\"steal()\">Hello <b>world</b></p><script>alert(1)</script>"
+                + "<a href=\"/events\">events</a>", null);
+
+        assertThat(PostRenderer.render(post)).isTrue();
+
+        assertThat(post.getContentHtml())
+                .contains("<b>world</b>", "href=\"/events\"")
+                .doesNotContain("script", "onclick");
+        assertThat(post.getWordCount()).isEqualTo(3);
+        assertThat(post.getReadingTimeMinutes()).isEqualTo(1);
+        assertThat(post.getRenderedExcerpt()).isEqualTo("Hello world events");
+        assertThat(post.getSlug()).isEqualTo("my-first-post");
+        assertThat(post.getTags()).isEqualTo("Java,spring");
+    }
+
+    @Test
+    void derivedExcerptIsCutAtAWordBoundary() {
+        Post post = post("word ".repeat(600), " ");
+
+        PostRenderer.render(post);
+
+        assertThat(post.getWordCount()).isEqualTo(600);
+        assertThat(post.getReadingTimeMinutes()).isEqualTo(3);
+        assertThat(post.getRenderedExcerpt()).endsWith("word...").hasSizeLessThanOrEqualTo(PostRenderer.EXCERPT_LENGTH + 3);
+    }
+
+    @Test
+    void rendersAgainOnlyWhenContentExcerptOrTagsChange() {
+        Post post = post("<p>Body</p>", "Summary");
+        PostRenderer.render(post);
+
+        post.setViewCount(42);
+        post.setTitle("Renamed");
+        assertThat(PostRenderer.render(post)).isFalse();
+        assertThat(post.getSlug()).isEqualTo("my-first-post");
+
+        post.setTags("java, Spring, kotlin");
+        assertThat(PostRenderer.render(post)).isTrue();
+        assertThat(post.getRenderedExcerpt()).isEqualTo("Summary");
+
+        post.setContent("<p>New body</p>");
+        assertThat(PostRenderer.render(post)).isTrue();
+        assertThat(post.getContentHtml()).isEqualTo("<p>New body</p>");
+    }
+
+    private static Post post(String content, String excerpt) {
+        return Post.builder()
+                .title("My First  Post!")
+                .content(content)
+                .excerpt(excerpt)
+                .tags(" Java, spring,,java ")
+                .build();
+    }
+}